@@ -0,0 +1,70 @@
+package io.github.landonjw.fusions.benchmark;
+
+import com.pixelmonmod.pixelmon.enums.EnumSpecies;
+import io.github.landonjw.fusions.api.CompatibilityIndex;
+import io.github.landonjw.fusions.api.IVFusionKernel;
+
+import java.util.Random;
+
+/**
+ * Lightweight stand-in for a Pokemon, holding only the values the fusion engine reads.
+ * Lets benchmarks run without a server or Pixelmon's storage.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+final class BenchmarkPokemon {
+
+    /** Species of the Pokemon. */
+    final EnumSpecies species;
+    /** Form of the Pokemon. */
+    final int form;
+    /** Key of the Pokemon in the compatibility index. */
+    final int key;
+    /** Times the Pokemon has been fused. */
+    final int fuseCount;
+    /** IVs of the Pokemon. */
+    final int[] ivs;
+
+    private BenchmarkPokemon(EnumSpecies species, int form, int key, int fuseCount, int[] ivs){
+        this.species = species;
+        this.form = form;
+        this.key = key;
+        this.fuseCount = fuseCount;
+        this.ivs = ivs;
+    }
+
+    /**
+     * Creates a party of random Pokemon, standing in for a player's party storage.
+     *
+     * @param random             Random to generate Pokemon with. Use a fixed seed so runs are comparable.
+     * @param compatibilityIndex Index to get keys of Pokemon from.
+     * @param size               Number of Pokemon in the party.
+     * @return Party of random Pokemon.
+     */
+    static BenchmarkPokemon[] randomParty(Random random, CompatibilityIndex compatibilityIndex, int size){
+        EnumSpecies[] allSpecies = EnumSpecies.values();
+        BenchmarkPokemon[] party = new BenchmarkPokemon[size];
+
+        for(int i = 0; i < size; i++){
+            EnumSpecies species = allSpecies[random.nextInt(allSpecies.length)];
+            party[i] = new BenchmarkPokemon(species, -1, compatibilityIndex.getKey(species, -1),
+                    random.nextInt(4), randomIVs(random));
+        }
+        return party;
+    }
+
+    /**
+     * Creates a random set of IVs.
+     *
+     * @param random Random to generate IVs with.
+     * @return Array of random IVs.
+     */
+    static int[] randomIVs(Random random){
+        int[] ivs = new int[IVFusionKernel.NUM_IVS];
+        for(int i = 0; i < ivs.length; i++){
+            ivs[i] = random.nextInt(IVFusionKernel.MAX_IV + 1);
+        }
+        return ivs;
+    }
+}
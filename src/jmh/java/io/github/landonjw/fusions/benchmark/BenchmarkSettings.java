@@ -0,0 +1,97 @@
+package io.github.landonjw.fusions.benchmark;
+
+import com.pixelmonmod.pixelmon.enums.EnumEggGroup;
+import com.pixelmonmod.pixelmon.enums.EnumSpecies;
+import com.pixelmonmod.pixelmon.enums.EnumType;
+import io.github.landonjw.fusions.api.CompatibilityIndex;
+import io.github.landonjw.fusions.configuration.ConfigReport;
+import io.github.landonjw.fusions.configuration.FusionSettings;
+import ninja.leaping.configurate.ConfigurationNode;
+import ninja.leaping.configurate.hocon.HoconConfigurationLoader;
+
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * Loads settings for benchmarks from the default configuration bundled with the plugin.
+ *
+ * Pixelmon's stats registry is only loaded on a running server, so the compatibility index is built from
+ * randomly generated types and egg groups instead. Each species is given one or two of each, like real stats,
+ * so fuse group checks hit and miss at a similar rate.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+final class BenchmarkSettings {
+
+    /** Location of the default configuration file on the classpath. */
+    private static final String DEFAULT_CONFIG = "/assets/fusions/Configuration.conf";
+
+    private BenchmarkSettings(){
+    }
+
+    /**
+     * Loads the root node of the default configuration.
+     *
+     * @return Root node of the default configuration.
+     */
+    static ConfigurationNode loadDefaultNode(){
+        try{
+            return HoconConfigurationLoader.builder()
+                    .setURL(BenchmarkSettings.class.getResource(DEFAULT_CONFIG))
+                    .build()
+                    .load();
+        }
+        catch(IOException e){
+            throw new IllegalStateException("Default configuration could not be loaded.", e);
+        }
+    }
+
+    /**
+     * Compiles settings from a configuration node, with a compatibility index built from synthetic stats.
+     *
+     * @param root Root node of the configuration.
+     * @return Settings for benchmarks.
+     */
+    static FusionSettings compile(ConfigurationNode root){
+        Random random = new Random(0xF05E);
+        long[] typeMasks = randomMasks(random, EnumType.values().length);
+        long[] eggGroupMasks = randomMasks(random, EnumEggGroup.values().length);
+        return FusionSettings.fromNode(root, new ConfigReport(),
+                (speciesRules, fuseGroup) -> CompatibilityIndex.fromMasks(speciesRules, fuseGroup, typeMasks, eggGroupMasks));
+    }
+
+    /**
+     * Creates settings from the default configuration, with costs enabled so cost calculations aren't skipped.
+     *
+     * @param costIncreaseType Cost increase type to use, either Linear or Exponential.
+     * @return Settings for benchmarks.
+     */
+    static FusionSettings create(String costIncreaseType){
+        ConfigurationNode root = loadDefaultNode();
+        ConfigurationNode costs = root.getNode("Fusing-Costs");
+        costs.getNode("Enable-Cost").setValue(true);
+        costs.getNode("Cost-Base").setValue(1000.0);
+        costs.getNode("Cost-Per-Fusion").setValue(250.0);
+        costs.getNode("Cost-Increase-Type").setValue(costIncreaseType);
+        return compile(root);
+    }
+
+    /**
+     * Gives every species one or two random groups, such as types or egg groups.
+     *
+     * @param random     Random to pick groups with.
+     * @param groupCount Number of groups to pick from.
+     * @return Bit mask of groups for each species, indexed by species ordinal.
+     */
+    private static long[] randomMasks(Random random, int groupCount){
+        long[] masks = new long[EnumSpecies.values().length];
+        for(int i = 0; i < masks.length; i++){
+            masks[i] = 1L << random.nextInt(groupCount);
+            if(random.nextBoolean()){
+                masks[i] |= 1L << random.nextInt(groupCount);
+            }
+        }
+        return masks;
+    }
+}
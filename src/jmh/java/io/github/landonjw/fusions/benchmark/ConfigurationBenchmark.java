@@ -0,0 +1,60 @@
+package io.github.landonjw.fusions.benchmark;
+
+import com.pixelmonmod.pixelmon.enums.EnumSpecies;
+import io.github.landonjw.fusions.configuration.FusionSettings;
+import io.github.landonjw.fusions.configuration.SpeciesParser;
+import ninja.leaping.configurate.ConfigurationNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * Benchmarks parsing species banlists, and compiling a full settings snapshot as done on every reload.
+ * The compatibility index is built from synthetic stats, see {@link BenchmarkSettings}.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ConfigurationBenchmark {
+
+    private List<String> banlist;
+    private ConfigurationNode root;
+
+    @Setup(Level.Trial)
+    public void setup(){
+        //Groups, names in mixed case, and an unknown name, like a typical hand written banlist.
+        banlist = new ArrayList<>();
+        banlist.add("Legendaries");
+        banlist.add("Ultrabeasts");
+        EnumSpecies[] allSpecies = EnumSpecies.values();
+        for(int i = 0; i < allSpecies.length; i += 16){
+            banlist.add((i % 32 == 0) ? allSpecies[i].name.toLowerCase() : allSpecies[i].name);
+        }
+        banlist.add("NotAPokemon");
+
+        root = BenchmarkSettings.loadDefaultNode();
+    }
+
+    @Benchmark
+    public EnumSet<EnumSpecies> parseBanlist(){
+        return SpeciesParser.parse(banlist);
+    }
+
+    @Benchmark
+    public FusionSettings compileSettings(){
+        return BenchmarkSettings.compile(root);
+    }
+}
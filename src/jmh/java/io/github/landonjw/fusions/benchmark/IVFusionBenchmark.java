@@ -0,0 +1,96 @@
+package io.github.landonjw.fusions.benchmark;
+
+import io.github.landonjw.fusions.api.IVFusionKernel;
+import io.github.landonjw.fusions.configuration.FusionSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Benchmarks computing fused IVs, equivalent to {@code Fusion.getFusedIVs} and {@code Fusion.getHighestIVIndex}.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class IVFusionBenchmark {
+
+    /** Number of IV sets to cycle through, so a single branch pattern isn't measured. */
+    private static final int SAMPLES = 1024;
+
+    private FusionSettings settings;
+    private BenchmarkPokemon[] pokemon;
+    private BenchmarkPokemon[] sacrifices;
+    private int[] flatSacrificeIVs;
+    private int[] outIVs;
+    private int[] outBatchIVs;
+    private int[] indexBuffer;
+    private int sample;
+
+    @Setup(Level.Trial)
+    public void setup(){
+        settings = BenchmarkSettings.create("Linear");
+        Random random = new Random(0xF05E);
+        pokemon = BenchmarkPokemon.randomParty(random, settings.getCompatibilityIndex(), SAMPLES);
+        sacrifices = BenchmarkPokemon.randomParty(random, settings.getCompatibilityIndex(), SAMPLES);
+
+        //Party of 5 sacrifices, as would be checked against a selected Pokemon in the GUI.
+        flatSacrificeIVs = new int[5 * IVFusionKernel.NUM_IVS];
+        for(int i = 0; i < 5; i++){
+            System.arraycopy(sacrifices[i].ivs, 0, flatSacrificeIVs, i * IVFusionKernel.NUM_IVS, IVFusionKernel.NUM_IVS);
+        }
+
+        outIVs = new int[IVFusionKernel.NUM_IVS];
+        outBatchIVs = new int[flatSacrificeIVs.length];
+        indexBuffer = new int[IVFusionKernel.NUM_IVS];
+    }
+
+    private int next(){
+        sample = (sample + 1) & (SAMPLES - 1);
+        return sample;
+    }
+
+    @Benchmark
+    public int[] fusedIVs(){
+        int i = next();
+        IVFusionKernel.fuseIVs(settings, pokemon[i].ivs, sacrifices[i].ivs, outIVs, indexBuffer);
+        return outIVs;
+    }
+
+    @Benchmark
+    public int[] fusedIVsLegacy(){
+        int i = next();
+        return LegacyIVFusion.getFusedIVs(pokemon[i].ivs, sacrifices[i].ivs, settings.getNumAffectedIVs(),
+                settings.getFusePercent(), settings.getMinIncrease(), settings.getMaxIncrease());
+    }
+
+    @Benchmark
+    public int[] highestIVIndex(){
+        int i = next();
+        IVFusionKernel.selectHighestIVs(pokemon[i].ivs, sacrifices[i].ivs, settings.getNumAffectedIVs(), indexBuffer);
+        return indexBuffer;
+    }
+
+    @Benchmark
+    public List<Integer> highestIVIndexLegacy(){
+        int i = next();
+        return LegacyIVFusion.getHighestIVIndex(pokemon[i].ivs, sacrifices[i].ivs, settings.getNumAffectedIVs());
+    }
+
+    @Benchmark
+    public int[] fusedIVsParty(){
+        IVFusionKernel.fuseIVsBatch(settings, pokemon[next()].ivs, flatSacrificeIVs, 5, outBatchIVs, indexBuffer);
+        return outBatchIVs;
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.landonjw.fusions.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * IV fusion as it was implemented before {@link io.github.landonjw.fusions.api.IVFusionKernel}.
+ * Kept as a baseline so the kernel can be compared against it.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+final class LegacyIVFusion {
+
+    private LegacyIVFusion(){
+    }
+
+    static int[] getFusedIVs(int[] pokemonIVs, int[] sacrificeIVs, int numAffectedIVs, double fusePercent,
+                             int minIncrease, int maxIncrease){
+        //Generate a new IV set and find the highest IVs
+        int[] newIVs = pokemonIVs.clone();
+
+        List<Integer> indexesToAlter = getHighestIVIndex(pokemonIVs, sacrificeIVs, numAffectedIVs);
+
+        //Generate new IVs for fusion
+        for(int index : indexesToAlter){
+            int ivToChange = newIVs[index];
+            int sacrificeIV = sacrificeIVs[index];
+
+            int increase = (int) Math.round((sacrificeIV - ivToChange) * fusePercent);
+
+            if(increase > maxIncrease){
+                increase = maxIncrease;
+            }
+            else if(increase < minIncrease){
+                increase = minIncrease;
+            }
+
+            newIVs[index] = ((ivToChange + increase) <= 31) ? ivToChange + increase : 31;
+        }
+        return newIVs;
+    }
+
+    static List<Integer> getHighestIVIndex(int[] pokemonIVs, int[] ivs, int ivsToGet){
+        List<Integer> indexes = new ArrayList<>();
+
+        for(int i = 0; i < ivsToGet; i++){
+            int highestIVIndex = 0;
+            int highestValue = 0;
+
+            for(int k = 0; k < ivs.length; k++){
+                if(ivs[k] >= highestValue && !indexes.contains(k) && pokemonIVs[k] != 31){
+                    highestValue = ivs[k];
+                    highestIVIndex = k;
+                }
+            }
+            indexes.add(highestIVIndex);
+        }
+
+        return indexes;
+    }
+}
@@ -0,0 +1,54 @@
+package io.github.landonjw.fusions.benchmark;
+
+import io.github.landonjw.fusions.api.IVFusionKernel;
+import io.github.landonjw.fusions.ui.FusionLore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.text.Text;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Benchmarks generating IV lore for items in the fusion GUI.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class LoreBenchmark {
+
+    @Param({"false", "true"})
+    public boolean hideResultIVs;
+
+    private int[] pokemonIVs;
+    private int[] fusedIVs;
+
+    @Setup(Level.Trial)
+    public void setup(){
+        Random random = new Random(0xF05E);
+        pokemonIVs = BenchmarkPokemon.randomIVs(random);
+        fusedIVs = new int[IVFusionKernel.NUM_IVS];
+        IVFusionKernel.fuseIVs(pokemonIVs, BenchmarkPokemon.randomIVs(random), 6, 0.5, 2, 10, fusedIVs, new int[IVFusionKernel.NUM_IVS]);
+    }
+
+    @Benchmark
+    public List<Text> partyLore(){
+        return FusionLore.getIVLore(pokemonIVs);
+    }
+
+    @Benchmark
+    public List<Text> resultLore(){
+        return FusionLore.getIVLore(pokemonIVs, fusedIVs, hideResultIVs);
+    }
+}
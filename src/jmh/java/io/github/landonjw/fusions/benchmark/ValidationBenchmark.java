@@ -0,0 +1,82 @@
+package io.github.landonjw.fusions.benchmark;
+
+import io.github.landonjw.fusions.api.Fusion;
+import io.github.landonjw.fusions.configuration.FusionSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.spongepowered.api.text.Text;
+
+import java.util.Random;
+
+/**
+ * Benchmarks the rules checked by {@code Fusion.validateSlots} and the cost of a fusion.
+ * Checks that need a live player, such as battles and sent out Pokemon, are not included.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ValidationBenchmark {
+
+    /** Number of Pokemon to cycle through. */
+    private static final int SAMPLES = 1024;
+
+    @Param({"Linear", "Exponential"})
+    public String costIncreaseType;
+
+    private FusionSettings settings;
+    private BenchmarkPokemon[] pokemon;
+    private BenchmarkPokemon[] party;
+    private int sample;
+
+    @Setup(Level.Trial)
+    public void setup(){
+        settings = BenchmarkSettings.create(costIncreaseType);
+        Random random = new Random(0xF05E);
+        pokemon = BenchmarkPokemon.randomParty(random, settings.getCompatibilityIndex(), SAMPLES);
+        party = BenchmarkPokemon.randomParty(random, settings.getCompatibilityIndex(), 6);
+    }
+
+    private BenchmarkPokemon next(){
+        sample = (sample + 1) & (SAMPLES - 1);
+        return pokemon[sample];
+    }
+
+    @Benchmark
+    public Text validatePair(){
+        BenchmarkPokemon selected = next();
+        BenchmarkPokemon sacrifice = pokemon[(sample * 31) & (SAMPLES - 1)];
+        return Fusion.validatePair(settings, selected.species, selected.key, selected.fuseCount,
+                sacrifice.species, sacrifice.key, sacrifice.fuseCount);
+    }
+
+    @Benchmark
+    public void validateParty(Blackhole blackhole){
+        //Every pairing in a party, as the GUI does when it shows which Pokemon can be sacrificed.
+        for(BenchmarkPokemon selected : party){
+            for(BenchmarkPokemon sacrifice : party){
+                if(selected != sacrifice){
+                    blackhole.consume(Fusion.validatePair(settings, selected.species, selected.key, selected.fuseCount,
+                            sacrifice.species, sacrifice.key, sacrifice.fuseCount));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public double cost(){
+        BenchmarkPokemon selected = next();
+        return Fusion.getCost(settings, selected.species, selected.fuseCount, pokemon[(sample * 31) & (SAMPLES - 1)].fuseCount);
+    }
+}
@@ -1,13 +1,25 @@
 package io.github.landonjw.fusions;
 
-import com.google.common.reflect.TypeToken;
 import com.google.inject.Inject;
 import com.pixelmonmod.pixelmon.Pixelmon;
 import com.pixelmonmod.pixelmon.enums.EnumSpecies;
+import io.github.landonjw.fusions.admission.FusionAdmission;
+import io.github.landonjw.fusions.admission.TickMonitor;
+import io.github.landonjw.fusions.api.FusionRuleRegistry;
+import io.github.landonjw.fusions.api.SpeciesRules;
+import io.github.landonjw.fusions.audit.AuditLog;
 import io.github.landonjw.fusions.commands.FusionCommand;
+import io.github.landonjw.fusions.commands.HistoryCommand;
+import io.github.landonjw.fusions.commands.StatsCommand;
 import io.github.landonjw.fusions.configuration.ConfigManager;
+import io.github.landonjw.fusions.configuration.FuseGroup;
+import io.github.landonjw.fusions.configuration.FusionSettings;
+import io.github.landonjw.fusions.economy.EconomyBridge;
+import io.github.landonjw.fusions.history.FusionHistory;
+import io.github.landonjw.fusions.metrics.MetricsServer;
 import io.github.landonjw.fusions.placeholders.PlaceholderBridge;
-import ninja.leaping.configurate.objectmapping.ObjectMappingException;
+import io.github.landonjw.fusions.placeholders.PlayerSnapshots;
+import io.github.landonjw.fusions.ui.FusionGUI;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.spongepowered.api.Sponge;
@@ -15,23 +27,25 @@ import org.spongepowered.api.command.args.GenericArguments;
 import org.spongepowered.api.command.spec.CommandSpec;
 import org.spongepowered.api.config.ConfigDir;
 import org.spongepowered.api.event.game.GameReloadEvent;
+import org.spongepowered.api.event.network.ClientConnectionEvent;
 import org.spongepowered.api.event.game.state.GameInitializationEvent;
 import org.spongepowered.api.event.game.state.GamePostInitializationEvent;
 import org.spongepowered.api.event.game.state.GamePreInitializationEvent;
 import org.spongepowered.api.event.game.state.GameStartedServerEvent;
+import org.spongepowered.api.event.game.state.GameStoppingServerEvent;
 import org.spongepowered.api.event.Listener;
 import org.spongepowered.api.plugin.Dependency;
 import org.spongepowered.api.plugin.Plugin;
 import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.scheduler.Task;
 import org.spongepowered.api.service.economy.EconomyService;
 import org.spongepowered.api.text.Text;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /* -----------------------------------------------------------------------------------
  *                                Fusions by landonjw
@@ -52,11 +66,6 @@ import java.util.Optional;
  * ------------------------------------------------------------------------------------
  */
 
-//TODO: Create custom parsing system to do the following:
-    //Add configuration option for different fuse counts per species.
-    //Add configuration option for different costs per species.
-    //Make species always fusable or sacrificeable
-
 @Plugin(id = Fusions.PLUGIN_ID, name = Fusions.PLUGIN_NAME, version = Fusions.PLUGIN_VERSION,
         description = "Allows you to fuse pokemon in Pixelmon Reforged.",
         url = "https://www.github.com/landonjw", authors = {"landonjw"},
@@ -69,7 +78,7 @@ public class Fusions {
 
     public static final String PLUGIN_ID = "fusions";
     public static final String PLUGIN_NAME = "Fusions";
-    public static final String PLUGIN_VERSION = "1.0.4";
+    public static final String PLUGIN_VERSION = "1.1.0";
 
     private static Fusions instance;
     private static PluginContainer container;
@@ -78,21 +87,13 @@ public class Fusions {
     /** Economy service loaded on server, if there is one. */
     private static EconomyService economyService;
 
+    /** Current snapshot of configuration settings. Replaced as a whole whenever the configuration is reloaded. */
+    private static volatile FusionSettings settings;
+
     @Inject
     @ConfigDir(sharedRoot=false)
     private Path dir;
 
-    /** List of species banned from fusing. */
-    private static List<EnumSpecies> bannedFusionSpecies = new ArrayList<>();
-    /** List of species banned from sacrificing.*/
-    private static List<EnumSpecies> bannedSacrificeSpecies = new ArrayList<>();
-    /** List of species to use egg group as fuse group during fusion. */
-    private static List<EnumSpecies> eggGroupOverride = new ArrayList<>();
-    /** List of species to use species as fuse group during fusion. */
-    private static List<EnumSpecies> speciesOverride = new ArrayList<>();
-    /** List of species to use type as fuse group during fusion. */
-    private static List<EnumSpecies> typeOverride = new ArrayList<>();
-
     /** True if TelsaPowered has been loaded, false if it hasn't. */
     private static boolean teslaRegistered;
 
@@ -106,20 +107,40 @@ public class Fusions {
 
     @Listener
     public void init(GameInitializationEvent event){
-        loadBanLists();
-        loadOverrides();
+        settings = FusionSettings.fromNode(ConfigManager.getRootNode());
+        FusionRuleRegistry.compile(settings);
 
         CommandSpec fusion = CommandSpec.builder()
                 .description(Text.of("Sacrifices a pokemon and fuses it's qualities with a Pokemon."))
                 .permission("fusions.commands.fusion")
                 .arguments(
                         GenericArguments.optional(GenericArguments.onlyOne(GenericArguments.integer(Text.of("pokemon")))),
-                        GenericArguments.optional(GenericArguments.onlyOne(GenericArguments.integer(Text.of("sacrifice"))))
+                        GenericArguments.optional(GenericArguments.allOf(GenericArguments.integer(Text.of("sacrifice"))))
                 )
                 .executor(new FusionCommand())
+                .child(CommandSpec.builder()
+                        .description(Text.of("Shows how long fusions and GUI renders take."))
+                        .permission("fusions.commands.stats")
+                        .executor(new StatsCommand())
+                        .build(), "stats")
+                .child(CommandSpec.builder()
+                        .description(Text.of("Shows a player's past fusions."))
+                        .permission("fusions.commands.history")
+                        .arguments(GenericArguments.flags()
+                                .valueFlag(GenericArguments.integer(Text.of("page")), "p", "-page")
+                                .buildWith(GenericArguments.seq(
+                                        GenericArguments.optionalWeak(GenericArguments.user(Text.of("player"))),
+                                        GenericArguments.optional(GenericArguments.string(Text.of("species")))
+                                )))
+                        .executor(new HistoryCommand())
+                        .build(), "history")
                 .build();
 
         Sponge.getCommandManager().register(this, fusion, "fusions", "fusion", "fuse");
+
+        //Removes cooldowns of players that haven't used the command since their cooldown finished.
+        Task.builder().execute(() -> FusionCommand.getCooldowns().purgeExpired())
+                .async().interval(5, TimeUnit.MINUTES).submit(this);
     }
 
     @Listener
@@ -133,6 +154,7 @@ public class Fusions {
         else{
             logger.warn("No economy service found. Any economy features enabled will be disabled.");
         }
+        EconomyBridge.setup(economyService, settings);
 
         if (Sponge.getPluginManager().isLoaded("teslacore")) {
             teslaRegistered = true;
@@ -145,23 +167,69 @@ public class Fusions {
 
     @Listener
     public void onServerStart(GameStartedServerEvent event) {
+        ConfigManager.startWatching(Fusions::applySettings);
+        MetricsServer.configure(settings);
+        AuditLog.start(dir.resolve("audit"), settings);
+        FusionHistory.start(dir, settings);
+        FusionAdmission.start();
+        TickMonitor.start();
         logger.info(PLUGIN_NAME + " " + PLUGIN_VERSION + " successfully launched.");
     }
 
+    @Listener
+    public void onServerStopping(GameStoppingServerEvent event){
+        TickMonitor.stop();
+        //Withdrawals are finished first, so every paid fusion is handed off before queued fusions are applied.
+        EconomyBridge.shutdown();
+        FusionAdmission.stop();
+        ConfigManager.shutdown();
+        MetricsServer.stop();
+        AuditLog.stop();
+        FusionHistory.stop();
+        if(teslaRegistered){
+            FusionGUI.clearItemCache();
+        }
+    }
+
     @Listener
     public void onReload(GameReloadEvent event){
-        ConfigManager.load();
+        //Configuration is read and compiled off the server thread; nothing changes until it's ready.
+        ConfigManager.reloadAsync(true).thenAccept(reloaded -> {
+            if(reloaded != null){
+                applySettings(reloaded);
+            }
+        });
+    }
 
-        bannedFusionSpecies.clear();
-        bannedSacrificeSpecies.clear();
-        loadBanLists();
+    /**
+     * Makes a newly compiled snapshot of settings the current settings. May be called from any thread.
+     * The settings are swapped in on the server thread, along with reconfiguring every service that uses them,
+     * so nothing sees new settings before the services are set up for them.
+     * Everything derived from the settings is prepared before they are swapped in, so any thread that sees
+     * the new settings also sees everything it needs to use them.
+     *
+     * @param reloaded Settings that were just compiled.
+     */
+    private static void applySettings(FusionSettings reloaded){
+        Task.builder().execute(() -> {
+            FusionRuleRegistry.compile(reloaded);
+            settings = reloaded;
+            EconomyBridge.resolveCurrency(reloaded);
+            MetricsServer.configure(reloaded);
+            AuditLog.configure(reloaded);
+            FusionHistory.configure(reloaded);
+            if(teslaRegistered){
+                FusionGUI.clearItemCache();
+            }
 
-        eggGroupOverride.clear();
-        speciesOverride.clear();
-        typeOverride.clear();
-        loadOverrides();
+            logger.info(PLUGIN_NAME + " has been reloaded.");
+        }).submit(instance);
+    }
 
-        logger.info(PLUGIN_NAME + " has been reloaded.");
+    @Listener
+    public void onDisconnect(ClientConnectionEvent.Disconnect event){
+        EconomyBridge.invalidate(event.getTargetEntity().getUniqueId());
+        PlayerSnapshots.invalidate(event.getTargetEntity().getUniqueId());
     }
 
     public static Logger getLogger(){
@@ -185,49 +253,79 @@ public class Fusions {
         return Optional.ofNullable(economyService);
     }
 
+    /**
+     * Gets the current snapshot of configuration settings.
+     * Hold onto the returned snapshot to keep using the same settings across a reload.
+     *
+     * @return Current snapshot of configuration settings.
+     */
+    public static FusionSettings getSettings(){
+        return settings;
+    }
+
+    /**
+     * Gets the current rules for individual species, such as banlists and fuse group overrides.
+     * The returned rules are read-only and never change, so they are safe to query from any thread.
+     *
+     * @return Current rules for individual species.
+     */
+    public static SpeciesRules getSpeciesRules(){
+        return settings.getSpeciesRules();
+    }
+
     /**
      * Gets list of species banned from fusing.
      *
      * @return List of species banned from fusing.
+     * @deprecated Use {@link SpeciesRules#isFusionBanned(EnumSpecies)} from {@link #getSpeciesRules()}.
      */
+    @Deprecated
     public static List<EnumSpecies> getBannedFusionSpecies(){
-        return bannedFusionSpecies;
+        return new ArrayList<>(getSpeciesRules().getBannedFusionSpecies());
     }
 
     /**
      * Gets list of species banned from sacrificing.
      *
      * @return List of species banned from sacrificing.
+     * @deprecated Use {@link SpeciesRules#isSacrificeBanned(EnumSpecies)} from {@link #getSpeciesRules()}.
      */
+    @Deprecated
     public static List<EnumSpecies> getBannedSacrificeSpecies(){
-        return bannedSacrificeSpecies;
+        return new ArrayList<>(getSpeciesRules().getBannedSacrificeSpecies());
     }
 
     /**
      * Gets list of species to use egg group as fuse group during fusion.
      *
      * @return List of species to use egg group as fuse group during fusion.
+     * @deprecated Use {@link SpeciesRules#getGroupOverride(EnumSpecies)} from {@link #getSpeciesRules()}.
      */
+    @Deprecated
     public static List<EnumSpecies> getEggGroupOverride(){
-        return eggGroupOverride;
+        return new ArrayList<>(getSpeciesRules().getGroupOverrides(FuseGroup.EGG_GROUP));
     }
 
     /**
      * Gets list of species to use species as fuse group during fusion.
      *
      * @return List of species to use species as fuse group during fusion.
+     * @deprecated Use {@link SpeciesRules#getGroupOverride(EnumSpecies)} from {@link #getSpeciesRules()}.
      */
+    @Deprecated
     public static List<EnumSpecies> getSpeciesOverride(){
-        return speciesOverride;
+        return new ArrayList<>(getSpeciesRules().getGroupOverrides(FuseGroup.SPECIES));
     }
 
     /**
      * Gets list of species to use type as fuse group during fusion.
      *
      * @return List of species to use type as fuse group during fusion.
+     * @deprecated Use {@link SpeciesRules#getGroupOverride(EnumSpecies)} from {@link #getSpeciesRules()}.
      */
+    @Deprecated
     public static List<EnumSpecies> getTypeOverride(){
-        return typeOverride;
+        return new ArrayList<>(getSpeciesRules().getGroupOverrides(FuseGroup.TYPE));
     }
 
     /**
@@ -238,110 +336,4 @@ public class Fusions {
     public static boolean isTeslaRegistered(){
         return teslaRegistered;
     }
-
-    /**
-     * Sets up species ban list from configuration node values.
-     */
-    private void loadBanLists(){
-        try {
-            //Grab list type & banlist from configuration node for fusion bans.
-            String fusionListType = ConfigManager.getConfigNode("Fusing-Features", "Species-Bans-Fusion", "List-Type").getString("Black");
-            List<String> strFusionSpeciesList = ConfigManager.getConfigNode("Fusing-Features", "Species-Bans-Fusion", "Fusion-Banlist").getList(TypeToken.of(String.class));
-
-            //If config value is whitelist, add all species to banlist & remove any that are parsed. If blacklist, add any that are parsed.
-            if(fusionListType.equalsIgnoreCase("White")){
-                bannedFusionSpecies.addAll(Arrays.asList(EnumSpecies.values()));
-                bannedFusionSpecies.removeAll(parseSpecies(strFusionSpeciesList));
-            }
-            else{
-                bannedFusionSpecies.addAll(parseSpecies(strFusionSpeciesList));
-            }
-
-
-        }
-        catch (ObjectMappingException e){
-            logger.warn("Fusion species banlist could not be loaded.");
-        }
-
-        try{
-            //Grab list type & banlist from configuration node for sacrifice bans.
-            String sacrificeListType = ConfigManager.getConfigNode("Fusing-Features", "Species-Bans-Sacrifice", "List-Type").getString("Black");
-            List<String> strSacrificeSpeciesList = ConfigManager.getConfigNode("Fusing-Features", "Species-Bans-Sacrifice", "Sacrifice-Banlist").getList(TypeToken.of(String.class));
-
-            //If config value is whitelist, add all species to banlist & remove any that are parsed. If blacklist, add any that are parsed.
-            if(sacrificeListType.equalsIgnoreCase("White")){
-                bannedSacrificeSpecies.addAll(Arrays.asList(EnumSpecies.values()));
-                bannedSacrificeSpecies.removeAll(parseSpecies(strSacrificeSpeciesList));
-            }
-            else{
-                bannedSacrificeSpecies.addAll(parseSpecies(strSacrificeSpeciesList));
-            }
-        }
-        catch (ObjectMappingException e){
-            logger.warn("Sacrifice species banlist could not be loaded.");
-        }
-    }
-
-    /**
-     * Loads lists of Pokemon that overrides typical fuse group.
-     */
-    private void loadOverrides(){
-        try{
-            List<String> strSpeciesList = ConfigManager.getConfigNode("Fusing-Features", "Group-Override-Egg-Group").getList(TypeToken.of(String.class));
-            eggGroupOverride.addAll(parseSpecies(strSpeciesList));
-        }
-        catch(ObjectMappingException e){
-            logger.warn("Egg group group override could not be loaded.");
-        }
-
-        try{
-            List<String> strSpeciesList = ConfigManager.getConfigNode("Fusing-Features", "Group-Override-Species").getList(TypeToken.of(String.class));
-            speciesOverride.addAll(parseSpecies(strSpeciesList));
-        }
-        catch(ObjectMappingException e){
-            logger.warn("Species group override could not be loaded.");
-        }
-
-        try{
-            List<String> strSpeciesList = ConfigManager.getConfigNode("Fusing-Features", "Group-Override-Type").getList(TypeToken.of(String.class));
-            typeOverride.addAll(parseSpecies(strSpeciesList));
-        }
-        catch(ObjectMappingException e){
-            logger.warn("Type group override could not be loaded.");
-        }
-    }
-
-    // "why not just use a stream mapping function?" because it'd be a stream, jackass
-    private List<String> parseSpeciesToStrings(Collection<EnumSpecies> speciesList) {
-        ArrayList<String> strSpecies = new ArrayList<>(speciesList.size());
-        for (EnumSpecies species : speciesList) {
-            strSpecies.add(species.getPokemonName());
-        }
-        return strSpecies;
-    }
-
-    /**
-     * Retrieves a list of EnumSpecies from a list of Strings.
-     *
-     * @param strSpeciesList List of String of pokemon species names.
-     * @return List of EnumSpecies.
-     */
-    private List<EnumSpecies> parseSpecies(List<String> strSpeciesList){
-        List<EnumSpecies> speciesList = new ArrayList<>();
-        for(String strSpecies : strSpeciesList){
-            if(strSpecies.equalsIgnoreCase("Legendaries")){
-                speciesList.addAll(parseSpecies(parseSpeciesToStrings(EnumSpecies.legendaries)));
-            }
-            else if(strSpecies.equalsIgnoreCase("Ultrabeasts")){
-                speciesList.addAll(parseSpecies(parseSpeciesToStrings(EnumSpecies.ultrabeasts)));
-            }
-            else{
-                EnumSpecies species = EnumSpecies.getFromNameAnyCase(strSpecies);
-                if(species != null && !speciesList.contains(species)){
-                    speciesList.add(species);
-                }
-            }
-        }
-        return speciesList;
-    }
 }
@@ -0,0 +1,190 @@
+package io.github.landonjw.fusions.admission;
+
+import io.github.landonjw.fusions.Fusions;
+import io.github.landonjw.fusions.configuration.FusionSettings;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.scheduler.Task;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+/**
+ * Limits how much fusion work is done on the server thread in a single tick, no matter how many players are fusing.
+ *
+ * Fusions that are ready to be applied to a party are admitted up to a limit each tick. Any over the limit are queued
+ * and applied first thing on the following ticks, in the order they arrived. GUI previews have their own limit;
+ * a GUI that is out of budget shows its preview on a later tick instead. While {@link TickMonitor} is in
+ * {@link LoadMode#DEFER_COMMITS} or worse, every fusion is queued and only one is applied each tick.
+ *
+ * Work finished on other threads, such as economy withdrawals, is handed back to the server thread through
+ * {@link #runOnServerThread(Runnable, Runnable)}. Unlike a scheduled task, anything handed back before the plugin
+ * stops is guaranteed to run, so a paid fusion is never silently dropped while the server is stopping.
+ *
+ * Every method other than {@link #runOnServerThread(Runnable, Runnable)} and {@link #getQueuedCommits()}
+ * must be called on the server thread.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+public class FusionAdmission {
+
+    /** Fusions waiting to be applied, in the order they arrived. */
+    private static final Queue<Runnable> queuedCommits = new ArrayDeque<>();
+    /** Number of queued fusions, readable from any thread. */
+    private static volatile int queued;
+    /** Work handed to the server thread from other threads. Guarded by itself. */
+    private static final Queue<Runnable> handoffs = new ArrayDeque<>();
+    /** If the plugin has stopped, and handed off work can no longer be run. Guarded by {@link #handoffs}. */
+    private static boolean stopped;
+
+    /** Tick the counts below are for. */
+    private static int tick = -1;
+    /** Fusions applied during the current tick. */
+    private static int commits;
+    /** Previews computed during the current tick. */
+    private static int previews;
+
+    /** Task applying queued fusions every tick. */
+    private static Task drainTask;
+
+    /**
+     * Starts applying queued fusions every tick.
+     */
+    public static void start(){
+        synchronized(handoffs){
+            stopped = false;
+        }
+        if(drainTask == null){
+            drainTask = Task.builder().execute(FusionAdmission::drain).intervalTicks(1).submit(Fusions.getInstance());
+        }
+    }
+
+    /**
+     * Stops applying queued fusions every tick. Runs all work handed off before this was called, then applies
+     * every fusion still queued regardless of the limit, since they may have already been paid for.
+     * Economy transactions should be finished before this is called, so their results are handed off in time.
+     */
+    public static void stop(){
+        if(drainTask != null){
+            drainTask.cancel();
+            drainTask = null;
+        }
+        synchronized(handoffs){
+            stopped = true;
+        }
+        runHandoffs();
+        Runnable commit;
+        while((commit = queuedCommits.poll()) != null){
+            run(commit);
+        }
+        queued = 0;
+    }
+
+    /**
+     * Hands work to the server thread, to be run at the start of the next tick. Safe to call from any thread.
+     *
+     * @param task      Work to run on the server thread.
+     * @param ifStopped Run instead, on the calling thread, if the plugin has already stopped and the task can never run.
+     */
+    public static void runOnServerThread(Runnable task, Runnable ifStopped){
+        synchronized(handoffs){
+            if(!stopped){
+                handoffs.add(task);
+                return;
+            }
+        }
+        ifStopped.run();
+    }
+
+    /**
+     * Applies a fusion now if the limit for this tick hasn't been reached, otherwise queues it for a later tick.
+     *
+     * @param commit Applies the fusion to the player's party.
+     */
+    public static void submitCommit(Runnable commit){
+        nextTick();
+        //Fusions that are already queued go first, so nobody waits behind fusions that arrived after them.
+        if(queuedCommits.isEmpty() && !TickMonitor.getMode().isAtLeast(LoadMode.DEFER_COMMITS)
+                && hasBudget(commits, Fusions.getSettings().getMaxCommitsPerTick())){
+            commits++;
+            run(commit);
+        }
+        else{
+            queuedCommits.add(commit);
+            queued = queuedCommits.size();
+        }
+    }
+
+    /**
+     * Takes one preview from the budget of this tick, if there is any left.
+     *
+     * @return True if a preview may be computed now, false if it should wait for a later tick.
+     */
+    public static boolean tryAcquirePreview(){
+        nextTick();
+        if(hasBudget(previews, Fusions.getSettings().getMaxPreviewsPerTick())){
+            previews++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Gets the number of fusions waiting for a later tick. Safe to call from any thread.
+     *
+     * @return Number of queued fusions.
+     */
+    public static int getQueuedCommits(){
+        return queued;
+    }
+
+    private static void drain(){
+        runHandoffs();
+        nextTick();
+        FusionSettings settings = Fusions.getSettings();
+        int limit = TickMonitor.getMode().isAtLeast(LoadMode.DEFER_COMMITS) ? 1 : settings.getMaxCommitsPerTick();
+        while(!queuedCommits.isEmpty() && hasBudget(commits, limit)){
+            commits++;
+            run(queuedCommits.poll());
+        }
+        queued = queuedCommits.size();
+    }
+
+    private static void runHandoffs(){
+        while(true){
+            Runnable task;
+            synchronized(handoffs){
+                task = handoffs.poll();
+            }
+            if(task == null){
+                return;
+            }
+            run(task);
+        }
+    }
+
+    private static void run(Runnable commit){
+        try{
+            commit.run();
+        }
+        catch(RuntimeException e){
+            Fusions.getLogger().error("Queued fusion work could not be run.", e);
+        }
+    }
+
+    private static boolean hasBudget(int used, int limit){
+        return limit <= 0 || used < limit;
+    }
+
+    /**
+     * Resets the counts if a new tick has started since they were last used.
+     */
+    private static void nextTick(){
+        int current = Sponge.getServer().getRunningTimeTicks();
+        if(current != tick){
+            tick = current;
+            commits = 0;
+            previews = 0;
+        }
+    }
+}
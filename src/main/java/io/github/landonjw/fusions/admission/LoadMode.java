@@ -0,0 +1,42 @@
+package io.github.landonjw.fusions.admission;
+
+/**
+ * How much work Fusions does while the server is struggling to keep up.
+ * Each mode also does everything the modes before it do.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+public enum LoadMode {
+    /** Everything works as normal. */
+    NORMAL("Normal"),
+    /** IVs of the resulting fusion are hidden in the GUI, as if Hide-Fusion-IVs were enabled. */
+    HIDE_IVS("Hiding IV Previews"),
+    /** GUI slots are drawn without Pokemon sprites unless the sprite is already cached. */
+    STATIC_SPRITES("Static Sprites"),
+    /** Every fusion is queued, and only one is applied each tick. */
+    DEFER_COMMITS("Deferring Fusions"),
+    /** New fusions are refused until the server recovers. */
+    REFUSE_FUSIONS("Refusing Fusions");
+
+    /** Name of the mode shown to players and in the log. */
+    private final String displayName;
+
+    LoadMode(String displayName){
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName(){
+        return displayName;
+    }
+
+    /**
+     * Checks if this mode does at least as little work as another mode.
+     *
+     * @param mode Mode to compare with.
+     * @return True if this mode is the same as or after the other mode, false if it's before it.
+     */
+    public boolean isAtLeast(LoadMode mode){
+        return ordinal() >= mode.ordinal();
+    }
+}
@@ -0,0 +1,196 @@
+package io.github.landonjw.fusions.admission;
+
+import io.github.landonjw.fusions.Fusions;
+import io.github.landonjw.fusions.configuration.FusionSettings;
+import io.github.landonjw.fusions.metrics.FusionMetrics;
+import org.spongepowered.api.scheduler.Task;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks how long recent ticks took, and steps Fusions down through each {@link LoadMode} as the server slows down.
+ *
+ * The duration of every tick is measured from a task that runs once per tick, and averaged over the last
+ * couple of seconds. Once the average passes the threshold of a mode, that mode is entered straight away.
+ * Modes are only left once the average falls well below their threshold and the mode has been held for a few
+ * seconds, so a server hovering around a threshold doesn't flip back and forth.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+public class TickMonitor {
+
+    /** Number of ticks averaged. */
+    private static final int WINDOW = 40;
+    /** Longest a single tick is counted as, so one long pause doesn't hold a mode for the whole window. */
+    private static final long MAX_SAMPLE = TimeUnit.SECONDS.toNanos(1);
+    /** Fraction of a mode's threshold the average must fall below to leave the mode. */
+    private static final double RECOVERY_RATIO = 0.85;
+    /** Shortest time a mode is held before recovering from it. */
+    private static final long MIN_HOLD = TimeUnit.SECONDS.toNanos(5);
+
+    /** Duration of each of the last ticks, in nanoseconds. Only used on the server thread. */
+    private static final long[] samples = new long[WINDOW];
+    private static int sampleCount;
+    private static int nextSample;
+    private static long sampleTotal;
+    /** Time the last tick started, or 0 if no tick has been measured yet. */
+    private static long lastTick;
+    /** Time the current mode was entered. */
+    private static long modeSince;
+
+    /** Current mode. Read from any thread. */
+    private static volatile LoadMode mode = LoadMode.NORMAL;
+    /** Average duration of recent ticks in nanoseconds. Read from any thread. */
+    private static volatile long averageTick;
+
+    /** Task measuring every tick. */
+    private static Task task;
+
+    /**
+     * Starts measuring ticks.
+     */
+    public static void start(){
+        if(task == null){
+            task = Task.builder().execute(TickMonitor::tick).intervalTicks(1).submit(Fusions.getInstance());
+        }
+    }
+
+    /**
+     * Stops measuring ticks, and returns to normal mode.
+     */
+    public static void stop(){
+        if(task != null){
+            task.cancel();
+            task = null;
+        }
+        lastTick = 0;
+        sampleCount = 0;
+        nextSample = 0;
+        sampleTotal = 0;
+        averageTick = 0;
+        mode = LoadMode.NORMAL;
+    }
+
+    /**
+     * Gets the current mode. Safe to call from any thread.
+     *
+     * @return Current mode.
+     */
+    public static LoadMode getMode(){
+        return mode;
+    }
+
+    /**
+     * Gets the average duration of recent ticks in milliseconds.
+     *
+     * @return Average duration of recent ticks in milliseconds.
+     */
+    public static double getAverageTickMillis(){
+        return averageTick / 1_000_000.0;
+    }
+
+    private static void tick(){
+        long now = System.nanoTime();
+        if(lastTick != 0){
+            record(Math.min(now - lastTick, MAX_SAMPLE));
+            update(now, Fusions.getSettings());
+        }
+        lastTick = now;
+    }
+
+    private static void record(long duration){
+        if(sampleCount == WINDOW){
+            sampleTotal -= samples[nextSample];
+        }
+        else{
+            sampleCount++;
+        }
+        samples[nextSample] = duration;
+        sampleTotal += duration;
+        nextSample = (nextSample + 1) % WINDOW;
+        averageTick = sampleTotal / sampleCount;
+    }
+
+    private static void update(long now, FusionSettings settings){
+        if(!settings.isDegradationEnabled()){
+            if(mode != LoadMode.NORMAL){
+                change(LoadMode.NORMAL, now);
+            }
+            return;
+        }
+
+        //The average isn't trusted until the window has filled.
+        if(sampleCount < WINDOW){
+            return;
+        }
+
+        LoadMode target = getMode(settings, averageTick, 1);
+        if(target.ordinal() > mode.ordinal()){
+            change(target, now);
+        }
+        else if(target.ordinal() < mode.ordinal() && now - modeSince >= MIN_HOLD){
+            LoadMode recovered = getMode(settings, averageTick, RECOVERY_RATIO);
+            if(recovered.ordinal() < mode.ordinal()){
+                change(recovered, now);
+            }
+        }
+    }
+
+    /**
+     * Gets the most degraded mode whose threshold the average tick duration has passed.
+     *
+     * @param settings Settings containing thresholds.
+     * @param average  Average tick duration in nanoseconds.
+     * @param ratio    Fraction of each threshold to compare against.
+     * @return Mode for the average tick duration.
+     */
+    private static LoadMode getMode(FusionSettings settings, long average, double ratio){
+        LoadMode[] modes = LoadMode.values();
+        for(int i = modes.length - 1; i > 0; i--){
+            long threshold = getThreshold(settings, modes[i]);
+            if(threshold > 0 && average >= threshold * ratio){
+                return modes[i];
+            }
+        }
+        return LoadMode.NORMAL;
+    }
+
+    /**
+     * Gets the average tick duration at which a load mode is entered.
+     *
+     * @param settings Settings to get thresholds from.
+     * @param mode     Load mode to get threshold of.
+     * @return Average tick duration in nanoseconds, or 0 if the mode is never entered.
+     */
+    private static long getThreshold(FusionSettings settings, LoadMode mode){
+        switch(mode){
+            case HIDE_IVS:
+                return settings.getHideIVsThreshold();
+            case STATIC_SPRITES:
+                return settings.getStaticSpritesThreshold();
+            case DEFER_COMMITS:
+                return settings.getDeferFusionsThreshold();
+            case REFUSE_FUSIONS:
+                return settings.getRefuseFusionsThreshold();
+            default:
+                return 0;
+        }
+    }
+
+    private static void change(LoadMode next, long now){
+        LoadMode previous = mode;
+        mode = next;
+        modeSince = now;
+        FusionMetrics.loadModeChanged();
+
+        String message = "Server is averaging " + String.format("%.1f", getAverageTickMillis()) + "ms per tick. Fusions load mode changed from "
+                + previous.getDisplayName() + " to " + next.getDisplayName() + ".";
+        if(next.ordinal() > previous.ordinal()){
+            Fusions.getLogger().warn(message);
+        }
+        else{
+            Fusions.getLogger().info(message);
+        }
+    }
+}
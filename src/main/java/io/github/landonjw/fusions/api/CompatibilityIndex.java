@@ -0,0 +1,286 @@
+package io.github.landonjw.fusions.api;
+
+import com.pixelmonmod.pixelmon.api.pokemon.Pokemon;
+import com.pixelmonmod.pixelmon.entities.pixelmon.stats.BaseStats;
+import com.pixelmonmod.pixelmon.enums.EnumEggGroup;
+import com.pixelmonmod.pixelmon.enums.EnumSpecies;
+import com.pixelmonmod.pixelmon.enums.EnumType;
+import com.pixelmonmod.pixelmon.enums.forms.IEnumForm;
+import io.github.landonjw.fusions.configuration.FuseGroup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Precomputed index of which Pokemon are able to fuse with each other.
+ *
+ * Every species, and every form of a species with its own stats (ie. regional forms), is given a key.
+ * For each fuse group there is a packed bit matrix where bit (a, b) is set if key b shares that group with key a.
+ * The fuse group each key uses is resolved when the index is built, with group overrides already applied,
+ * so checking if two Pokemon can fuse is a single bit lookup.
+ *
+ * An index is never modified after it is built; reloading the configuration builds a new one instead.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+public final class CompatibilityIndex {
+
+    /** Species of each key. */
+    private final EnumSpecies[] keySpecies;
+    /** Key of the default form of each species, indexed by species ordinal. */
+    private final int[] baseKeys;
+    /** Keys of forms with their own stats for each species, indexed by species ordinal then by form + 1. Null if a species has none. */
+    private final int[][] formKeys;
+    /** Fuse group used by each key when it is the Pokemon being fused, with overrides applied. */
+    private final FuseGroup[] keyGroups;
+    /** Number of longs in each row of a matrix. */
+    private final int stride;
+    /** Packed bit matrix for each fuse group, indexed by fuse group ordinal. */
+    private final long[][] matrices;
+
+    private CompatibilityIndex(SpeciesRules speciesRules, FuseGroup defaultGroup, EnumSpecies[] keySpecies,
+                               int[] baseKeys, int[][] formKeys, long[] typeMasks, long[] eggGroupMasks){
+        int keyCount = keySpecies.length;
+        this.keySpecies = keySpecies;
+        this.baseKeys = baseKeys;
+        this.formKeys = formKeys;
+        this.keyGroups = new FuseGroup[keyCount];
+        this.stride = (keyCount + 63) >>> 6;
+
+        //Resolve fuse group of each key.
+        for(int key = 0; key < keyCount; key++){
+            keyGroups[key] = speciesRules.getFuseGroup(keySpecies[key], defaultGroup);
+        }
+
+        /* --------------------------------------------------------
+         * Fill a matrix for each fuse group.
+         * --------------------------------------------------------
+         */
+        this.matrices = new long[FuseGroup.values().length][];
+        long[] speciesMatrix = new long[keyCount * stride];
+        long[] typeMatrix = new long[keyCount * stride];
+        long[] eggGroupMatrix = new long[keyCount * stride];
+
+        for(int row = 0; row < keyCount; row++){
+            int rowOffset = row * stride;
+            for(int column = 0; column < keyCount; column++){
+                int index = rowOffset + (column >>> 6);
+                long bit = 1L << column;
+
+                if(keySpecies[row] == keySpecies[column]){
+                    speciesMatrix[index] |= bit;
+                }
+                if((typeMasks[row] & typeMasks[column]) != 0){
+                    typeMatrix[index] |= bit;
+                }
+                if((eggGroupMasks[row] & eggGroupMasks[column]) != 0){
+                    eggGroupMatrix[index] |= bit;
+                }
+            }
+        }
+
+        matrices[FuseGroup.SPECIES.ordinal()] = speciesMatrix;
+        matrices[FuseGroup.TYPE.ordinal()] = typeMatrix;
+        matrices[FuseGroup.EGG_GROUP.ordinal()] = eggGroupMatrix;
+    }
+
+    /**
+     * Builds a compatibility index for every species and form, using stats from Pixelmon's stats registry.
+     *
+     * @param speciesRules Species rules containing fuse group overrides.
+     * @param defaultGroup Fuse group to use for species without an override.
+     * @return New compatibility index.
+     */
+    public static CompatibilityIndex build(SpeciesRules speciesRules, FuseGroup defaultGroup){
+        EnumSpecies[] allSpecies = EnumSpecies.values();
+        List<EnumSpecies> species = new ArrayList<>(allSpecies.length);
+        List<BaseStats> stats = new ArrayList<>(allSpecies.length);
+
+        /* --------------------------------------------------------
+         * Assign a key to every species and form with its own stats.
+         * --------------------------------------------------------
+         */
+        int[] baseKeys = new int[allSpecies.length];
+        int[][] formKeys = new int[allSpecies.length][];
+
+        for(EnumSpecies value : allSpecies){
+            BaseStats baseStats = value.getBaseStats();
+            int baseKey = species.size();
+            baseKeys[value.ordinal()] = baseKey;
+            species.add(value);
+            stats.add(baseStats);
+
+            for(IEnumForm form : value.getPossibleForms(false)){
+                BaseStats formStats = value.getBaseStats(form);
+                if(form.getForm() < 0 || formStats == null || formStats == baseStats){
+                    continue;
+                }
+
+                int[] keys = formKeys[value.ordinal()];
+                if(keys == null || keys.length < form.getForm() + 2){
+                    int oldLength = (keys == null) ? 0 : keys.length;
+                    keys = (keys == null) ? new int[form.getForm() + 2] : Arrays.copyOf(keys, form.getForm() + 2);
+                    Arrays.fill(keys, oldLength, keys.length, baseKey);
+                    formKeys[value.ordinal()] = keys;
+                }
+                keys[form.getForm() + 1] = species.size();
+                species.add(value);
+                stats.add(formStats);
+            }
+        }
+
+        //Group masks of each key.
+        int keyCount = species.size();
+        long[] typeMasks = new long[keyCount];
+        long[] eggGroupMasks = new long[keyCount];
+        for(int key = 0; key < keyCount; key++){
+            BaseStats keyStats = stats.get(key);
+            if(keyStats != null){
+                for(EnumType type : keyStats.getTypeList()){
+                    typeMasks[key] |= 1L << type.ordinal();
+                }
+                if(keyStats.eggGroups != null){
+                    for(EnumEggGroup eggGroup : keyStats.eggGroups){
+                        eggGroupMasks[key] |= 1L << eggGroup.ordinal();
+                    }
+                }
+            }
+        }
+
+        return new CompatibilityIndex(speciesRules, defaultGroup, species.toArray(new EnumSpecies[0]),
+                baseKeys, formKeys, typeMasks, eggGroupMasks);
+    }
+
+    /**
+     * Builds a compatibility index from given types and egg groups instead of Pixelmon's stats registry,
+     * with one key per species and no forms. Used where the registry isn't loaded, such as benchmarks.
+     *
+     * @param speciesRules  Species rules containing fuse group overrides.
+     * @param defaultGroup  Fuse group to use for species without an override.
+     * @param typeMasks     Types of each species as a bit mask of type ordinals, indexed by species ordinal.
+     * @param eggGroupMasks Egg groups of each species as a bit mask of egg group ordinals, indexed by species ordinal.
+     * @return New compatibility index.
+     */
+    public static CompatibilityIndex fromMasks(SpeciesRules speciesRules, FuseGroup defaultGroup,
+                                               long[] typeMasks, long[] eggGroupMasks){
+        EnumSpecies[] allSpecies = EnumSpecies.values();
+        if(typeMasks.length != allSpecies.length || eggGroupMasks.length != allSpecies.length){
+            throw new IllegalArgumentException("Expected a type and egg group mask for each of the " + allSpecies.length + " species.");
+        }
+
+        int[] baseKeys = new int[allSpecies.length];
+        for(int i = 0; i < baseKeys.length; i++){
+            baseKeys[i] = i;
+        }
+        return new CompatibilityIndex(speciesRules, defaultGroup, allSpecies.clone(), baseKeys,
+                new int[allSpecies.length][], typeMasks.clone(), eggGroupMasks.clone());
+    }
+
+    /**
+     * Gets the key of a species and form.
+     * Forms that share stats with the default form of a species share its key.
+     *
+     * @param species Species to get key of.
+     * @param form    Form of the species.
+     * @return Key of the species and form.
+     */
+    public int getKey(EnumSpecies species, int form){
+        int[] keys = formKeys[species.ordinal()];
+        if(keys != null && form >= -1 && form + 1 < keys.length){
+            return keys[form + 1];
+        }
+        return baseKeys[species.ordinal()];
+    }
+
+    /**
+     * Gets the key of a Pokemon's species and form.
+     *
+     * @param pokemon Pokemon to get key of.
+     * @return Key of the Pokemon's species and form.
+     */
+    public int getKey(Pokemon pokemon){
+        return getKey(pokemon.getSpecies(), pokemon.getForm());
+    }
+
+    /**
+     * Gets the fuse group a Pokemon uses when it is fused, with group overrides applied.
+     *
+     * @param pokemon Pokemon to do fusion on.
+     * @return Fuse group the Pokemon uses.
+     */
+    public FuseGroup getFuseGroup(Pokemon pokemon){
+        return getFuseGroup(getKey(pokemon));
+    }
+
+    /**
+     * Gets the fuse group a key uses when it is the Pokemon being fused, with group overrides applied.
+     *
+     * @param key Key of the Pokemon to do fusion on.
+     * @return Fuse group the key uses.
+     */
+    public FuseGroup getFuseGroup(int key){
+        return keyGroups[key];
+    }
+
+    /**
+     * Checks if a sacrifice shares the fuse group of a Pokemon, using keys from {@link #getKey(Pokemon)}.
+     *
+     * @param pokemonKey   Key of the Pokemon to do fusion on.
+     * @param sacrificeKey Key of the Pokemon to sacrifice.
+     * @return True if the Pokemon can be fused with the sacrifice, false if they can't.
+     */
+    public boolean canFuse(int pokemonKey, int sacrificeKey){
+        long[] matrix = matrices[keyGroups[pokemonKey].ordinal()];
+        return (matrix[pokemonKey * stride + (sacrificeKey >>> 6)] & (1L << sacrificeKey)) != 0;
+    }
+
+    /**
+     * Checks if a sacrifice shares the fuse group of a Pokemon.
+     *
+     * @param pokemon   Pokemon to do fusion on.
+     * @param sacrifice Pokemon to sacrifice.
+     * @return True if the Pokemon can be fused with the sacrifice, false if they can't.
+     */
+    public boolean canFuse(Pokemon pokemon, Pokemon sacrifice){
+        return canFuse(getKey(pokemon), getKey(sacrifice));
+    }
+
+    /**
+     * Finds which candidates are able to be sacrificed to a Pokemon, such as a player's party or PC box.
+     * Only fuse groups, the sacrifice banlist and always fusable or sacrificeable species are checked; rules that depend on the individual Pokemon,
+     * such as fuse counts, are not.
+     *
+     * @param pokemon      Pokemon to do fusion on.
+     * @param candidates   Pokemon to check as sacrifices. May contain null entries.
+     * @param speciesRules Species rules containing the sacrifice banlist.
+     * @return Array where each entry is true if the candidate at the same index may be sacrificed.
+     */
+    public boolean[] findSacrifices(Pokemon pokemon, Pokemon[] candidates, SpeciesRules speciesRules){
+        boolean[] valid = new boolean[candidates.length];
+        int pokemonKey = getKey(pokemon);
+        long[] matrix = matrices[keyGroups[pokemonKey].ordinal()];
+        int rowOffset = pokemonKey * stride;
+        boolean alwaysFusable = speciesRules.isAlwaysFusable(pokemon.getSpecies());
+
+        for(int i = 0; i < candidates.length; i++){
+            Pokemon candidate = candidates[i];
+            if(candidate != null && candidate != pokemon && !speciesRules.isSacrificeBanned(candidate.getSpecies())){
+                int candidateKey = getKey(candidate);
+                valid[i] = alwaysFusable || speciesRules.isAlwaysSacrificeable(candidate.getSpecies())
+                        || (matrix[rowOffset + (candidateKey >>> 6)] & (1L << candidateKey)) != 0;
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * Gets the number of keys in this index.
+     *
+     * @return Number of species and forms with their own stats.
+     */
+    public int size(){
+        return keySpecies.length;
+    }
+}
@@ -2,22 +2,30 @@ package io.github.landonjw.fusions.api;
 
 import com.pixelmonmod.pixelmon.Pixelmon;
 import com.pixelmonmod.pixelmon.api.pokemon.Pokemon;
-import com.pixelmonmod.pixelmon.api.pokemon.PokemonSpec;
+import com.pixelmonmod.pixelmon.api.storage.PlayerPartyStorage;
 import com.pixelmonmod.pixelmon.battles.BattleRegistry;
-import com.pixelmonmod.pixelmon.enums.EnumEggGroup;
-import com.pixelmonmod.pixelmon.enums.EnumGrowth;
-import com.pixelmonmod.pixelmon.enums.EnumType;
+import com.pixelmonmod.pixelmon.enums.EnumSpecies;
 import io.github.landonjw.fusions.Fusions;
+import io.github.landonjw.fusions.admission.FusionAdmission;
+import io.github.landonjw.fusions.admission.LoadMode;
+import io.github.landonjw.fusions.admission.TickMonitor;
+import io.github.landonjw.fusions.commands.CooldownService;
 import io.github.landonjw.fusions.commands.FusionCommand;
-import io.github.landonjw.fusions.configuration.ConfigManager;
+import io.github.landonjw.fusions.configuration.FuseGroup;
+import io.github.landonjw.fusions.configuration.FusionSettings;
+import io.github.landonjw.fusions.audit.AuditLog;
+import io.github.landonjw.fusions.audit.FusionRecord;
+import io.github.landonjw.fusions.economy.EconomyBridge;
+import io.github.landonjw.fusions.history.FusionHistory;
+import io.github.landonjw.fusions.metrics.FailureReason;
+import io.github.landonjw.fusions.metrics.FusionMetrics;
+import io.github.landonjw.fusions.placeholders.PlayerSnapshots;
+import io.github.landonjw.fusions.trace.FusionTrace;
+import io.github.landonjw.fusions.trace.TraceOperation;
+import io.github.landonjw.fusions.trace.TracePhase;
 import net.minecraft.entity.player.EntityPlayerMP;
 import org.spongepowered.api.entity.living.player.Player;
-import org.spongepowered.api.event.cause.Cause;
-import org.spongepowered.api.event.cause.EventContext;
-import org.spongepowered.api.event.cause.EventContextKeys;
 import org.spongepowered.api.service.economy.Currency;
-import org.spongepowered.api.service.economy.EconomyService;
-import org.spongepowered.api.service.economy.account.UniqueAccount;
 import org.spongepowered.api.service.economy.transaction.ResultType;
 import org.spongepowered.api.service.economy.transaction.TransactionResult;
 import org.spongepowered.api.text.Text;
@@ -26,6 +34,9 @@ import org.spongepowered.api.text.format.TextStyles;
 
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Lets a player fuse a Pokemon with a sacrifice in order to inherit certain traits or IVs.
@@ -45,53 +56,24 @@ public class Fusion {
     Pokemon pokemon;
     /** IVs of the Pokemon to do fusion on. */
     private int[] pokemonIVs;
-    /** Index of the Pokemon to sacrifice for the fusion. */
-    private int sacrificeIndex;
-    /** Pokemon to sacrifice for the fusion. */
-    Pokemon sacrifice;
-    /** IVs of the Pokemon to sacrifice for the fusion. */
-    private int[] sacrificeIVs;
-
-    /* -----------------------------------------------------------------------------------------
-     * All of these variables contain information regarding configuration values for fusion.
-     * -----------------------------------------------------------------------------------------
-     */
-    /** If fusion should affect IVs. */
-    private boolean enableIVs;
-    /** If fusion should affect Growth. */
-    private boolean enableGrowth;
-    /** How many times a Pokemon can be fused. */
-    private int fuseCount;
-    /** The type of group that is allowed to fuse together. Can be type, species, or egg group. */
-    private String fuseGroup;
-    /** Makes fused Pokemon unbreedable. */
-    private boolean forceUnbreedable;
-    /** The number of IVs to be affected from a fuse. IF less than 6, it grabs the highest IVs from sacrifice. */
-    private int numAffectedIVs;
-    /** The percent of difference in Pokemon and sacrifice's IVs to add to Pokemon during fusion. */
-    private double fusePercent;
-    /** The maximum IV amount that a Pokemon can get in any single IV. */
-    private int maxIncrease;
-    /** The minimum IV amount that a Pokemon can get in any single IV. */
-    private int minIncrease;
-    /** If a fusion should keep the fuse count of a sacrificed Pokemon. */
-    private boolean retainFuseCount;
-    /** If a fusion should keep an HA of a sacrificed Pokemon. */
-    private boolean retainHA;
-    /** If a fusion should keep the shininess of a sacrificed Pokemon. */
-    private boolean retainShiny;
-    /** If a fusion should keep unbreedable of a sacrificed Pokemon. */
-    private boolean retrainUnbreedable;
-    /** If fusion should cost any money. */
-    private boolean enableCost;
-    /** The base cost of fusing two Pokemon. */
-    private double baseCost;
-    /** Addition cost per fusion on a Pokemon. */
-    private double costPerFusion;
-    /** If cost per fusion should scale linearly or exponentially. */
-    private String costIncreaseType;
-    /** The currency to use for fusion command costs.*/
-    private String currency;
+    /** Indexes of the Pokemon to sacrifice for the fusion, in the order they are fused. */
+    private final List<Integer> sacrificeIndexes = new ArrayList<>();
+    /** Pokemon to sacrifice for the fusion, in the same order as their indexes. */
+    private final List<Pokemon> sacrifices = new ArrayList<>();
+
+    /** Players with a fusion waiting on a withdrawal to complete. */
+    private static final Set<UUID> pendingFusions = ConcurrentHashMap.newKeySet();
+
+    /** Snapshot of configuration settings this fusion uses. */
+    private FusionSettings settings;
+    /** Scratch buffer for IV indexes selected during fusion, reused between calls. */
+    private final int[] indexBuffer = new int[IVFusionKernel.NUM_IVS];
+    /** Preview of the fusion for the current selection, or null if it hasn't been computed since the selection changed. */
+    private FusionPreview preview;
+    /** Trace timing the operation this fusion is currently part of. */
+    private FusionTrace trace = FusionTrace.DISABLED;
+    /** Time spent looking up the player's party when the fusion was created, added to the fusion's trace. */
+    private final long lookupNanos;
 
     /**
      * Basic constructor for Fusion that does not have any slots chosen.
@@ -99,7 +81,7 @@ public class Fusion {
      * @param player Player that is doing the fusion.
      */
     public Fusion(Player player){
-        this(player, 0, 0);
+        this(player, 0, new int[0]);
     }
 
     /**
@@ -110,17 +92,33 @@ public class Fusion {
      * @param sacrificeSlot Slot of the Pokemon to sacrifice.
      */
     public Fusion(Player player, int pokemonSlot, int sacrificeSlot){
+        this(player, pokemonSlot, new int[]{sacrificeSlot});
+    }
+
+    /**
+     * Constructor for Fusion that fuses several sacrifices into one Pokemon in a single fusion.
+     * Sacrifices are fused in the order they are given.
+     *
+     * @param player         Player that is doing the fusion.
+     * @param pokemonSlot    Slot of the Pokemon to do fusion on.
+     * @param sacrificeSlots Slots of the Pokemon to sacrifice.
+     */
+    public Fusion(Player player, int pokemonSlot, int[] sacrificeSlots){
+        long lookupStart = System.nanoTime();
         this.player = player;
         this.pokemonIndex = pokemonSlot - 1;
-        this.sacrificeIndex = sacrificeSlot - 1;
-        this.pokemon = (pokemonIndex >= 0 && pokemonIndex <= 5) ? Pixelmon.storageManager.getParty(player.getUniqueId()).get(pokemonIndex) : null;
-        this.sacrifice = (sacrificeIndex >= 0 && sacrificeIndex <= 5) ? Pixelmon.storageManager.getParty(player.getUniqueId()).get(sacrificeIndex): null;
-
-        loadAndValidateConfig();
+        PlayerPartyStorage party = Pixelmon.storageManager.getParty(player.getUniqueId());
+        this.pokemon = (pokemonIndex >= 0 && pokemonIndex <= 5) ? party.get(pokemonIndex) : null;
+        for(int sacrificeSlot : sacrificeSlots){
+            int sacrificeIndex = sacrificeSlot - 1;
+            sacrificeIndexes.add(sacrificeIndex);
+            sacrifices.add((sacrificeIndex >= 0 && sacrificeIndex <= 5) ? party.get(sacrificeIndex) : null);
+        }
+        this.lookupNanos = System.nanoTime() - lookupStart;
+        this.settings = Fusions.getSettings();
 
-        if(validateSlots(pokemonIndex, pokemon, sacrificeIndex, sacrifice) == null){
+        if(pokemon != null){
             this.pokemonIVs = pokemon.getIVs().getArray();
-            this.sacrificeIVs = sacrifice.getIVs().getArray();
         }
     }
 
@@ -134,80 +132,131 @@ public class Fusion {
      * @return Text consisting the rule broken, or null if everything is valid for fusion.
      */
     public Text validateSlots(int pokemonIndex, Pokemon pokemon, int sacrificeIndex, Pokemon sacrifice){
+        FusionFailure failure = checkSlots(pokemonIndex, pokemon, sacrificeIndex, sacrifice);
+        if(failure != null){
+            return failure.getMessage();
+        }
+
+        CompatibilityIndex compatibilityIndex = settings.getCompatibilityIndex();
+        return validatePair(settings,
+                pokemon.getSpecies(), compatibilityIndex.getKey(pokemon), pokemon.getPersistentData().getInteger("fuseCount"),
+                sacrifice.getSpecies(), compatibilityIndex.getKey(sacrifice), sacrifice.getPersistentData().getInteger("fuseCount"));
+    }
+
+    /**
+     * Checks that slots contain Pokemon that are able to be fused, without checking species or fuse count rules.
+     *
+     * @param pokemonIndex   Index of the Pokemon to do fusion on.
+     * @param pokemon        Pokemon to do fusion on.
+     * @param sacrificeIndex Index of the Pokemon to sacrifice for fusion.
+     * @param sacrifice      Pokemon to sacrifice for fusion.
+     * @return Rule broken, or null if the slots are valid.
+     */
+    private FusionFailure checkSlots(int pokemonIndex, Pokemon pokemon, int sacrificeIndex, Pokemon sacrifice){
 
         //Make sure player isn't in battle.
-        if(BattleRegistry.getBattle((EntityPlayerMP) player) != null){
-            return Text.of(TextColors.RED, "You can not fuse pokemon while in battle.");
+        long battleCheck = trace.begin();
+        boolean inBattle = BattleRegistry.getBattle((EntityPlayerMP) player) != null;
+        trace.end(TracePhase.BATTLE_CHECK, battleCheck);
+        if(inBattle){
+            return FusionFailure.of(FailureReason.IN_BATTLE, Text.of(TextColors.RED, "You can not fuse pokemon while in battle."));
         }
 
         //Make sure indexes are valid input (between 0 and 6).
         if(pokemonIndex < 0 || pokemonIndex > 5
                 || sacrificeIndex < 0 || sacrificeIndex > 5){
-            return Text.of(TextColors.RED, "Slots must between 1 and 6.");
+            return FusionFailure.of(FailureReason.INVALID_SLOT, Text.of(TextColors.RED, "Slots must between 1 and 6."));
         }
 
         //Make sure indexes aren't the same (can't fuse the same Pokemon).
         if(pokemonIndex == sacrificeIndex){
-            return Text.of(TextColors.RED, "You cannot fuse a Pokemon with itself.");
+            return FusionFailure.of(FailureReason.SAME_SLOT, Text.of(TextColors.RED, "You cannot fuse a Pokemon with itself."));
         }
 
         //Check that neither slot is empty.
         if(pokemon == null || sacrifice == null){
-            return Text.of(TextColors.RED, "You must select two slots containing a Pokemon.");
+            return FusionFailure.of(FailureReason.EMPTY_SLOT, Text.of(TextColors.RED, "You must select two slots containing a Pokemon."));
         }
 
         //Check if a Pokemon is outside of it's pokeball.
         if(pokemon.getPixelmonIfExists() != null || sacrifice.getPixelmonIfExists() != null ){
-            return Text.of(TextColors.RED, "A pokemon is outside of it's pokeball.");
+            return FusionFailure.of(FailureReason.OUT_OF_BALL, Text.of(TextColors.RED, "A pokemon is outside of it's pokeball."));
         }
 
+        return null;
+    }
+
+    /**
+     * Checks species and fuse count rules set for Fusion between a Pokemon and a sacrifice.
+     * Only uses values already read from the Pokemon, so it does not depend on the state of the server.
+     *
+     * @param settings           Settings to check rules of.
+     * @param pokemonSpecies     Species of the Pokemon to do fusion on.
+     * @param pokemonKey         Key of the Pokemon to do fusion on in the compatibility index.
+     * @param pokemonFuseCount   Fuse count of the Pokemon to do fusion on.
+     * @param sacrificeSpecies   Species of the Pokemon to sacrifice.
+     * @param sacrificeKey       Key of the Pokemon to sacrifice in the compatibility index.
+     * @param sacrificeFuseCount Fuse count of the Pokemon to sacrifice.
+     * @return Text consisting the rule broken, or null if everything is valid for fusion.
+     */
+    public static Text validatePair(FusionSettings settings,
+                                    EnumSpecies pokemonSpecies, int pokemonKey, int pokemonFuseCount,
+                                    EnumSpecies sacrificeSpecies, int sacrificeKey, int sacrificeFuseCount){
+        return FusionFailure.messageOf(checkPair(settings, pokemonSpecies, pokemonKey, pokemonFuseCount,
+                sacrificeSpecies, sacrificeKey, sacrificeFuseCount));
+    }
+
+    /**
+     * Checks species and fuse count rules set for Fusion between a Pokemon and a sacrifice.
+     * Same as {@link #validatePair}, but gives the reason the rule was broken along with it's message.
+     *
+     * @param settings           Settings to check rules of.
+     * @param pokemonSpecies     Species of the Pokemon to do fusion on.
+     * @param pokemonKey         Key of the Pokemon to do fusion on in the compatibility index.
+     * @param pokemonFuseCount   Fuse count of the Pokemon to do fusion on.
+     * @param sacrificeSpecies   Species of the Pokemon to sacrifice.
+     * @param sacrificeKey       Key of the Pokemon to sacrifice in the compatibility index.
+     * @param sacrificeFuseCount Fuse count of the Pokemon to sacrifice.
+     * @return Rule broken, or null if everything is valid for fusion.
+     */
+    public static FusionFailure checkPair(FusionSettings settings,
+                                          EnumSpecies pokemonSpecies, int pokemonKey, int pokemonFuseCount,
+                                          EnumSpecies sacrificeSpecies, int sacrificeKey, int sacrificeFuseCount){
+        SpeciesRules speciesRules = settings.getSpeciesRules();
+
         //Check if pokemon is banned from being fused.
-        if(Fusions.getBannedFusionSpecies().contains(pokemon.getSpecies())){
-            return Text.of(TextColors.RED, "This pokemon is not capable of fusion.");
+        if(speciesRules.isFusionBanned(pokemonSpecies)){
+            return FusionFailure.of(FailureReason.FUSION_BANNED, Text.of(TextColors.RED, "This pokemon is not capable of fusion."));
         }
 
         //Check if sacrifice is banned from being a sacrifice.
-        if(Fusions.getBannedSacrificeSpecies().contains(sacrifice.getSpecies())){
-            return Text.of(TextColors.RED, "A pokemon refuses to be sacrificed.");
+        if(speciesRules.isSacrificeBanned(sacrificeSpecies)){
+            return FusionFailure.of(FailureReason.SACRIFICE_BANNED, Text.of(TextColors.RED, "A pokemon refuses to be sacrificed."));
         }
 
+        int fuseCount = settings.getMaxFuseCount(pokemonSpecies);
         if(fuseCount > 0) {
             //Check that Pokemon hasn't already been fused too many times if fuse count is enabled.
-            if (pokemon.getPersistentData().getInteger("fuseCount") > (fuseCount - 1)) {
-                return Text.of(TextColors.RED, "This Pokemon has been fused too many times.");
+            if (pokemonFuseCount > (fuseCount - 1)) {
+                return FusionFailure.of(FailureReason.FUSE_COUNT, Text.of(TextColors.RED, "This Pokemon has been fused too many times."));
             }
 
             //Check that sacrifice fuse count doesn't take Pokemon's fuse count over limit when carried over if fuse count is enabled.
-            if (retainFuseCount) {
-                if (pokemon.getPersistentData().getInteger("fuseCount") + sacrifice.getPersistentData().getInteger("fuseCount") > (fuseCount - 1)) {
-                    return Text.of(TextColors.RED, "Sacrifice has been fused too many times to be used.");
+            if (settings.isRetainFuseCount()) {
+                if (pokemonFuseCount + sacrificeFuseCount > (fuseCount - 1)) {
+                    return FusionFailure.of(FailureReason.SACRIFICE_FUSE_COUNT, Text.of(TextColors.RED, "Sacrifice has been fused too many times to be used."));
                 }
             }
         }
 
-        //Check if Pokemon is in override group & check if it's valid if it is.
-        if(Fusions.getEggGroupOverride().contains(pokemon.getSpecies())){
-            if(!hasSharedEggGroup(pokemon, sacrifice)){
-                return Text.of(TextColors.RED, "Pokemon do not share a similar egg group.");
-            }
-        }
-        else if(Fusions.getSpeciesOverride().contains(pokemon.getSpecies())){
-            if(pokemon.getSpecies() != sacrifice.getSpecies()){
-                return Text.of(TextColors.RED, "Pokemon do not share a similar species.");
-            }
-        }
-        else if(Fusions.getTypeOverride().contains(pokemon.getSpecies())){
-            if(!hasSharedType(pokemon, sacrifice)){
-                return Text.of(TextColors.RED, "Pokemon do not share a similar type.");
-            }
-        }
-        else{
-            //Check both pokemon are compatible with selected fuse group from configuration (type, species, or egg group).
-            if(((fuseGroup.equalsIgnoreCase("Type")) && !hasSharedType(pokemon, sacrifice))
-                    || (fuseGroup.equalsIgnoreCase("Egg Group") && !hasSharedEggGroup(pokemon, sacrifice) )
-                    || (fuseGroup.equalsIgnoreCase("Species") && pokemon.getSpecies() != sacrifice.getSpecies())){
-                return Text.of(TextColors.RED, "Pokemon do not share a similar " + fuseGroup.toLowerCase() + ".");
-            }
+        //Check both pokemon are compatible with the Pokemon's override group, or selected fuse group from configuration if it has none.
+        //Species that are always fusable or always sacrificeable skip this check.
+        CompatibilityIndex compatibilityIndex = settings.getCompatibilityIndex();
+        if(!compatibilityIndex.canFuse(pokemonKey, sacrificeKey)
+                && !speciesRules.isAlwaysFusable(pokemonSpecies) && !speciesRules.isAlwaysSacrificeable(sacrificeSpecies)){
+            FuseGroup fuseGroup = compatibilityIndex.getFuseGroup(pokemonKey);
+            return FusionFailure.of(FailureReason.INCOMPATIBLE,
+                    Text.of(TextColors.RED, "Pokemon do not share a similar " + fuseGroup.getDisplayName().toLowerCase() + "."));
         }
 
         return null;
@@ -215,237 +264,374 @@ public class Fusion {
 
     /**
      * Checks slots and Pokemon to see if they pass rules set for Fusion. Uses variables set in object.
+     * With several sacrifices, the rules are checked for each sacrifice against the Pokemon as it will be
+     * after the sacrifices before it.
      *
      * @return Text consisting the rule broken, or null if everything is valid for fusion.
      */
     public Text validateSlots(){
-        return validateSlots(pokemonIndex, pokemon, sacrificeIndex, sacrifice);
+        FusionFailure failure = checkSelection();
+        long previewStart = trace.begin();
+        preview = (failure != null) ? FusionPreview.failed(settings, failure)
+                : FusionPreview.compute(settings, pokemon, sacrifices, indexBuffer);
+        trace.end(TracePhase.PREVIEW, previewStart);
+        return preview.getFailure();
     }
 
     /**
-     * Grabs values from configuration node and validates them.
-     * If one of the values aren't valid, it will adjust them so they are valid.
+     * Checks the selected slots contain Pokemon that are able to be fused, without checking species or fuse count rules.
+     *
+     * @return Rule broken, or null if the selected slots are valid.
      */
-    public void loadAndValidateConfig(){
-        /* --------------------------------------------------------
-         * Grab values from configuration node in ConfigManager.
-         * --------------------------------------------------------
-         */
-        enableIVs = ConfigManager.getConfigNode("Fusing-Features", "IVs", "Enable-IVs").getBoolean();
-        enableGrowth = ConfigManager.getConfigNode("Fusing-Features", "Growth", "Enable-Growth").getBoolean();
-        fuseCount = ConfigManager.getConfigNode("Fusing-Features", "Fuse-Count").getInt();
-        fuseGroup = ConfigManager.getConfigNode("Fusing-Features", "Fuse-Group").getString("Species");
-        forceUnbreedable = ConfigManager.getConfigNode("Fusing-Features", "Force-Unbreedable").getBoolean();
-        numAffectedIVs = ConfigManager.getConfigNode("Fusing-Features", "IVs", "Num-IVs-Affected").getInt();
-        fusePercent = ConfigManager.getConfigNode("Fusing-Features", "IVs", "Fuse-Percent").getDouble();
-        maxIncrease = ConfigManager.getConfigNode("Fusing-Features", "IVs", "Fuse-Increase-Max").getInt();
-        minIncrease = ConfigManager.getConfigNode("Fusing-Features", "IVs", "Fuse-Increase-Min").getInt();
-        retainFuseCount = ConfigManager.getConfigNode("Retain-Qualities", "Retain-Fuse-Count").getBoolean();
-        retainHA = ConfigManager.getConfigNode("Retain-Qualities", "Retain-HA").getBoolean();
-        retainShiny = ConfigManager.getConfigNode("Retain-Qualities", "Retain-Shiny").getBoolean();
-        retrainUnbreedable = ConfigManager.getConfigNode("Retain-Qualities", "Retain-Unbreedable").getBoolean();
-        enableCost = ConfigManager.getConfigNode("Fusing-Costs", "Enable-Cost").getBoolean();
-        baseCost = ConfigManager.getConfigNode("Fusing-Costs", "Cost-Base").getDouble();
-        costPerFusion = ConfigManager.getConfigNode("Fusing-Costs", "Cost-Per-Fusion").getDouble();
-        costIncreaseType = ConfigManager.getConfigNode("Fusing-Costs", "Cost-Increase-Type").getString("Linear");
-        currency = ConfigManager.getConfigNode("Fusing-Costs", "Currency").getString("");
+    private FusionFailure checkSelection(){
+        if(sacrificeIndexes.isEmpty()){
+            return checkSlots(pokemonIndex, pokemon, -1, null);
+        }
 
-        /* --------------------------------------------------------
-         * Validate configuration values and readjust if necessary.
-         * --------------------------------------------------------
-         */
+        for(int i = 0; i < sacrificeIndexes.size(); i++){
+            FusionFailure failure = checkSlots(pokemonIndex, pokemon, sacrificeIndexes.get(i), sacrifices.get(i));
+            if(failure != null){
+                return failure;
+            }
 
-        //Check fuse count is above or equal to 0, adjust to 0 if it isn't.
-        if(fuseCount < 0){
-            fuseCount = 0;
+            //Make sure the same Pokemon isn't sacrificed twice.
+            if(sacrificeIndexes.indexOf(sacrificeIndexes.get(i)) != i){
+                return FusionFailure.of(FailureReason.DUPLICATE_SACRIFICE, Text.of(TextColors.RED, "You cannot sacrifice the same Pokemon twice."));
+            }
         }
+        return null;
+    }
 
-        //Check fuse group is Species, Egg Group (or EggGroup), or Type, adjust to Species if it isn't.
-        if(!fuseGroup.equalsIgnoreCase("Species")
-                && !fuseGroup.replace(" ", "").equalsIgnoreCase("EggGroup")
-                && !fuseGroup.equalsIgnoreCase("Type") ){
-            fuseGroup = "Species";
+    /**
+     * Gets the preview of the fusion for the current selection.
+     * The preview is computed once per selection and reused afterwards; use {@link #validateSlots()}
+     * to compute it again if the Pokemon may have changed.
+     *
+     * @return Preview of the fusion.
+     */
+    public FusionPreview getPreview(){
+        if(preview == null){
+            validateSlots();
         }
+        return preview;
+    }
 
-        //Check number of affected IVs are between 0 and 6, adjust to 0 or 6 if it isn't,
-        if(numAffectedIVs > 6){
-            numAffectedIVs = 6;
-        }
-        else if(numAffectedIVs < 0){
-            numAffectedIVs = 0;
+    /**
+     * Starts the fusion process if validation is successful.
+     *
+     * If the fusion has a cost, money is withdrawn off of the server thread and the fusion is finished
+     * on the server thread once the withdrawal succeeds. The player's party is checked again before it is changed,
+     * and the money is refunded if the fusion can no longer be done.
+     */
+    public void startFusion(){
+        trace = FusionTrace.start(TraceOperation.FUSION);
+        trace.add(TracePhase.PARTY_LOOKUP, lookupNanos);
+        FusionMetrics.fusionStarted();
+        PlayerSnapshots.invalidate(player.getUniqueId());
+
+        //Refuse new fusions while the server is too far behind, fusions already started still finish.
+        if(TickMonitor.getMode() == LoadMode.REFUSE_FUSIONS){
+            player.sendMessage(Text.of(TextColors.RED, "The server is very busy right now, please try fusing again in a moment."));
+            FusionMetrics.fusionFailed(FailureReason.OVERLOADED);
+            trace.finish();
+            return;
         }
 
-        //Check fuse percent is within 0.0 and 1.0, adjust to 0 or 1 if it isn't.
-        if(fusePercent > 1){
-            fusePercent = 1;
-        }
-        else if(fusePercent < 0){
-            fusePercent = 0;
+        //Validates fusion and sends player error message if it doesn't succeed.
+        //Slots are always checked again, but the preview is reused if it was already computed for this selection.
+        FusionFailure failure = checkSelection();
+        if(failure == null){
+            failure = getPreview().getFusionFailure();
         }
-
-        //Check maximum IV increase is above or equal to 0, adjust to 0 if it isn't.
-        if(maxIncrease < 0){
-            maxIncrease = 0;
+        if(failure != null){
+            player.sendMessage(failure.getMessage());
+            FusionMetrics.fusionFailed(failure.getReason());
+            trace.finish();
+            return;
         }
+        FusionPreview previewed = preview;
 
-        //Check minimum IV increase is above or equal to 0, adjust to 0 if it isn't.
-        if(minIncrease < 0){
-            minIncrease = 0;
+        //Only allow one fusion in progress per player, so a withdrawal can't be made twice for the same Pokemon.
+        if(!pendingFusions.add(player.getUniqueId())){
+            player.sendMessage(Text.of(TextColors.RED, "You already have a fusion in progress."));
+            FusionMetrics.fusionFailed(FailureReason.IN_PROGRESS);
+            trace.finish();
+            return;
         }
 
-        //Check base cost is above or equal to 0, adjust to 0 if it isn't.
-        if(baseCost < 0){
-            baseCost = 0;
+        //Puts player on the fusion command cooldown, stop fusion if they are still on cooldown.
+        CooldownService cooldowns = FusionCommand.getCooldowns();
+        long cooldownStart = trace.begin();
+        long remainingCooldown = cooldowns.tryAcquire(player.getUniqueId(), TimeUnit.SECONDS.toNanos(settings.getCooldown()),
+                settings.getCooldownBurst());
+        trace.end(TracePhase.COOLDOWN, cooldownStart);
+        if(remainingCooldown > 0){
+            pendingFusions.remove(player.getUniqueId());
+            player.sendMessage(FusionCommand.getCooldownText(remainingCooldown));
+            FusionMetrics.cooldownRejected();
+            FusionMetrics.fusionFailed(FailureReason.COOLDOWN);
+            trace.finish();
+            return;
         }
 
-        //Check cost per fusion is above or equal to 0, adjust to 0 if it isn't.
-        if(costPerFusion < 0){
-            costPerFusion = 0;
+        //Try to withdraw money from player off of the server thread, and finish the fusion once it's done.
+        if(settings.isCostEnabled() && EconomyBridge.isAvailable()) {
+            BigDecimal cost = BigDecimal.valueOf(previewed.getCost());
+            long withdrawStart = trace.begin();
+            try{
+                EconomyBridge.withdrawAsync(player.getUniqueId(), cost).whenComplete((result, error) ->
+                        FusionAdmission.runOnServerThread(() -> {
+                            trace.end(TracePhase.WITHDRAW, withdrawStart);
+                            completeWithdrawal(previewed, cost, result, error);
+                        }, () -> abandonWithdrawal(cost, result, error)));
+            }
+            catch(RejectedExecutionException e){
+                player.sendMessage(Text.of(TextColors.RED, "Fusions are busy right now, please try again shortly."));
+                abortFusion(FailureReason.BUSY);
+            }
         }
-
-        //Check cost increase type is equal to Linear or Exponential, set to Linear if it isn't.
-        if(!costIncreaseType.equalsIgnoreCase("Linear")
-                && !costIncreaseType.equalsIgnoreCase("Exponential")){
-            costIncreaseType = "Linear";
+        else{
+            commitFusion(previewed, null, null);
         }
     }
 
     /**
-     * Starts the fusion process if validation is successful.
+     * Finishes a fusion after the withdrawal for it has completed. Must be called on the server thread.
+     *
+     * @param previewed Preview of the fusion that was paid for.
+     * @param cost   Amount that was withdrawn.
+     * @param result Result of the withdrawal, or empty if the player has no account.
+     * @param error  Error thrown during the withdrawal, or null if there was none.
      */
-    public void startFusion(){
-
-        //Validates fusion and sends player error message if it doesn't succeed.
-        Text validation = validateSlots();
-        if(validation != null){
-            player.sendMessage(validation);
+    private void completeWithdrawal(FusionPreview previewed, BigDecimal cost, Optional<TransactionResult> result, Throwable error){
+        if(error != null){
+            Fusions.getLogger().error("Fusion withdrawal failed for " + player.getName() + ".", error);
+            player.sendMessage(Text.of(TextColors.RED, "Your payment could not be processed."));
+            abortFusion(FailureReason.PAYMENT_ERROR);
             return;
         }
 
-        //Try to withdraw money from player, stop fusion if they don't have necessary funds.
-        if(enableCost) {
-
-            //Get economy service if available.
-            Optional<EconomyService> optionalEconomyService = Fusions.getEconomyService();
-            if (optionalEconomyService.isPresent()) {
-                EconomyService economyService = optionalEconomyService.get();
-
-                //Get user account
-                Optional<UniqueAccount> optionalUniqueAccount = economyService.getOrCreateAccount(player.getUniqueId());
-                if (optionalUniqueAccount.isPresent()) {
-                    UniqueAccount uniqueAccount = optionalUniqueAccount.get();
+        //Stop fusion if they don't have necessary funds.
+        if(result.isPresent() && !isPaid(result)){
+            player.sendMessage(Text.of(TextColors.RED, "You do not have enough money."));
+            abortFusion(FailureReason.INSUFFICIENT_FUNDS);
+            return;
+        }
 
-                    double fusionCost = getCost();
+        if(result.isPresent()){
+            commitFusion(previewed, cost, result.get().getCurrency());
+        }
+        else{
+            commitFusion(previewed, null, null);
+        }
+    }
 
-                    //Try to withdraw from player, send message and cancel fusion if they dont have the funds.
-                    EventContext eventContext = EventContext.builder().add(EventContextKeys.PLUGIN, Fusions.getContainer()).build();
-                    Cause cause = Cause.of(eventContext, Fusions.getContainer());
+    /**
+     * Gives back a withdrawal that finished after the plugin stopped, since the fusion can no longer be applied.
+     * Called on the thread that finished the withdrawal.
+     *
+     * @param cost   Amount that was withdrawn.
+     * @param result Result of the withdrawal, or empty if the player has no account.
+     * @param error  Error thrown during the withdrawal, or null if there was none.
+     */
+    private void abandonWithdrawal(BigDecimal cost, Optional<TransactionResult> result, Throwable error){
+        if(error == null && isPaid(result)){
+            refundUnapplied(cost, result.get().getCurrency(), "the server stopped before it could be applied");
+        }
+        FusionMetrics.fusionFailed(FailureReason.SHUTDOWN);
+        pendingFusions.remove(player.getUniqueId());
+    }
 
-                    Currency econCurrency = null;
-                    for(Currency economyCurrency : economyService.getCurrencies()){
-                        if(economyCurrency.getDisplayName().equals(Text.of(currency))){
-                            econCurrency = economyCurrency;
-                        }
-                    }
+    /**
+     * Checks if a withdrawal took money from the player.
+     *
+     * @param result Result of the withdrawal, or empty if the player has no account.
+     * @return True if money was taken, false if it wasn't.
+     */
+    private static boolean isPaid(Optional<TransactionResult> result){
+        return result.isPresent() && result.get().getResult() != ResultType.FAILED
+                && result.get().getResult() != ResultType.ACCOUNT_NO_FUNDS;
+    }
 
-                    if(econCurrency == null){
-                        Fusions.getLogger().warn("Specified currency not found. Using default currency...");
-                        econCurrency = economyService.getDefaultCurrency();
-                    }
+    /**
+     * Refunds a fusion that was paid for but not applied, logging it so it can be followed up if the refund fails.
+     *
+     * @param paid         Amount paid for the fusion.
+     * @param paidCurrency Currency the fusion was paid in.
+     * @param reason       Why the fusion was not applied.
+     */
+    private void refundUnapplied(BigDecimal paid, Currency paidCurrency, String reason){
+        Fusions.getLogger().warn("Fusion for " + player.getName() + " was paid " + paid.toPlainString()
+                + " but not applied because " + reason + ". Refunding.");
+        EconomyBridge.refund(player.getUniqueId(), paid, paidCurrency);
+    }
 
-                    TransactionResult transactionResult = uniqueAccount.withdraw(econCurrency, BigDecimal.valueOf(fusionCost), cause);
+    /**
+     * Applies the previewed fusion once there is room for it in the current or a later tick.
+     *
+     * @param previewed Preview of the fusion to apply.
+     * @param paid         Amount paid for the fusion, or null if nothing was paid.
+     * @param paidCurrency Currency the fusion was paid in, or null if nothing was paid.
+     */
+    private void commitFusion(FusionPreview previewed, BigDecimal paid, Currency paidCurrency){
+        long admissionStart = trace.begin();
+        FusionAdmission.submitCommit(() -> {
+            trace.end(TracePhase.ADMISSION, admissionStart);
+            applyFusion(previewed, paid, paidCurrency);
+        });
+    }
 
-                    if(transactionResult.getResult() == ResultType.FAILED || transactionResult.getResult() == ResultType.ACCOUNT_NO_FUNDS){
-                        player.sendMessage(Text.of(TextColors.RED, "You do not have enough money."));
-                        return;
-                    }
-                }
-            }
+    /**
+     * Checks the fusion still does exactly what was previewed, in case the party changed since the preview was computed.
+     *
+     * @param previewed Preview of the fusion that was started.
+     * @return Rule broken, or null if the fusion still does what was previewed.
+     */
+    private FusionFailure revalidate(FusionPreview previewed){
+        if(!player.isOnline()){
+            return FusionFailure.of(FailureReason.OFFLINE, Text.of(TextColors.RED, "You must be online to fuse pokemon."));
         }
 
-        //Gets new IVs if IV fusion is enabled.
-        int[] fusedIVs = new int[6];
-        if(enableIVs) {
-            fusedIVs = getFusedIVs();
-            pokemon.getIVs().fillFromArray(fusedIVs);
+        //Make sure the same Pokemon are still in the same slots.
+        long lookupStart = trace.begin();
+        PlayerPartyStorage party = Pixelmon.storageManager.getParty(player.getUniqueId());
+        trace.end(TracePhase.PARTY_LOOKUP, lookupStart);
+        if(!isSamePokemon(pokemon, party.get(pokemonIndex))){
+            return FusionFailure.of(FailureReason.PARTY_CHANGED, Text.of(TextColors.RED, "Your party changed before the fusion could finish."));
         }
-
-        //Changes size if Growth fusion is enabled.
-        String sizeChange = null;
-        if(enableGrowth){
-            if(sacrifice.getGrowth().scaleValue > pokemon.getGrowth().scaleValue){
-                pokemon.setGrowth(EnumGrowth.getNextGrowth(pokemon.getGrowth()));
-                sizeChange = "larger";
-            }
-            else if(sacrifice.getGrowth().scaleValue < pokemon.getGrowth().scaleValue){
-                int growthIndex = ((pokemon.getGrowth().index - 1 + EnumGrowth.values().length) % EnumGrowth.values().length);
-                pokemon.setGrowth(EnumGrowth.getGrowthFromIndex(growthIndex));
-                sizeChange = "smaller";
+        this.pokemon = party.get(pokemonIndex);
+        for(int i = 0; i < sacrificeIndexes.size(); i++){
+            Pokemon currentSacrifice = party.get(sacrificeIndexes.get(i));
+            if(!isSamePokemon(sacrifices.get(i), currentSacrifice)){
+                return FusionFailure.of(FailureReason.PARTY_CHANGED, Text.of(TextColors.RED, "Your party changed before the fusion could finish."));
             }
+            sacrifices.set(i, currentSacrifice);
         }
 
-        //Transfers fuse count if sacrifice has fuse count and setting is enabled.
-        boolean fuseCountTransferred = transfersFuseCount();
-        if(fuseCountTransferred){
-            int sacrificeFuseCount = sacrifice.getPersistentData().getInteger("fuseCount");
-            int pokemonFuseCount = pokemon.getPersistentData().getInteger("fuseCount");
-            pokemon.getPersistentData().setInteger("fuseCount", pokemonFuseCount + sacrificeFuseCount);
+        this.pokemonIVs = pokemon.getIVs().getArray();
+        validateSlots();
+        if(!preview.isValid()){
+            return preview.getFusionFailure();
         }
 
-        //Transfers HA if sacrifice has HA and setting is enabled.
-        boolean haTransferred = transfersHA();
-        if(haTransferred){
-            pokemon.setAbilitySlot(2);
-        }
-
-        //Transfers shininess if sacrifice is shiny and setting is enabled.
-        boolean shinyTransferred = transfersShiny();
-        if(shinyTransferred){
-            pokemon.setShiny(true);
+        //Make sure nothing that changes the result or the cost has changed since it was previewed.
+        if(!previewed.hasSameOutcome(preview)){
+            return FusionFailure.of(FailureReason.PARTY_CHANGED, Text.of(TextColors.RED, "Your party changed before the fusion could finish."));
         }
+        return null;
+    }
 
-        //Makes Pokemon unbreedable if setting is enabled.
-        boolean madeUnbreedable = makesUnbreedable();
-        if(madeUnbreedable){
-            new PokemonSpec("unbreedable").apply(pokemon);
-        }
+    /**
+     * Checks if a Pokemon currently in a party slot is the same Pokemon that was selected.
+     *
+     * @param selected Pokemon that was selected.
+     * @param current  Pokemon currently in the slot.
+     * @return True if both are the same Pokemon, false if they aren't.
+     */
+    private static boolean isSamePokemon(Pokemon selected, Pokemon current){
+        return selected != null && current != null && selected.getUUID().equals(current.getUUID());
+    }
 
-        //Adds one to Pokemon's fuse count.
-        pokemon.getPersistentData().setInteger("fuseCount", pokemon.getPersistentData().getInteger("fuseCount") + 1);
+    /**
+     * Ends a fusion that could not be finished, giving back the use it took from the player's cooldown.
+     *
+     * @param reason Reason the fusion could not be finished.
+     */
+    private void abortFusion(FailureReason reason){
+        FusionMetrics.fusionFailed(reason);
+        FusionCommand.getCooldowns().release(player.getUniqueId(), TimeUnit.SECONDS.toNanos(settings.getCooldown()));
+        pendingFusions.remove(player.getUniqueId());
+        trace.finish();
+    }
 
-        //Gets resulting text for fusion.
-        Text fusedText = getFusionResultText(fusedIVs, sizeChange, fuseCountTransferred, haTransferred, shinyTransferred, madeUnbreedable);
+    /**
+     * Applies the previewed fusion to the player's party. Must be called on the server thread.
+     * If the fusion no longer does what was previewed, or fails while being applied, any amount paid is refunded.
+     *
+     * @param previewed Preview of the fusion to apply.
+     * @param paid         Amount paid for the fusion, or null if nothing was paid.
+     * @param paidCurrency Currency the fusion was paid in, or null if nothing was paid.
+     */
+    private void applyFusion(FusionPreview previewed, BigDecimal paid, Currency paidCurrency){
+        try{
+            FusionFailure failure = revalidate(previewed);
+            if(failure != null){
+                Text message = failure.getMessage();
+                if(paid != null){
+                    refundUnapplied(paid, paidCurrency, "it no longer matched the preview");
+                    message = Text.of(message, TextColors.RED, " You have been refunded.");
+                }
+                if(player.isOnline()){
+                    player.sendMessage(message);
+                }
+                abortFusion(failure.getReason());
+                return;
+            }
 
-        //Removes sacrifice from inventory & sends result text.
-        Pixelmon.storageManager.getParty(player.getUniqueId()).set(sacrificeIndex, null);
-        player.sendMessage(fusedText);
+            //Records the fusion before sacrifices are removed, so they can still be identified.
+            FusionRecord record = FusionRecord.of(player, pokemon, sacrifices, previewed, paid);
+            AuditLog.record(record);
+            FusionHistory.record(record);
+
+            //Applies the fusion to the Pokemon, and removes every sacrifice from the party at once.
+            long writeStart = trace.begin();
+            previewed.apply(pokemon);
+            PlayerPartyStorage party = Pixelmon.storageManager.getParty(player.getUniqueId());
+            for(int sacrificeIndex : sacrificeIndexes){
+                party.set(sacrificeIndex, null);
+            }
+            trace.end(TracePhase.PARTY_WRITE, writeStart);
+            PlayerSnapshots.invalidate(player.getUniqueId());
 
-        //Adds player to the fusion command cooldown.
-        FusionCommand.addCooldown(player.getUniqueId());
+            //Sends result text.
+            player.sendMessage(getFusionResultText(previewed));
+            FusionMetrics.fusionCompleted();
+            trace.finish();
+        }
+        catch(RuntimeException e){
+            Fusions.getLogger().error("Fusion for " + player.getName() + " could not be applied.", e);
+            Text message = Text.of(TextColors.RED, "Your fusion could not be completed.");
+            if(paid != null){
+                refundUnapplied(paid, paidCurrency, "it failed while being applied");
+                message = Text.of(message, TextColors.RED, " You have been refunded.");
+            }
+            if(player.isOnline()){
+                player.sendMessage(message);
+            }
+            abortFusion(FailureReason.OTHER);
+        }
+        finally{
+            //Never leave the player stuck with a fusion in progress.
+            pendingFusions.remove(player.getUniqueId());
+        }
     }
 
     /**
      * Gets the resulting text from a fusion, displaying IV changes and any qualities retained from sacrifice.
-     * fusedIVs and sizeChange parameters will not be displayed if their respective features are disabled.
+     * IV and size changes will not be displayed if their respective features are disabled.
      *
-     * @param fusedIVs             Resulting IVs after fusion.
-     * @param sizeChange           Size change after fusion, or empty if no size change.
-     * @param fuseCountTransferred If a fuse count was transferred from the sacrifice.
-     * @param haTransferred        If a HA was transferred from the sacrifice.
-     * @param shinyTransferred     If shininess was transferred from the sacrifice.
+     * @param preview Preview of the fusion that was applied.
      * @return Resulting fusion text
      */
-    private Text getFusionResultText(int[] fusedIVs, String sizeChange, boolean fuseCountTransferred,
-                                     boolean haTransferred, boolean shinyTransferred, boolean madeUnbreedable){
+    private Text getFusionResultText(FusionPreview preview){
+        int[] pokemonIVs = preview.getOriginalIVs();
+        int[] fusedIVs = preview.getFusedIVs();
+        String sizeChange = preview.getSizeChange();
+        boolean fuseCountTransferred = preview.isFuseCountTransferred();
+        boolean haTransferred = preview.isHATransferred();
+        boolean shinyTransferred = preview.isShinyTransferred();
+        boolean madeUnbreedable = preview.isMadeUnbreedable();
+
         Text fusedText = Text.of(TextColors.BLUE, "-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-\n",
-                TextColors.AQUA, TextStyles.BOLD, "Your Pokemon have been fused!\n");
+                TextColors.AQUA, TextStyles.BOLD, (sacrifices.size() > 1) ? "Your Pokemon have been fused with " + sacrifices.size() + " sacrifices!\n"
+                        : "Your Pokemon have been fused!\n");
 
         /* --------------------------------------------------------
          * Displays any IV stat changes if feature is enabled.
          * --------------------------------------------------------
          */
 
-        if(enableIVs){
+        if(settings.isIVsEnabled()){
             for(int i = 0; i < 6; i++) {
                 String type = "";
 
@@ -484,7 +670,7 @@ public class Fusion {
          */
 
         //Add empty line to separate IVs from other qualities.
-        if(sizeChange != null || fuseCountTransferred || haTransferred || shinyTransferred || madeUnbreedable){
+        if(sizeChange != null || fuseCountTransferred || haTransferred || shinyTransferred || madeUnbreedable || !preview.getEffects().isEmpty()){
             fusedText = fusedText.concat(Text.of("\n"));
         }
 
@@ -508,11 +694,25 @@ public class Fusion {
             fusedText = fusedText.concat(Text.of(TextColors.RED, pokemon.getSpecies().name + " can no longer breed!\n"));
         }
 
+        for(Text effect : preview.getEffects()){
+            fusedText = fusedText.concat(Text.of(TextColors.AQUA, effect, "\n"));
+        }
+
         fusedText = fusedText.concat(Text.of(TextColors.BLUE, "-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-*-"));
 
         return fusedText;
     }
 
+    /**
+     * Checks if a player has a fusion that has started but not finished yet, such as one waiting on a payment.
+     *
+     * @param uuid UUID of the player to check.
+     * @return True if the player has a fusion in progress, false if they don't.
+     */
+    public static boolean isFusionInProgress(UUID uuid){
+        return pendingFusions.contains(uuid);
+    }
+
     /**
      * Gets the player doing the fusion.
      *
@@ -533,11 +733,31 @@ public class Fusion {
 
     /**
      * Gets the index of the Pokemon to sacrifice for fusion.
+     * If there are several sacrifices, this is the first of them.
      *
-     * @return The index of the Pokemon to sacrifice for fusion.
+     * @return The index of the Pokemon to sacrifice for fusion, or -1 if there is none.
      */
     public int getSacrificeIndex(){
-        return sacrificeIndex;
+        return sacrificeIndexes.isEmpty() ? -1 : sacrificeIndexes.get(0);
+    }
+
+    /**
+     * Gets the indexes of every Pokemon to sacrifice for fusion, in the order they are fused.
+     *
+     * @return Unmodifiable list of indexes of Pokemon to sacrifice for fusion.
+     */
+    public List<Integer> getSacrificeIndexes(){
+        return Collections.unmodifiableList(sacrificeIndexes);
+    }
+
+    /**
+     * Checks if the Pokemon at an index is one of the sacrifices for fusion.
+     *
+     * @param index Index to check.
+     * @return True if the Pokemon at the index will be sacrificed, false if it won't.
+     */
+    public boolean isSacrificeIndex(int index){
+        return sacrificeIndexes.contains(index);
     }
 
     /**
@@ -551,11 +771,21 @@ public class Fusion {
 
     /**
      * Gets the Pokemon to sacrifice for fusion.
+     * If there are several sacrifices, this is the first of them.
      *
-     * @return The Pokemon to sacrifice for fusion.
+     * @return The Pokemon to sacrifice for fusion, or null if there is none.
      */
     public Pokemon getSacrifice(){
-        return sacrifice;
+        return sacrifices.isEmpty() ? null : sacrifices.get(0);
+    }
+
+    /**
+     * Gets every Pokemon to sacrifice for fusion, in the order they are fused.
+     *
+     * @return Unmodifiable list of Pokemon to sacrifice for fusion.
+     */
+    public List<Pokemon> getSacrifices(){
+        return Collections.unmodifiableList(sacrifices);
     }
 
     /**
@@ -573,11 +803,49 @@ public class Fusion {
      * @return Array with the IVs of the Pokemon to sacrifice for fusion.
      */
     public int[] getSacrificeIVs(){
-        return sacrificeIVs;
+        Pokemon sacrifice = getSacrifice();
+        return (sacrifice != null) ? sacrifice.getIVs().getArray() : null;
     }
 
+    /**
+     * Gets how many times the Pokemon can be fused, using it's species' fuse count override if it has one.
+     *
+     * @return How many times the Pokemon can be fused, or 0 if there is no limit.
+     */
     public int getMaxFuseCount(){
-        return fuseCount;
+        return (pokemon != null) ? settings.getMaxFuseCount(pokemon.getSpecies()) : settings.getMaxFuseCount();
+    }
+
+    /**
+     * Sets the trace that validation and previews are timed with, such as the trace of a GUI render.
+     * Starting the fusion replaces it with a trace of the fusion itself.
+     *
+     * @param trace Trace to time with, or {@link FusionTrace#DISABLED} to stop timing.
+     */
+    public void setTrace(FusionTrace trace){
+        this.trace = trace;
+    }
+
+    /**
+     * Grabs values from configuration node and validates them.
+     *
+     * @deprecated Configuration is now validated once per load into an immutable {@link FusionSettings} snapshot.
+     * This only switches the fusion to the current snapshot from {@link Fusions#getSettings()}, and the preview
+     * is computed again for it. Use {@link #getSettings()} to read settings.
+     */
+    @Deprecated
+    public void loadAndValidateConfig(){
+        this.settings = Fusions.getSettings();
+        this.preview = null;
+    }
+
+    /**
+     * Gets the snapshot of configuration settings this fusion uses.
+     *
+     * @return Snapshot of configuration settings this fusion uses.
+     */
+    public FusionSettings getSettings(){
+        return settings;
     }
 
     /**
@@ -590,6 +858,7 @@ public class Fusion {
             this.pokemonIndex = index;
             this.pokemon = Pixelmon.storageManager.getParty(player.getUniqueId()).get(pokemonIndex);
             this.pokemonIVs = pokemon.getIVs().getArray();
+            this.preview = null;
         }
     }
 
@@ -603,15 +872,42 @@ public class Fusion {
     }
 
     /**
-     * Sets the index of the Pokemon to sacrifice for fusion.
+     * Sets the index of the Pokemon to sacrifice for fusion, replacing any sacrifices already selected.
      *
      * @param index Index of the Pokemon to sacrifice for fusion.
      */
     public void setSacrificeIndex(int index){
         if(index <= 5 && index >= 0){
-            this.sacrificeIndex = index;
-            this.sacrifice = Pixelmon.storageManager.getParty(player.getUniqueId()).get(sacrificeIndex);
-            this.sacrificeIVs = sacrifice.getIVs().getArray();
+            sacrificeIndexes.clear();
+            sacrifices.clear();
+            addSacrificeIndex(index);
+        }
+    }
+
+    /**
+     * Adds a Pokemon to sacrifice for fusion after any sacrifices already selected.
+     *
+     * @param index Index of the Pokemon to sacrifice for fusion.
+     */
+    public void addSacrificeIndex(int index){
+        if(index <= 5 && index >= 0 && !sacrificeIndexes.contains(index)){
+            sacrificeIndexes.add(index);
+            sacrifices.add(Pixelmon.storageManager.getParty(player.getUniqueId()).get(index));
+            this.preview = null;
+        }
+    }
+
+    /**
+     * Removes a Pokemon from the sacrifices for fusion.
+     *
+     * @param index Index of the Pokemon to no longer sacrifice.
+     */
+    public void removeSacrificeIndex(int index){
+        int position = sacrificeIndexes.indexOf(index);
+        if(position >= 0){
+            sacrificeIndexes.remove(position);
+            sacrifices.remove(position);
+            this.preview = null;
         }
     }
 
@@ -627,37 +923,10 @@ public class Fusion {
     /**
      * Gets resulting IVs from fusion.
      *
-     * @return Array with the resulting IVs from fusion.
+     * @return Array with the resulting IVs from fusion, or null if the fusion is not valid.
      */
     public int[] getFusedIVs(){
-
-        //Check pokemon are valid
-        if(validateSlots(pokemonIndex, pokemon, sacrificeIndex, sacrifice) != null){
-            return null;
-        }
-
-        //Generate a new IV set and find the highest IVs
-        int[] newIVs = pokemonIVs.clone();
-
-        List<Integer> indexesToAlter = getHighestIVIndex(sacrificeIVs, numAffectedIVs);
-
-        //Generate new IVs for fusion
-        for(int index : indexesToAlter){
-            int ivToChange = newIVs[index];
-            int sacrificeIV = sacrificeIVs[index];
-
-            int increase = (int) Math.round((sacrificeIV - ivToChange) * fusePercent);
-
-            if(increase > maxIncrease){
-                increase = maxIncrease;
-            }
-            else if(increase < minIncrease){
-                increase = minIncrease;
-            }
-
-            newIVs[index] = ((ivToChange + increase) <= 31) ? ivToChange + increase : 31;
-        }
-        return newIVs;
+        return getPreview().getFusedIVs();
     }
 
     /**
@@ -668,56 +937,14 @@ public class Fusion {
      * @return List of indexes corresponding to the highest IVs from integer array.
      */
     public List<Integer> getHighestIVIndex(int[] ivs, int ivsToGet){
-        List<Integer> indexes = new ArrayList<>();
+        int[] indexes = new int[ivsToGet];
+        IVFusionKernel.selectHighestIVs(pokemonIVs, ivs, ivsToGet, indexes);
 
-        for(int i = 0; i < ivsToGet; i++){
-            int highestIVIndex = 0;
-            int highestValue = 0;
-
-            for(int k = 0; k < ivs.length; k++){
-                if(ivs[k] >= highestValue && !indexes.contains(k) && pokemonIVs[k] != 31){
-                    highestValue = ivs[k];
-                    highestIVIndex = k;
-                }
-            }
-            indexes.add(highestIVIndex);
+        List<Integer> indexList = new ArrayList<>(ivsToGet);
+        for(int index : indexes){
+            indexList.add(index);
         }
-
-        return indexes;
-    }
-
-    /**
-     * Checks if two Pokemon share a type.
-     *
-     * @param pokemon   Pokemon to do fusion on.
-     * @param sacrifice Pokemon to sacrifice for fusion.
-     * @return True if Pokemon share a type, false if they don't.
-     */
-    private boolean hasSharedType(Pokemon pokemon, Pokemon sacrifice){
-        for(EnumType sacrificeType : sacrifice.getBaseStats().getTypeList()){
-            if(pokemon.getBaseStats().getTypeList().contains(sacrificeType)){
-                return true;
-            }
-        }
-        return false;
-    }
-
-    /**
-     * Checks if two Pokemon share an egg group.
-     *
-     * @param pokemon   Pokemon to do fusion on.
-     * @param sacrifice Pokemon to sacrifice for fusion.
-     * @return True if Pokemon share an egg group, false if they don't.
-     */
-    private boolean hasSharedEggGroup(Pokemon pokemon, Pokemon sacrifice){
-        for(EnumEggGroup sacrificeEggGroup : EnumEggGroup.getEggGroups(sacrifice)){
-            for(EnumEggGroup pokemonEggGroup : EnumEggGroup.getEggGroups(pokemon)){
-                if(sacrificeEggGroup == pokemonEggGroup){
-                    return true;
-                }
-            }
-        }
-        return false;
+        return indexList;
     }
 
     /**
@@ -726,11 +953,7 @@ public class Fusion {
      * @return True if fuse count will be transferred from sacrifice during fusion, false if it won't.
      */
     public boolean transfersFuseCount(){
-        if(retainFuseCount) {
-            int sacrificeFuseCount = sacrifice.getPersistentData().getInteger("fuseCount");
-            return sacrificeFuseCount > 0;
-        }
-        return false;
+        return getPreview().isFuseCountTransferred();
     }
 
     /**
@@ -739,12 +962,7 @@ public class Fusion {
      * @return True if HA will be transferred from sacrifice during fusion, false if it won't.
      */
     public boolean transfersHA(){
-        if(retainHA) {
-            if(sacrifice.getAbilitySlot() == 2) {
-                return pokemon.getBaseStats().abilities[2] != null && pokemon.getAbilitySlot() != 2;
-            }
-        }
-        return false;
+        return getPreview().isHATransferred();
     }
 
     /**
@@ -753,10 +971,7 @@ public class Fusion {
      * @return True if shininess will be transferred from sacrifice during fusion, false if it won't.
      */
     public boolean transfersShiny(){
-        if(retainShiny) {
-            return sacrifice.isShiny() && !pokemon.isShiny();
-        }
-        return false;
+        return getPreview().isShinyTransferred();
     }
 
     /**
@@ -765,13 +980,7 @@ public class Fusion {
      * @return True if fusion will make a Pokemon unbreedable, false if it won't.
      */
     public boolean makesUnbreedable(){
-        if(forceUnbreedable) {
-            return !new PokemonSpec("unbreedable").matches(pokemon);
-        }
-        else if(retrainUnbreedable){
-            return new PokemonSpec("unbreedable").matches(sacrifice);
-        }
-        return false;
+        return getPreview().isMadeUnbreedable();
     }
 
     /**
@@ -780,7 +989,7 @@ public class Fusion {
      * @return True if IV altering features are enabled for the plugin, false if they aren't.
      */
     public boolean ivsEnabled(){
-        return enableIVs;
+        return settings.isIVsEnabled();
     }
 
     /**
@@ -789,7 +998,7 @@ public class Fusion {
      * @return True if there is a cost for doing a fusion, false if there isn't a cost.
      */
     public boolean costEnabled(){
-        return enableCost;
+        return settings.isCostEnabled();
     }
 
     /**
@@ -798,7 +1007,7 @@ public class Fusion {
      * @return True if fused Pokemon are unbreedable, false if they are breedable.
      */
     public boolean forceUnbreedable(){
-        return forceUnbreedable;
+        return settings.isForceUnbreedable();
     }
 
     /**
@@ -807,26 +1016,28 @@ public class Fusion {
      * @return Cost of doing a fusion. If cost isn't enabled, returns 0.
      */
     public double getCost(){
-        if(costEnabled()) {
+        return getPreview().getCost();
+    }
+
+    /**
+     * Gets the cost of fusing a Pokemon with a sacrifice, using the Pokemon's species' cost overrides if it has any.
+     *
+     * @param settings           Settings to get costs from.
+     * @param pokemonSpecies     Species of the Pokemon to do fusion on.
+     * @param pokemonFuseCount   Fuse count of the Pokemon to do fusion on.
+     * @param sacrificeFuseCount Fuse count of the Pokemon to sacrifice.
+     * @return Cost of doing a fusion. If cost isn't enabled, returns 0.
+     */
+    public static double getCost(FusionSettings settings, EnumSpecies pokemonSpecies, int pokemonFuseCount, int sacrificeFuseCount){
+        if(settings.isCostEnabled()) {
 
             //Get total fuse count after fusion from Pokemon & sacrifice
-            int fuseCount = 0;
-            if(transfersFuseCount()){
-                fuseCount = pokemon.getPersistentData().getInteger("fuseCount") + sacrifice.getPersistentData().getInteger("fuseCount") + 1;
-            }
-            else{
-                fuseCount = pokemon.getPersistentData().getInteger("fuseCount") + 1;
+            int fuseCount = pokemonFuseCount + 1;
+            if(settings.isRetainFuseCount()){
+                fuseCount += sacrificeFuseCount;
             }
 
-            if (costIncreaseType.equalsIgnoreCase("Exponential")) {
-                return baseCost + Math.pow(costPerFusion, fuseCount);
-            }
-            else  if(costIncreaseType.equalsIgnoreCase("Linear")) {
-                return baseCost + costPerFusion * (fuseCount);
-            }
-            else{
-                return baseCost;
-            }
+            return settings.getCost(pokemonSpecies, fuseCount);
         }
         return 0;
     }
@@ -0,0 +1,194 @@
+package io.github.landonjw.fusions.api;
+
+import com.pixelmonmod.pixelmon.api.pokemon.Pokemon;
+import com.pixelmonmod.pixelmon.enums.EnumGrowth;
+import io.github.landonjw.fusions.configuration.FusionSettings;
+import org.spongepowered.api.text.Text;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Working copy of a Pokemon while a fusion is being previewed.
+ * Fusion rules read and change the values here instead of the Pokemon itself, and the result is turned into
+ * a {@link FusionPreview} once every sacrifice has been fused.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+public final class FusionContext {
+
+    /** Settings the fusion is done with. */
+    private final FusionSettings settings;
+    /** Pokemon being fused. Never changed while previewing. */
+    private final Pokemon pokemon;
+    /** Scratch buffer for IV indexes, shared by every rule. */
+    private final int[] indexBuffer;
+
+    private final int[] originalIVs;
+    private final int[] ivs;
+    private final EnumGrowth originalGrowth;
+    private EnumGrowth growth;
+    private int fuseCount;
+    private int abilitySlot;
+    private boolean shiny;
+    private boolean unbreedable;
+
+    private boolean fuseCountTransferred;
+    private boolean haTransferred;
+    private boolean shinyTransferred;
+    private boolean madeUnbreedable;
+
+    /** Descriptions of changes made by rules that aren't built in, in the order they were made. */
+    private final List<Text> effects = new ArrayList<>();
+    /** Changes made by rules that aren't built in, applied to the Pokemon in order when the fusion is done. */
+    private final List<Consumer<Pokemon>> changes = new ArrayList<>();
+
+    FusionContext(FusionSettings settings, Pokemon pokemon, int[] indexBuffer){
+        this.settings = settings;
+        this.pokemon = pokemon;
+        this.indexBuffer = indexBuffer;
+        this.originalIVs = pokemon.getIVs().getArray();
+        this.ivs = Arrays.copyOf(originalIVs, originalIVs.length);
+        this.originalGrowth = pokemon.getGrowth();
+        this.growth = originalGrowth;
+        this.fuseCount = pokemon.getPersistentData().getInteger("fuseCount");
+        this.abilitySlot = pokemon.getAbilitySlot();
+        this.shiny = pokemon.isShiny();
+        this.unbreedable = FusionPreview.isUnbreedable(pokemon);
+    }
+
+    public FusionSettings getSettings(){
+        return settings;
+    }
+
+    /**
+     * Gets the Pokemon being fused, as it was before the fusion. It must not be changed.
+     *
+     * @return Pokemon being fused.
+     */
+    public Pokemon getPokemon(){
+        return pokemon;
+    }
+
+    /**
+     * Gets a scratch buffer with room for 6 entries, for use with {@link IVFusionKernel}.
+     *
+     * @return Scratch buffer for IV indexes.
+     */
+    public int[] getIndexBuffer(){
+        return indexBuffer;
+    }
+
+    int[] getOriginalIVs(){
+        return originalIVs;
+    }
+
+    /**
+     * Gets the working IVs of the Pokemon. Rules change IVs by writing into this array.
+     *
+     * @return Working IVs of the Pokemon.
+     */
+    public int[] getIVs(){
+        return ivs;
+    }
+
+    EnumGrowth getOriginalGrowth(){
+        return originalGrowth;
+    }
+
+    public EnumGrowth getGrowth(){
+        return growth;
+    }
+
+    public void setGrowth(EnumGrowth growth){
+        this.growth = growth;
+    }
+
+    public int getFuseCount(){
+        return fuseCount;
+    }
+
+    public void setFuseCount(int fuseCount){
+        this.fuseCount = fuseCount;
+    }
+
+    public int getAbilitySlot(){
+        return abilitySlot;
+    }
+
+    public void setAbilitySlot(int abilitySlot){
+        this.abilitySlot = abilitySlot;
+    }
+
+    public boolean isShiny(){
+        return shiny;
+    }
+
+    public void setShiny(boolean shiny){
+        this.shiny = shiny;
+    }
+
+    public boolean isUnbreedable(){
+        return unbreedable;
+    }
+
+    public void setUnbreedable(boolean unbreedable){
+        this.unbreedable = unbreedable;
+    }
+
+    public boolean isFuseCountTransferred(){
+        return fuseCountTransferred;
+    }
+
+    public void setFuseCountTransferred(boolean fuseCountTransferred){
+        this.fuseCountTransferred = fuseCountTransferred;
+    }
+
+    public boolean isHATransferred(){
+        return haTransferred;
+    }
+
+    public void setHATransferred(boolean haTransferred){
+        this.haTransferred = haTransferred;
+    }
+
+    public boolean isShinyTransferred(){
+        return shinyTransferred;
+    }
+
+    public void setShinyTransferred(boolean shinyTransferred){
+        this.shinyTransferred = shinyTransferred;
+    }
+
+    public boolean isMadeUnbreedable(){
+        return madeUnbreedable;
+    }
+
+    public void setMadeUnbreedable(boolean madeUnbreedable){
+        this.madeUnbreedable = madeUnbreedable;
+    }
+
+    /**
+     * Records a change that isn't covered by the built in qualities, such as a nature or Poke Ball.
+     * The description is shown in the GUI and in the fusion result, and the change is applied to the Pokemon
+     * only once the fusion is done.
+     *
+     * @param description Description of the change, ie. "Nature becomes Adamant".
+     * @param change      Applies the change to the Pokemon.
+     */
+    public void addChange(Text description, Consumer<Pokemon> change){
+        effects.add(description);
+        changes.add(change);
+    }
+
+    List<Text> getEffects(){
+        return effects;
+    }
+
+    List<Consumer<Pokemon>> getChanges(){
+        return changes;
+    }
+}
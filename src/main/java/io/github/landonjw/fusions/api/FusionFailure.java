@@ -0,0 +1,53 @@
+package io.github.landonjw.fusions.api;
+
+import io.github.landonjw.fusions.metrics.FailureReason;
+import org.spongepowered.api.text.Text;
+
+/**
+ * Rule broken by a fusion, holding both the reason it failed and the message shown to the player.
+ * The reason is decided where the rule is checked, so it never has to be worked out from the message.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+public final class FusionFailure {
+
+    /** Reason the fusion failed. */
+    private final FailureReason reason;
+    /** Message describing the rule broken, shown to the player. */
+    private final Text message;
+
+    private FusionFailure(FailureReason reason, Text message){
+        this.reason = reason;
+        this.message = message;
+    }
+
+    /**
+     * Creates a failure.
+     *
+     * @param reason  Reason the fusion failed.
+     * @param message Message describing the rule broken, shown to the player.
+     * @return New failure.
+     */
+    public static FusionFailure of(FailureReason reason, Text message){
+        return new FusionFailure(reason, message);
+    }
+
+    /**
+     * Gets the message of a failure.
+     *
+     * @param failure Failure to get message of, or null if there was none.
+     * @return Message of the failure, or null if there was none.
+     */
+    static Text messageOf(FusionFailure failure){
+        return (failure != null) ? failure.message : null;
+    }
+
+    public FailureReason getReason(){
+        return reason;
+    }
+
+    public Text getMessage(){
+        return message;
+    }
+}
@@ -0,0 +1,302 @@
+package io.github.landonjw.fusions.api;
+
+import com.pixelmonmod.pixelmon.api.pokemon.Pokemon;
+import com.pixelmonmod.pixelmon.api.pokemon.PokemonSpec;
+import com.pixelmonmod.pixelmon.enums.EnumGrowth;
+import io.github.landonjw.fusions.configuration.FusionSettings;
+import io.github.landonjw.fusions.metrics.FailureReason;
+import org.spongepowered.api.text.Text;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Immutable preview of fusing one or more sacrifices into a Pokemon, computed without changing either of them.
+ * Holds everything about the fusion in one place: if it's valid, the fused IVs, qualities transferred,
+ * the new fuse count and the cost. The GUI displays it, chat output describes it, and the same preview
+ * is applied when the fusion is done, so a player always gets exactly what they were shown.
+ *
+ * Sacrifices are applied one after another in order, so each sacrifice is fused with the result of the
+ * previous ones, the same as if the player had done each fusion separately. Every rule is checked for each step,
+ * and the cost of each step is added to the total. What each step does to the Pokemon is decided by the
+ * {@link FusionRule}s enabled for the settings, run in the order they were compiled in {@link FusionRuleRegistry}.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+public final class FusionPreview {
+
+    /** Spec used to check and apply unbreedable. */
+    private static final PokemonSpec UNBREEDABLE = new PokemonSpec("unbreedable");
+
+    /** Version of the settings the preview was computed with. */
+    private final long settingsVersion;
+    /** Rule broken by the fusion, or null if the fusion is valid. */
+    private final FusionFailure failure;
+    /** IVs of the Pokemon before fusion. */
+    private final int[] originalIVs;
+    /** IVs of the Pokemon after fusion. */
+    private final int[] fusedIVs;
+    /** Growth of the Pokemon before fusion. */
+    private final EnumGrowth originalGrowth;
+    /** Growth of the Pokemon after fusion. */
+    private final EnumGrowth growth;
+    /** Fuse count of the Pokemon after fusion. */
+    private final int fuseCount;
+    /** If the fuse count of a sacrifice was transferred. */
+    private final boolean fuseCountTransferred;
+    /** If the HA of a sacrifice was transferred. */
+    private final boolean haTransferred;
+    /** If the shininess of a sacrifice was transferred. */
+    private final boolean shinyTransferred;
+    /** If the Pokemon becomes unbreedable. */
+    private final boolean madeUnbreedable;
+    /** Total cost of every step of the fusion. */
+    private final double cost;
+    /** Descriptions of changes made by rules that aren't built in. */
+    private final List<Text> effects;
+    /** Changes made by rules that aren't built in, applied in order when the fusion is done. */
+    private final List<Consumer<Pokemon>> changes;
+
+    private FusionPreview(long settingsVersion, FusionFailure failure, int[] originalIVs, int[] fusedIVs, EnumGrowth originalGrowth, EnumGrowth growth, int fuseCount,
+                       boolean fuseCountTransferred, boolean haTransferred, boolean shinyTransferred, boolean madeUnbreedable, double cost,
+                       List<Text> effects, List<Consumer<Pokemon>> changes){
+        this.settingsVersion = settingsVersion;
+        this.failure = failure;
+        this.originalIVs = originalIVs;
+        this.fusedIVs = fusedIVs;
+        this.originalGrowth = originalGrowth;
+        this.growth = growth;
+        this.fuseCount = fuseCount;
+        this.fuseCountTransferred = fuseCountTransferred;
+        this.haTransferred = haTransferred;
+        this.shinyTransferred = shinyTransferred;
+        this.madeUnbreedable = madeUnbreedable;
+        this.cost = cost;
+        this.effects = effects;
+        this.changes = changes;
+    }
+
+    /**
+     * Creates a preview of a fusion that can not be done.
+     *
+     * @param settings Settings the fusion was checked with.
+     * @param failure  Rule broken by the fusion.
+     * @return Preview of a fusion that can not be done.
+     */
+    public static FusionPreview failed(FusionSettings settings, Text failure){
+        return failed(settings, FusionFailure.of(FailureReason.OTHER, failure));
+    }
+
+    /**
+     * Creates a preview of a fusion that can not be done.
+     *
+     * @param settings Settings the fusion was checked with.
+     * @param failure  Rule broken by the fusion.
+     * @return Preview of a fusion that can not be done.
+     */
+    public static FusionPreview failed(FusionSettings settings, FusionFailure failure){
+        return new FusionPreview(settings.getVersion(), failure, null, null, null, null, 0, false, false, false, false, 0,
+                Collections.emptyList(), Collections.emptyList());
+    }
+
+    /**
+     * Computes the result of fusing sacrifices into a Pokemon.
+     * Only species and fuse count rules are checked; slots and battles must be checked before.
+     *
+     * @param settings    Settings to fuse with.
+     * @param pokemon     Pokemon to do fusion on.
+     * @param sacrifices  Pokemon to sacrifice, in the order they are fused.
+     * @param indexBuffer Scratch buffer for selected IV indexes. Must have room for 6 entries.
+     * @return Preview of the fusion, or a failed preview if any step of the fusion breaks a rule.
+     */
+    public static FusionPreview compute(FusionSettings settings, Pokemon pokemon, List<Pokemon> sacrifices, int[] indexBuffer){
+        CompatibilityIndex compatibilityIndex = settings.getCompatibilityIndex();
+        int pokemonKey = compatibilityIndex.getKey(pokemon);
+        FusionRuleRegistry.TimedRule[] rules = FusionRuleRegistry.getRules(settings);
+
+        FusionContext context = new FusionContext(settings, pokemon, indexBuffer);
+        double cost = 0;
+
+        for(Pokemon sacrifice : sacrifices){
+            int sacrificeFuseCount = sacrifice.getPersistentData().getInteger("fuseCount");
+
+            //Check rules against the Pokemon as it will be after the previous sacrifices.
+            FusionFailure failure = Fusion.checkPair(settings,
+                    pokemon.getSpecies(), pokemonKey, context.getFuseCount(),
+                    sacrifice.getSpecies(), compatibilityIndex.getKey(sacrifice), sacrificeFuseCount);
+            if(failure != null){
+                return failed(settings, failure);
+            }
+
+            cost += Fusion.getCost(settings, pokemon.getSpecies(), context.getFuseCount(), sacrificeFuseCount);
+
+            for(FusionRuleRegistry.TimedRule rule : rules){
+                rule.fuse(context, sacrifice);
+            }
+
+            context.setFuseCount(context.getFuseCount() + 1);
+        }
+
+        return new FusionPreview(settings.getVersion(), null, context.getOriginalIVs(), context.getIVs(),
+                context.getOriginalGrowth(), context.getGrowth(), context.getFuseCount(),
+                context.isFuseCountTransferred(), context.isHATransferred(), context.isShinyTransferred(),
+                context.isMadeUnbreedable(), cost,
+                Collections.unmodifiableList(new ArrayList<>(context.getEffects())),
+                Collections.unmodifiableList(new ArrayList<>(context.getChanges())));
+    }
+
+    /**
+     * Applies the result of the fusion to a Pokemon. Sacrifices are not removed.
+     *
+     * @param pokemon Pokemon to do fusion on. Must be the same Pokemon the preview was computed for.
+     * @throws IllegalStateException If the fusion can not be done.
+     */
+    public void apply(Pokemon pokemon){
+        if(failure != null){
+            throw new IllegalStateException("Can not apply a fusion that breaks a rule.");
+        }
+
+        if(!Arrays.equals(originalIVs, fusedIVs)){
+            pokemon.getIVs().fillFromArray(fusedIVs);
+        }
+        if(growth != originalGrowth){
+            pokemon.setGrowth(growth);
+        }
+        if(haTransferred){
+            pokemon.setAbilitySlot(2);
+        }
+        if(shinyTransferred){
+            pokemon.setShiny(true);
+        }
+        if(madeUnbreedable){
+            UNBREEDABLE.apply(pokemon);
+        }
+        for(Consumer<Pokemon> change : changes){
+            change.accept(pokemon);
+        }
+        pokemon.getPersistentData().setInteger("fuseCount", fuseCount);
+    }
+
+    /**
+     * Checks if another preview has exactly the same outcome as this one.
+     * Used to make sure a fusion still does what was previewed after the party may have changed.
+     *
+     * @param other Preview to compare with.
+     * @return True if both previews have the same outcome, false if they don't.
+     */
+    public boolean hasSameOutcome(FusionPreview other){
+        if(failure != null || other.failure != null){
+            return false;
+        }
+        return settingsVersion == other.settingsVersion
+                && fuseCount == other.fuseCount
+                && growth == other.growth
+                && originalGrowth == other.originalGrowth
+                && fuseCountTransferred == other.fuseCountTransferred
+                && haTransferred == other.haTransferred
+                && shinyTransferred == other.shinyTransferred
+                && madeUnbreedable == other.madeUnbreedable
+                && Double.compare(cost, other.cost) == 0
+                && effects.equals(other.effects)
+                && Arrays.equals(originalIVs, other.originalIVs)
+                && Arrays.equals(fusedIVs, other.fusedIVs);
+    }
+
+    /**
+     * Checks if a Pokemon is unbreedable.
+     *
+     * @param pokemon Pokemon to check.
+     * @return True if the Pokemon is unbreedable, false if it isn't.
+     */
+    public static boolean isUnbreedable(Pokemon pokemon){
+        return UNBREEDABLE.matches(pokemon);
+    }
+
+    /**
+     * Checks if the fusion can be done.
+     *
+     * @return True if the fusion doesn't break any rules, false if it does.
+     */
+    public boolean isValid(){
+        return failure == null;
+    }
+
+    /**
+     * Gets the rule broken by the fusion.
+     *
+     * @return Text consisting the rule broken, or null if everything is valid for fusion.
+     */
+    public Text getFailure(){
+        return FusionFailure.messageOf(failure);
+    }
+
+    /**
+     * Gets the rule broken by the fusion, along with the reason it failed.
+     *
+     * @return Rule broken, or null if everything is valid for fusion.
+     */
+    public FusionFailure getFusionFailure(){
+        return failure;
+    }
+
+    public long getSettingsVersion(){
+        return settingsVersion;
+    }
+
+    public int[] getOriginalIVs(){
+        return (originalIVs != null) ? originalIVs.clone() : null;
+    }
+
+    public int[] getFusedIVs(){
+        return (fusedIVs != null) ? fusedIVs.clone() : null;
+    }
+
+    /**
+     * Gets how the size of the Pokemon changes from the fusion.
+     *
+     * @return "larger" or "smaller" if the Pokemon's size changes, or null if it doesn't.
+     */
+    public String getSizeChange(){
+        if(growth == null || growth == originalGrowth){
+            return null;
+        }
+        return (growth.scaleValue > originalGrowth.scaleValue) ? "larger" : "smaller";
+    }
+
+    public int getFuseCount(){
+        return fuseCount;
+    }
+
+    public boolean isFuseCountTransferred(){
+        return fuseCountTransferred;
+    }
+
+    public boolean isHATransferred(){
+        return haTransferred;
+    }
+
+    public boolean isShinyTransferred(){
+        return shinyTransferred;
+    }
+
+    public boolean isMadeUnbreedable(){
+        return madeUnbreedable;
+    }
+
+    public double getCost(){
+        return cost;
+    }
+
+    /**
+     * Gets descriptions of changes made by rules that aren't built in, such as a nature or Poke Ball.
+     *
+     * @return Read-only list of descriptions, in the order the changes are applied.
+     */
+    public List<Text> getEffects(){
+        return effects;
+    }
+}
@@ -0,0 +1,43 @@
+package io.github.landonjw.fusions.api;
+
+import com.pixelmonmod.pixelmon.api.pokemon.Pokemon;
+import io.github.landonjw.fusions.configuration.FusionSettings;
+
+/**
+ * A quality that a Pokemon can inherit from a sacrifice during fusion, such as IVs or shininess.
+ *
+ * Rules are registered with {@link FusionRuleRegistry}. Whenever the configuration is loaded, every rule that is
+ * enabled is compiled into an ordered array, so rules that are disabled are never called during a fusion.
+ * Rules added by other plugins run exactly the same way as the built in rules.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+public interface FusionRule {
+
+    /**
+     * Gets the name of the rule, used to identify it and report it's execution time.
+     *
+     * @return Name of the rule.
+     */
+    String getName();
+
+    /**
+     * Checks if the rule should be used with the given settings.
+     * Only called when rules are compiled, so this may do as much work as needed.
+     *
+     * @param settings Settings rules are being compiled for.
+     * @return True if the rule should be used, false if it should be skipped.
+     */
+    boolean isEnabled(FusionSettings settings);
+
+    /**
+     * Fuses a sacrifice into the working copy of the Pokemon held by the context.
+     * The Pokemon and sacrifice must not be changed; changes are recorded in the context and only applied
+     * once the fusion is done. With several sacrifices, this is called once for each sacrifice in order.
+     *
+     * @param context   Working copy of the Pokemon being fused.
+     * @param sacrifice Pokemon being sacrificed.
+     */
+    void fuse(FusionContext context, Pokemon sacrifice);
+}
@@ -0,0 +1,207 @@
+package io.github.landonjw.fusions.api;
+
+import com.pixelmonmod.pixelmon.api.pokemon.Pokemon;
+import io.github.landonjw.fusions.api.rules.FuseCountRule;
+import io.github.landonjw.fusions.api.rules.GrowthRule;
+import io.github.landonjw.fusions.api.rules.HiddenAbilityRule;
+import io.github.landonjw.fusions.api.rules.IVRule;
+import io.github.landonjw.fusions.api.rules.ShinyRule;
+import io.github.landonjw.fusions.api.rules.UnbreedableRule;
+import io.github.landonjw.fusions.configuration.FusionSettings;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Registry of every fusion rule, and the compiled array of rules enabled by the current settings.
+ *
+ * Built in rules are registered first, in the order IVs, growth, fuse count, HA, shiny and unbreedable.
+ * Rules from other plugins run after them, in the order they were registered.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+public class FusionRuleRegistry {
+
+    /** Every registered rule, in the order they run. */
+    private static final List<TimedRule> rules = new CopyOnWriteArrayList<>();
+    /** Incremented every time a rule is registered, so compiled rules know when they are out of date. */
+    private static final AtomicLong registryVersion = new AtomicLong();
+
+    /** Rules compiled for the most recent settings. */
+    private static volatile CompiledRules compiled;
+
+    static{
+        register(new IVRule());
+        register(new GrowthRule());
+        register(new FuseCountRule());
+        register(new HiddenAbilityRule());
+        register(new ShinyRule());
+        register(new UnbreedableRule());
+    }
+
+    /**
+     * Registers a rule to run during every fusion it is enabled for.
+     *
+     * @param rule Rule to register.
+     * @throws IllegalArgumentException If a rule with the same name is already registered.
+     */
+    public static void register(FusionRule rule){
+        for(TimedRule registered : rules){
+            if(registered.rule.getName().equalsIgnoreCase(rule.getName())){
+                throw new IllegalArgumentException("A fusion rule named " + rule.getName() + " is already registered.");
+            }
+        }
+        rules.add(new TimedRule(rule));
+        registryVersion.incrementAndGet();
+    }
+
+    /**
+     * Unregisters a rule so it no longer runs during fusions.
+     *
+     * @param name Name of the rule to unregister.
+     * @return True if a rule was unregistered, false if no rule has the name.
+     */
+    public static boolean unregister(String name){
+        boolean removed = rules.removeIf(registered -> registered.rule.getName().equalsIgnoreCase(name));
+        if(removed){
+            registryVersion.incrementAndGet();
+        }
+        return removed;
+    }
+
+    /**
+     * Compiles the rules enabled by settings into an ordered array.
+     * Called when the configuration is loaded; rules are compiled again if one is registered afterwards.
+     *
+     * @param settings Settings to compile rules for.
+     */
+    public static void compile(FusionSettings settings){
+        getRules(settings);
+    }
+
+    /**
+     * Gets the rules enabled by settings, compiling them if they haven't been compiled for these settings yet.
+     *
+     * @param settings Settings to get rules for.
+     * @return Ordered array of enabled rules. Must not be modified.
+     */
+    static TimedRule[] getRules(FusionSettings settings){
+        CompiledRules current = compiled;
+        long version = registryVersion.get();
+        if(current == null || current.settingsVersion != settings.getVersion() || current.registryVersion != version){
+            List<TimedRule> enabled = new ArrayList<>();
+            for(TimedRule rule : rules){
+                if(rule.rule.isEnabled(settings)){
+                    enabled.add(rule);
+                }
+            }
+            current = new CompiledRules(settings.getVersion(), version, enabled.toArray(new TimedRule[0]));
+            compiled = current;
+        }
+        return current.rules;
+    }
+
+    /**
+     * Gets the execution time of every registered rule.
+     *
+     * @return Map of rule names to their execution times, in the order the rules run.
+     */
+    public static Map<String, RuleTimings> getTimings(){
+        Map<String, RuleTimings> timings = new LinkedHashMap<>();
+        for(TimedRule rule : rules){
+            timings.put(rule.rule.getName(), new RuleTimings(rule.calls.sum(), rule.nanos.sum()));
+        }
+        return Collections.unmodifiableMap(timings);
+    }
+
+    /**
+     * A registered rule along with how long it has taken to run.
+     */
+    static final class TimedRule {
+
+        private final FusionRule rule;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        private TimedRule(FusionRule rule){
+            this.rule = rule;
+        }
+
+        /**
+         * Fuses a sacrifice with the rule, recording how long it took.
+         *
+         * @param context   Working copy of the Pokemon being fused.
+         * @param sacrifice Pokemon being sacrificed.
+         */
+        void fuse(FusionContext context, Pokemon sacrifice){
+            long start = System.nanoTime();
+            rule.fuse(context, sacrifice);
+            nanos.add(System.nanoTime() - start);
+            calls.increment();
+        }
+    }
+
+    /**
+     * Rules enabled by a version of settings, with the registry version they were compiled from.
+     */
+    private static final class CompiledRules {
+
+        private final long settingsVersion;
+        private final long registryVersion;
+        private final TimedRule[] rules;
+
+        private CompiledRules(long settingsVersion, long registryVersion, TimedRule[] rules){
+            this.settingsVersion = settingsVersion;
+            this.registryVersion = registryVersion;
+            this.rules = rules;
+        }
+    }
+
+    /**
+     * Snapshot of how long a rule has taken to run.
+     */
+    public static final class RuleTimings {
+
+        private final long calls;
+        private final long totalNanos;
+
+        private RuleTimings(long calls, long totalNanos){
+            this.calls = calls;
+            this.totalNanos = totalNanos;
+        }
+
+        /**
+         * Gets how many times the rule has run.
+         *
+         * @return Number of times the rule has run.
+         */
+        public long getCalls(){
+            return calls;
+        }
+
+        /**
+         * Gets the total time the rule has spent running.
+         *
+         * @return Total time spent running in nanoseconds.
+         */
+        public long getTotalNanos(){
+            return totalNanos;
+        }
+
+        /**
+         * Gets the average time the rule takes to run.
+         *
+         * @return Average time in nanoseconds, or 0 if the rule hasn't run.
+         */
+        public long getAverageNanos(){
+            return (calls > 0) ? totalNanos / calls : 0;
+        }
+    }
+}
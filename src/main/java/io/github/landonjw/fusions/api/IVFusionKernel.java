@@ -0,0 +1,138 @@
+package io.github.landonjw.fusions.api;
+
+import io.github.landonjw.fusions.configuration.FusionSettings;
+
+/**
+ * Allocation-free computation of fused IVs over primitive arrays.
+ * All results are written into buffers supplied by the caller, so the same buffers can be reused between fusions.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+public final class IVFusionKernel {
+
+    /** Number of IVs a Pokemon has. */
+    public static final int NUM_IVS = 6;
+    /** Highest value an IV can have. */
+    public static final int MAX_IV = 31;
+
+    private IVFusionKernel(){
+    }
+
+    /**
+     * Selects the indexes of the highest IVs of a sacrifice, skipping IVs the Pokemon already has at 31.
+     *
+     * Ties are given to the later index. If there are fewer selectable IVs than requested, index 0 is selected
+     * for each remaining pick, the same as every previous version of the plugin.
+     *
+     * @param pokemonIVs   IVs of the Pokemon to do fusion on.
+     * @param sacrificeIVs IVs of the Pokemon to sacrifice.
+     * @param ivsToGet     How many IVs to select.
+     * @param outIndexes   Buffer to write selected indexes into. Must have room for ivsToGet entries.
+     * @return Number of indexes written, equal to ivsToGet.
+     */
+    public static int selectHighestIVs(int[] pokemonIVs, int[] sacrificeIVs, int ivsToGet, int[] outIndexes){
+        return selectHighestIVs(pokemonIVs, sacrificeIVs, 0, ivsToGet, outIndexes);
+    }
+
+    /**
+     * Computes the IVs of a Pokemon after being fused with a sacrifice.
+     *
+     * @param pokemonIVs   IVs of the Pokemon to do fusion on.
+     * @param sacrificeIVs IVs of the Pokemon to sacrifice.
+     * @param numAffected  Number of IVs to grab from the sacrifice.
+     * @param fusePercent  Percent of the difference between IVs to add to the Pokemon.
+     * @param minIncrease  Lowest amount to increase an affected IV by.
+     * @param maxIncrease  Highest amount to increase an affected IV by.
+     * @param outIVs       Buffer to write fused IVs into. May be the same array as pokemonIVs.
+     * @param indexBuffer  Scratch buffer for selected indexes. Must have room for numAffected entries.
+     */
+    public static void fuseIVs(int[] pokemonIVs, int[] sacrificeIVs, int numAffected, double fusePercent,
+                               int minIncrease, int maxIncrease, int[] outIVs, int[] indexBuffer){
+        fuseIVs(pokemonIVs, sacrificeIVs, 0, numAffected, fusePercent, minIncrease, maxIncrease, outIVs, 0, indexBuffer);
+    }
+
+    /**
+     * Computes the IVs of a Pokemon after being fused with a sacrifice, using IV settings from configuration.
+     *
+     * @param settings     Settings to get IV fusion values from.
+     * @param pokemonIVs   IVs of the Pokemon to do fusion on.
+     * @param sacrificeIVs IVs of the Pokemon to sacrifice.
+     * @param outIVs       Buffer to write fused IVs into. May be the same array as pokemonIVs.
+     * @param indexBuffer  Scratch buffer for selected indexes. Must have room for 6 entries.
+     */
+    public static void fuseIVs(FusionSettings settings, int[] pokemonIVs, int[] sacrificeIVs, int[] outIVs, int[] indexBuffer){
+        fuseIVs(pokemonIVs, sacrificeIVs, 0, settings.getNumAffectedIVs(), settings.getFusePercent(),
+                settings.getMinIncrease(), settings.getMaxIncrease(), outIVs, 0, indexBuffer);
+    }
+
+    /**
+     * Computes the IVs of a Pokemon after being fused with each of several candidate sacrifices.
+     * Each candidate is fused with the Pokemon independently.
+     *
+     * @param settings     Settings to get IV fusion values from.
+     * @param pokemonIVs   IVs of the Pokemon to do fusion on.
+     * @param sacrificeIVs IVs of every candidate, 6 entries per candidate one after another.
+     * @param candidates   Number of candidates.
+     * @param outIVs       Buffer to write fused IVs into, 6 entries per candidate in the same order.
+     * @param indexBuffer  Scratch buffer for selected indexes. Must have room for 6 entries.
+     */
+    public static void fuseIVsBatch(FusionSettings settings, int[] pokemonIVs, int[] sacrificeIVs, int candidates,
+                                    int[] outIVs, int[] indexBuffer){
+        int numAffected = settings.getNumAffectedIVs();
+        double fusePercent = settings.getFusePercent();
+        int minIncrease = settings.getMinIncrease();
+        int maxIncrease = settings.getMaxIncrease();
+
+        for(int candidate = 0; candidate < candidates; candidate++){
+            int offset = candidate * NUM_IVS;
+            fuseIVs(pokemonIVs, sacrificeIVs, offset, numAffected, fusePercent, minIncrease, maxIncrease, outIVs, offset, indexBuffer);
+        }
+    }
+
+    private static int selectHighestIVs(int[] pokemonIVs, int[] sacrificeIVs, int sacrificeOffset, int ivsToGet, int[] outIndexes){
+        //Bit k is set once index k has been selected.
+        int selected = 0;
+
+        for(int i = 0; i < ivsToGet; i++){
+            int highestIVIndex = 0;
+            int highestValue = 0;
+
+            for(int k = 0; k < NUM_IVS; k++){
+                int sacrificeIV = sacrificeIVs[sacrificeOffset + k];
+                if(sacrificeIV >= highestValue && (selected & (1 << k)) == 0 && pokemonIVs[k] != MAX_IV){
+                    highestValue = sacrificeIV;
+                    highestIVIndex = k;
+                }
+            }
+            selected |= 1 << highestIVIndex;
+            outIndexes[i] = highestIVIndex;
+        }
+        return ivsToGet;
+    }
+
+    private static void fuseIVs(int[] pokemonIVs, int[] sacrificeIVs, int sacrificeOffset, int numAffected, double fusePercent,
+                                int minIncrease, int maxIncrease, int[] outIVs, int outOffset, int[] indexBuffer){
+        int count = selectHighestIVs(pokemonIVs, sacrificeIVs, sacrificeOffset, numAffected, indexBuffer);
+
+        if(outIVs != pokemonIVs || outOffset != 0){
+            System.arraycopy(pokemonIVs, 0, outIVs, outOffset, NUM_IVS);
+        }
+
+        for(int i = 0; i < count; i++){
+            int index = indexBuffer[i];
+            int ivToChange = outIVs[outOffset + index];
+
+            int increase = (int) Math.round((sacrificeIVs[sacrificeOffset + index] - ivToChange) * fusePercent);
+
+            if(increase > maxIncrease){
+                increase = maxIncrease;
+            }
+            else if(increase < minIncrease){
+                increase = minIncrease;
+            }
+
+            outIVs[outOffset + index] = Math.min(ivToChange + increase, MAX_IV);
+        }
+    }
+}
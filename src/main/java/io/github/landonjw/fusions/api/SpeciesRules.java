@@ -0,0 +1,335 @@
+package io.github.landonjw.fusions.api;
+
+import com.pixelmonmod.pixelmon.enums.EnumSpecies;
+import io.github.landonjw.fusions.configuration.FuseGroup;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Read-only registry of rules that apply to individual species, such as banlists, fuse group overrides,
+ * and fuse count and cost overrides.
+ * Lookups are indexed by species ordinal, so every check is constant time regardless of list sizes.
+ * A registry is never modified after it is built; reloading the configuration builds a new one instead.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+public final class SpeciesRules {
+
+    /** Species banned from fusing. */
+    private final EnumSet<EnumSpecies> bannedFusion;
+    /** Species banned from sacrificing. */
+    private final EnumSet<EnumSpecies> bannedSacrifice;
+    /** Species that can be fused with any sacrifice, regardless of banlists and fuse groups. */
+    private final EnumSet<EnumSpecies> alwaysFusable;
+    /** Species that can be sacrificed to any Pokemon, regardless of banlists and fuse groups. */
+    private final EnumSet<EnumSpecies> alwaysSacrificeable;
+    /** Fuse group override for each species, indexed by ordinal. Null if a species has no override. */
+    private final FuseGroup[] groupOverrides;
+    /** Fuse count override for each species, indexed by ordinal. -1 if a species has no override. */
+    private final int[] fuseCountOverrides;
+    /** Base cost override for each species, indexed by ordinal. NaN if a species has no override. */
+    private final double[] baseCostOverrides;
+    /** Cost per fusion override for each species, indexed by ordinal. NaN if a species has no override. */
+    private final double[] costPerFusionOverrides;
+
+    private SpeciesRules(Builder builder){
+        this.alwaysFusable = EnumSet.copyOf(builder.alwaysFusable);
+        this.alwaysSacrificeable = EnumSet.copyOf(builder.alwaysSacrificeable);
+        this.bannedFusion = EnumSet.copyOf(builder.bannedFusion);
+        this.bannedFusion.removeAll(alwaysFusable);
+        this.bannedSacrifice = EnumSet.copyOf(builder.bannedSacrifice);
+        this.bannedSacrifice.removeAll(alwaysSacrificeable);
+        this.groupOverrides = builder.groupOverrides.clone();
+        this.fuseCountOverrides = builder.fuseCountOverrides.clone();
+        this.baseCostOverrides = builder.baseCostOverrides.clone();
+        this.costPerFusionOverrides = builder.costPerFusionOverrides.clone();
+    }
+
+    /**
+     * Checks if a species is banned from fusing.
+     *
+     * @param species Species to check.
+     * @return True if species is banned from fusing, false if it isn't.
+     */
+    public boolean isFusionBanned(EnumSpecies species){
+        return bannedFusion.contains(species);
+    }
+
+    /**
+     * Checks if a species is banned from being sacrificed.
+     *
+     * @param species Species to check.
+     * @return True if species is banned from being sacrificed, false if it isn't.
+     */
+    public boolean isSacrificeBanned(EnumSpecies species){
+        return bannedSacrifice.contains(species);
+    }
+
+    /**
+     * Checks if a species can be fused with any sacrifice, regardless of banlists and fuse groups.
+     *
+     * @param species Species to check.
+     * @return True if species is always fusable, false if it isn't.
+     */
+    public boolean isAlwaysFusable(EnumSpecies species){
+        return alwaysFusable.contains(species);
+    }
+
+    /**
+     * Checks if a species can be sacrificed to any Pokemon, regardless of banlists and fuse groups.
+     *
+     * @param species Species to check.
+     * @return True if species is always sacrificeable, false if it isn't.
+     */
+    public boolean isAlwaysSacrificeable(EnumSpecies species){
+        return alwaysSacrificeable.contains(species);
+    }
+
+    /**
+     * Gets the fuse group a species overrides the configured fuse group with.
+     *
+     * @param species Species to check.
+     * @return Fuse group override of the species, or null if it doesn't have one.
+     */
+    public FuseGroup getGroupOverride(EnumSpecies species){
+        return groupOverrides[species.ordinal()];
+    }
+
+    /**
+     * Gets the fuse group used when a species is fused.
+     *
+     * @param species      Species to check.
+     * @param defaultGroup Fuse group to use if the species doesn't have an override.
+     * @return Fuse group used when the species is fused.
+     */
+    public FuseGroup getFuseGroup(EnumSpecies species, FuseGroup defaultGroup){
+        FuseGroup override = groupOverrides[species.ordinal()];
+        return (override != null) ? override : defaultGroup;
+    }
+
+    /**
+     * Gets how many times a species can be fused.
+     *
+     * @param species      Species to check.
+     * @param defaultCount Fuse count to use if the species doesn't have an override.
+     * @return How many times the species can be fused, or 0 if there is no limit.
+     */
+    public int getMaxFuseCount(EnumSpecies species, int defaultCount){
+        int override = fuseCountOverrides[species.ordinal()];
+        return (override >= 0) ? override : defaultCount;
+    }
+
+    /**
+     * Gets the base cost of fusing a species.
+     *
+     * @param species     Species to check.
+     * @param defaultCost Base cost to use if the species doesn't have an override.
+     * @return Base cost of fusing the species.
+     */
+    public double getBaseCost(EnumSpecies species, double defaultCost){
+        double override = baseCostOverrides[species.ordinal()];
+        return !Double.isNaN(override) ? override : defaultCost;
+    }
+
+    /**
+     * Gets the additional cost per fusion on a species.
+     *
+     * @param species     Species to check.
+     * @param defaultCost Cost per fusion to use if the species doesn't have an override.
+     * @return Cost per fusion on the species.
+     */
+    public double getCostPerFusion(EnumSpecies species, double defaultCost){
+        double override = costPerFusionOverrides[species.ordinal()];
+        return !Double.isNaN(override) ? override : defaultCost;
+    }
+
+    /**
+     * Gets all species banned from fusing.
+     *
+     * @return Unmodifiable set of species banned from fusing.
+     */
+    public Set<EnumSpecies> getBannedFusionSpecies(){
+        return Collections.unmodifiableSet(bannedFusion);
+    }
+
+    /**
+     * Gets all species banned from being sacrificed.
+     *
+     * @return Unmodifiable set of species banned from being sacrificed.
+     */
+    public Set<EnumSpecies> getBannedSacrificeSpecies(){
+        return Collections.unmodifiableSet(bannedSacrifice);
+    }
+
+    /**
+     * Gets all species that override the configured fuse group with a given group.
+     *
+     * @param group Fuse group to get overriding species for.
+     * @return Set of species that use the given group.
+     */
+    public Set<EnumSpecies> getGroupOverrides(FuseGroup group){
+        EnumSet<EnumSpecies> species = EnumSet.noneOf(EnumSpecies.class);
+        for(EnumSpecies value : EnumSpecies.values()){
+            if(groupOverrides[value.ordinal()] == group){
+                species.add(value);
+            }
+        }
+        return Collections.unmodifiableSet(species);
+    }
+
+    /**
+     * Creates a new builder for species rules.
+     *
+     * @return New builder with no rules.
+     */
+    public static Builder builder(){
+        return new Builder();
+    }
+
+    /**
+     * Builder for species rules. Not thread safe, but the rules it builds are.
+     */
+    public static final class Builder {
+
+        private final EnumSet<EnumSpecies> bannedFusion = EnumSet.noneOf(EnumSpecies.class);
+        private final EnumSet<EnumSpecies> bannedSacrifice = EnumSet.noneOf(EnumSpecies.class);
+        private final EnumSet<EnumSpecies> alwaysFusable = EnumSet.noneOf(EnumSpecies.class);
+        private final EnumSet<EnumSpecies> alwaysSacrificeable = EnumSet.noneOf(EnumSpecies.class);
+        private final FuseGroup[] groupOverrides = new FuseGroup[EnumSpecies.values().length];
+        private final int[] fuseCountOverrides = new int[EnumSpecies.values().length];
+        private final double[] baseCostOverrides = new double[EnumSpecies.values().length];
+        private final double[] costPerFusionOverrides = new double[EnumSpecies.values().length];
+
+        private Builder(){
+            Arrays.fill(fuseCountOverrides, -1);
+            Arrays.fill(baseCostOverrides, Double.NaN);
+            Arrays.fill(costPerFusionOverrides, Double.NaN);
+        }
+
+        /**
+         * Makes species able to be fused with any sacrifice. Takes priority over the fusion banlist and fuse groups.
+         *
+         * @param species Species to make always fusable.
+         * @return This builder.
+         */
+        public Builder alwaysFusable(Collection<EnumSpecies> species){
+            alwaysFusable.addAll(species);
+            return this;
+        }
+
+        /**
+         * Makes species able to be sacrificed to any Pokemon. Takes priority over the sacrifice banlist and fuse groups.
+         *
+         * @param species Species to make always sacrificeable.
+         * @return This builder.
+         */
+        public Builder alwaysSacrificeable(Collection<EnumSpecies> species){
+            alwaysSacrificeable.addAll(species);
+            return this;
+        }
+
+        /**
+         * Adds species to the banlist for fusing.
+         *
+         * @param species   Species parsed from the banlist.
+         * @param whitelist If the list is a whitelist, in which case every other species is banned instead.
+         * @return This builder.
+         */
+        public Builder banFusion(Collection<EnumSpecies> species, boolean whitelist){
+            ban(bannedFusion, species, whitelist);
+            return this;
+        }
+
+        /**
+         * Adds species to the banlist for sacrificing.
+         *
+         * @param species   Species parsed from the banlist.
+         * @param whitelist If the list is a whitelist, in which case every other species is banned instead.
+         * @return This builder.
+         */
+        public Builder banSacrifice(Collection<EnumSpecies> species, boolean whitelist){
+            ban(bannedSacrifice, species, whitelist);
+            return this;
+        }
+
+        /**
+         * Makes species use a fuse group instead of the configured fuse group.
+         * If a species is given more than one override, the first override given is used.
+         *
+         * @param species Species to override fuse group of.
+         * @param group   Fuse group the species should use.
+         * @return This builder.
+         */
+        public Builder overrideGroup(Collection<EnumSpecies> species, FuseGroup group){
+            for(EnumSpecies value : species){
+                if(groupOverrides[value.ordinal()] == null){
+                    groupOverrides[value.ordinal()] = group;
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Makes species use a fuse count limit instead of the configured fuse count.
+         * If a species is given more than one override, the first override given is used.
+         *
+         * @param species   Species to override fuse count of.
+         * @param fuseCount How many times the species can be fused, or 0 for no limit.
+         * @return This builder.
+         */
+        public Builder overrideFuseCount(Collection<EnumSpecies> species, int fuseCount){
+            for(EnumSpecies value : species){
+                if(fuseCountOverrides[value.ordinal()] < 0){
+                    fuseCountOverrides[value.ordinal()] = fuseCount;
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Makes species use costs instead of the configured costs.
+         * If a species is given more than one override, the first override given is used.
+         *
+         * @param species       Species to override costs of.
+         * @param baseCost      Base cost of fusing the species, or NaN to use the configured base cost.
+         * @param costPerFusion Cost per fusion on the species, or NaN to use the configured cost per fusion.
+         * @return This builder.
+         */
+        public Builder overrideCost(Collection<EnumSpecies> species, double baseCost, double costPerFusion){
+            for(EnumSpecies value : species){
+                if(Double.isNaN(baseCostOverrides[value.ordinal()])){
+                    baseCostOverrides[value.ordinal()] = baseCost;
+                }
+                if(Double.isNaN(costPerFusionOverrides[value.ordinal()])){
+                    costPerFusionOverrides[value.ordinal()] = costPerFusion;
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Builds the species rules.
+         *
+         * @return Species rules with all rules added to this builder.
+         */
+        public SpeciesRules build(){
+            return new SpeciesRules(this);
+        }
+
+        private static void ban(EnumSet<EnumSpecies> banned, Collection<EnumSpecies> species, boolean whitelist){
+            if(whitelist){
+                EnumSet<EnumSpecies> allowed = EnumSet.noneOf(EnumSpecies.class);
+                allowed.addAll(species);
+                banned.addAll(EnumSet.complementOf(allowed));
+            }
+            else{
+                banned.addAll(species);
+            }
+        }
+    }
+}
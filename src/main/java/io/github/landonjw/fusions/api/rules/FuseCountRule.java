@@ -0,0 +1,34 @@
+package io.github.landonjw.fusions.api.rules;
+
+import com.pixelmonmod.pixelmon.api.pokemon.Pokemon;
+import io.github.landonjw.fusions.api.FusionContext;
+import io.github.landonjw.fusions.api.FusionRule;
+import io.github.landonjw.fusions.configuration.FusionSettings;
+
+/**
+ * Adds the sacrifice's fuse count to the Pokemon's fuse count.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+public class FuseCountRule implements FusionRule {
+
+    @Override
+    public String getName(){
+        return "Fuse-Count";
+    }
+
+    @Override
+    public boolean isEnabled(FusionSettings settings){
+        return settings.isRetainFuseCount();
+    }
+
+    @Override
+    public void fuse(FusionContext context, Pokemon sacrifice){
+        int sacrificeFuseCount = sacrifice.getPersistentData().getInteger("fuseCount");
+        if(sacrificeFuseCount > 0){
+            context.setFuseCount(context.getFuseCount() + sacrificeFuseCount);
+            context.setFuseCountTransferred(true);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.landonjw.fusions.api.rules;
+
+import com.pixelmonmod.pixelmon.api.pokemon.Pokemon;
+import com.pixelmonmod.pixelmon.enums.EnumGrowth;
+import io.github.landonjw.fusions.api.FusionContext;
+import io.github.landonjw.fusions.api.FusionRule;
+import io.github.landonjw.fusions.configuration.FusionSettings;
+
+/**
+ * Moves the Pokemon's growth one step towards the growth of the sacrifice.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+public class GrowthRule implements FusionRule {
+
+    @Override
+    public String getName(){
+        return "Growth";
+    }
+
+    @Override
+    public boolean isEnabled(FusionSettings settings){
+        return settings.isGrowthEnabled();
+    }
+
+    @Override
+    public void fuse(FusionContext context, Pokemon sacrifice){
+        EnumGrowth growth = context.getGrowth();
+        if(sacrifice.getGrowth().scaleValue > growth.scaleValue){
+            context.setGrowth(EnumGrowth.getNextGrowth(growth));
+        }
+        else if(sacrifice.getGrowth().scaleValue < growth.scaleValue){
+            int growthIndex = ((growth.index - 1 + EnumGrowth.values().length) % EnumGrowth.values().length);
+            context.setGrowth(EnumGrowth.getGrowthFromIndex(growthIndex));
+        }
+    }
+}
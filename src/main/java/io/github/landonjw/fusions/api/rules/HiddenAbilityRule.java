@@ -0,0 +1,34 @@
+package io.github.landonjw.fusions.api.rules;
+
+import com.pixelmonmod.pixelmon.api.pokemon.Pokemon;
+import io.github.landonjw.fusions.api.FusionContext;
+import io.github.landonjw.fusions.api.FusionRule;
+import io.github.landonjw.fusions.configuration.FusionSettings;
+
+/**
+ * Gives the Pokemon it's hidden ability if the sacrifice has it's hidden ability.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+public class HiddenAbilityRule implements FusionRule {
+
+    @Override
+    public String getName(){
+        return "HA";
+    }
+
+    @Override
+    public boolean isEnabled(FusionSettings settings){
+        return settings.isRetainHA();
+    }
+
+    @Override
+    public void fuse(FusionContext context, Pokemon sacrifice){
+        if(sacrifice.getAbilitySlot() == 2 && context.getAbilitySlot() != 2
+                && context.getPokemon().getBaseStats().abilities[2] != null){
+            context.setAbilitySlot(2);
+            context.setHATransferred(true);
+        }
+    }
+}
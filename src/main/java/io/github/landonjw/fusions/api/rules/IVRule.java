@@ -0,0 +1,32 @@
+package io.github.landonjw.fusions.api.rules;
+
+import com.pixelmonmod.pixelmon.api.pokemon.Pokemon;
+import io.github.landonjw.fusions.api.FusionContext;
+import io.github.landonjw.fusions.api.FusionRule;
+import io.github.landonjw.fusions.api.IVFusionKernel;
+import io.github.landonjw.fusions.configuration.FusionSettings;
+
+/**
+ * Increases the Pokemon's IVs towards the highest IVs of the sacrifice.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+public class IVRule implements FusionRule {
+
+    @Override
+    public String getName(){
+        return "IVs";
+    }
+
+    @Override
+    public boolean isEnabled(FusionSettings settings){
+        return settings.isIVsEnabled();
+    }
+
+    @Override
+    public void fuse(FusionContext context, Pokemon sacrifice){
+        int[] ivs = context.getIVs();
+        IVFusionKernel.fuseIVs(context.getSettings(), ivs, sacrifice.getIVs().getArray(), ivs, context.getIndexBuffer());
+    }
+}
@@ -0,0 +1,33 @@
+package io.github.landonjw.fusions.api.rules;
+
+import com.pixelmonmod.pixelmon.api.pokemon.Pokemon;
+import io.github.landonjw.fusions.api.FusionContext;
+import io.github.landonjw.fusions.api.FusionRule;
+import io.github.landonjw.fusions.configuration.FusionSettings;
+
+/**
+ * Makes the Pokemon shiny if the sacrifice is shiny.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+public class ShinyRule implements FusionRule {
+
+    @Override
+    public String getName(){
+        return "Shiny";
+    }
+
+    @Override
+    public boolean isEnabled(FusionSettings settings){
+        return settings.isRetainShiny();
+    }
+
+    @Override
+    public void fuse(FusionContext context, Pokemon sacrifice){
+        if(sacrifice.isShiny() && !context.isShiny()){
+            context.setShiny(true);
+            context.setShinyTransferred(true);
+        }
+    }
+}
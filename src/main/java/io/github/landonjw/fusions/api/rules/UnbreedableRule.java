@@ -0,0 +1,34 @@
+package io.github.landonjw.fusions.api.rules;
+
+import com.pixelmonmod.pixelmon.api.pokemon.Pokemon;
+import io.github.landonjw.fusions.api.FusionContext;
+import io.github.landonjw.fusions.api.FusionPreview;
+import io.github.landonjw.fusions.api.FusionRule;
+import io.github.landonjw.fusions.configuration.FusionSettings;
+
+/**
+ * Makes the Pokemon unbreedable, either always or only when the sacrifice is unbreedable.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+public class UnbreedableRule implements FusionRule {
+
+    @Override
+    public String getName(){
+        return "Unbreedable";
+    }
+
+    @Override
+    public boolean isEnabled(FusionSettings settings){
+        return settings.isForceUnbreedable() || settings.isRetainUnbreedable();
+    }
+
+    @Override
+    public void fuse(FusionContext context, Pokemon sacrifice){
+        if(!context.isUnbreedable() && (context.getSettings().isForceUnbreedable() || FusionPreview.isUnbreedable(sacrifice))){
+            context.setUnbreedable(true);
+            context.setMadeUnbreedable(true);
+        }
+    }
+}
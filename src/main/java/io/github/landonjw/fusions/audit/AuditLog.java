@@ -0,0 +1,250 @@
+package io.github.landonjw.fusions.audit;
+
+import io.github.landonjw.fusions.Fusions;
+import io.github.landonjw.fusions.configuration.FusionSettings;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Append-only log of every fusion committed to a player's party, used to look into reports of lost Pokemon.
+ *
+ * Recording a fusion only adds it to a lock-free queue. A background thread drains the queue about once a second,
+ * formats every record and appends them to the log in one write. The log is rotated when it grows past the configured
+ * size or a new day starts, and rotated files may be compressed with gzip.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+public class AuditLog {
+
+    /** Name of the file currently being written to. */
+    private static final String FILE_NAME = "fusions.log";
+    /** How long the writer waits between draining the queue. */
+    private static final long FLUSH_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+    /** Records waiting to be written. */
+    private static final ConcurrentLinkedQueue<FusionRecord> queue = new ConcurrentLinkedQueue<>();
+
+    /** Directory audit logs are written to. */
+    private static Path dir;
+    /** Thread writing records, or null if it isn't running. */
+    private static volatile Thread writer;
+    /** Settings the writer rotates files with. */
+    private static volatile FusionSettings settings;
+
+    /** Open log file. Only accessed by the writer thread. */
+    private static BufferedWriter out;
+    /** Size of the open log file in bytes. Only accessed by the writer thread. */
+    private static long size;
+    /** Day the open log file was started. Only accessed by the writer thread. */
+    private static LocalDate day;
+
+    /**
+     * Starts writing audit logs.
+     *
+     * @param directory Directory to write audit logs to.
+     * @param current   Current settings.
+     */
+    public static synchronized void start(Path directory, FusionSettings current){
+        settings = current;
+        if(writer != null){
+            return;
+        }
+        dir = directory;
+
+        Thread thread = new Thread(AuditLog::run, "Fusions-Audit");
+        thread.setDaemon(true);
+        writer = thread;
+        thread.start();
+    }
+
+    /**
+     * Updates the settings used by the audit log after a reload.
+     *
+     * @param current New settings.
+     */
+    public static void configure(FusionSettings current){
+        settings = current;
+    }
+
+    /**
+     * Records a committed fusion. Only adds the record to a queue; it is written by a background thread.
+     *
+     * @param record Record of the fusion.
+     */
+    public static void record(FusionRecord record){
+        if(isEnabled()){
+            queue.offer(record);
+        }
+    }
+
+    /**
+     * Checks if committed fusions are being written to the audit log.
+     *
+     * @return True if fusions are being recorded, false if they aren't.
+     */
+    public static boolean isEnabled(){
+        return writer != null && settings.isAuditLogEnabled();
+    }
+
+    /**
+     * Stops the writer, writing every record still queued before returning.
+     */
+    public static synchronized void stop(){
+        Thread thread = writer;
+        if(thread == null){
+            return;
+        }
+        writer = null;
+        LockSupport.unpark(thread);
+        try{
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        catch(InterruptedException e){
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Drains the queue until the audit log is stopped.
+     */
+    private static void run(){
+        Thread self = Thread.currentThread();
+        while(writer == self){
+            LockSupport.parkNanos(FLUSH_INTERVAL);
+            drain();
+        }
+        drain();
+        close();
+    }
+
+    /**
+     * Writes every queued record in a single append, rotating the log first if needed.
+     */
+    private static void drain(){
+        if(queue.isEmpty()){
+            return;
+        }
+
+        StringBuilder batch = new StringBuilder(512);
+        FusionRecord record;
+        while((record = queue.poll()) != null){
+            record.write(batch);
+            batch.append('\n');
+        }
+        String lines = batch.toString();
+        int length = lines.getBytes(StandardCharsets.UTF_8).length;
+
+        try{
+            rotateIfNeeded(length);
+            out.write(lines);
+            out.flush();
+            size += length;
+        }
+        catch(IOException e){
+            //Log the records so they aren't lost, since they can't be retried.
+            Fusions.getLogger().error("Could not write to the fusion audit log. Records that were not written:\n" + lines, e);
+            close();
+        }
+    }
+
+    private static void open() throws IOException {
+        Files.createDirectories(dir);
+        Path file = dir.resolve(FILE_NAME);
+        out = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        size = Files.size(file);
+        day = LocalDate.now(ZoneId.systemDefault());
+        if(size > 0){
+            //Use the day the existing file was last written to, so a file from a previous day is rotated.
+            day = Files.getLastModifiedTime(file).toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+        }
+    }
+
+    private static void close(){
+        if(out != null){
+            try{
+                out.close();
+            }
+            catch(IOException e){
+                Fusions.getLogger().warn("Could not close the fusion audit log.");
+            }
+            out = null;
+        }
+    }
+
+    /**
+     * Rotates the log if writing a batch would take it past the maximum size, or if a new day has started.
+     *
+     * @param batchSize Size of the batch about to be written, in bytes.
+     * @throws IOException If the log could not be rotated.
+     */
+    private static void rotateIfNeeded(int batchSize) throws IOException {
+        if(out == null){
+            open();
+        }
+        FusionSettings current = settings;
+        long maxSize = current.getAuditLogMaxSize();
+        boolean tooLarge = maxSize > 0 && size > 0 && size + batchSize > maxSize;
+        boolean newDay = current.isAuditLogRotateDaily() && !LocalDate.now(ZoneId.systemDefault()).equals(day);
+        if(!tooLarge && !newDay){
+            return;
+        }
+
+        close();
+        Path file = dir.resolve(FILE_NAME);
+        Path rotated;
+        int index = 0;
+        do{
+            index++;
+            rotated = dir.resolve("fusions-" + day + "-" + index + ".log");
+        }
+        while(Files.exists(rotated) || Files.exists(rotated.resolveSibling(rotated.getFileName() + ".gz")));
+        Files.move(file, rotated);
+
+        if(current.isAuditLogCompressed()){
+            compress(rotated);
+        }
+        open();
+    }
+
+    /**
+     * Compresses a rotated log with gzip and deletes the original.
+     *
+     * @param file Rotated log to compress.
+     */
+    private static void compress(Path file){
+        Path compressed = file.resolveSibling(file.getFileName() + ".gz");
+        try(InputStream in = Files.newInputStream(file);
+            OutputStream gzip = new GZIPOutputStream(Files.newOutputStream(compressed))){
+            byte[] buffer = new byte[8192];
+            int read;
+            while((read = in.read(buffer)) != -1){
+                gzip.write(buffer, 0, read);
+            }
+        }
+        catch(IOException e){
+            Fusions.getLogger().warn("Could not compress rotated fusion audit log " + file.getFileName() + ".");
+            return;
+        }
+
+        try{
+            Files.delete(file);
+        }
+        catch(IOException e){
+            Fusions.getLogger().warn("Could not delete " + file.getFileName() + " after compressing it.");
+        }
+    }
+}
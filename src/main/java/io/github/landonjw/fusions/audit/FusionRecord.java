@@ -0,0 +1,230 @@
+package io.github.landonjw.fusions.audit;
+
+import com.pixelmonmod.pixelmon.api.pokemon.Pokemon;
+import io.github.landonjw.fusions.api.FusionPreview;
+import org.spongepowered.api.entity.living.player.Player;
+import org.spongepowered.api.text.Text;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Immutable record of a fusion that was committed to a player's party, written to the audit log.
+ * Only the values needed are captured when the record is created; it is formatted on the audit log's thread.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+public final class FusionRecord {
+
+    private final long timestamp;
+    private final UUID playerUUID;
+    private final String playerName;
+    private final UUID pokemonUUID;
+    private final String pokemonSpecies;
+    private final UUID[] sacrificeUUIDs;
+    private final String[] sacrificeSpecies;
+    private final FusionPreview preview;
+    /** Amount paid for the fusion, or null if nothing was paid. */
+    private final BigDecimal paid;
+
+    private FusionRecord(Player player, Pokemon pokemon, List<Pokemon> sacrifices, FusionPreview preview, BigDecimal paid){
+        this.timestamp = System.currentTimeMillis();
+        this.playerUUID = player.getUniqueId();
+        this.playerName = player.getName();
+        this.pokemonUUID = pokemon.getUUID();
+        this.pokemonSpecies = pokemon.getSpecies().name;
+        this.sacrificeUUIDs = new UUID[sacrifices.size()];
+        this.sacrificeSpecies = new String[sacrifices.size()];
+        for(int i = 0; i < sacrifices.size(); i++){
+            sacrificeUUIDs[i] = sacrifices.get(i).getUUID();
+            sacrificeSpecies[i] = sacrifices.get(i).getSpecies().name;
+        }
+        this.preview = preview;
+        this.paid = paid;
+    }
+
+    /**
+     * Records a fusion. Must be called before the sacrifices are removed from the player's party.
+     *
+     * @param player     Player that did the fusion.
+     * @param pokemon    Pokemon that was fused.
+     * @param sacrifices Pokemon that were sacrificed.
+     * @param preview    Preview of the fusion that was applied.
+     * @param paid       Amount paid for the fusion, or null if nothing was paid.
+     * @return Record of the fusion.
+     */
+    public static FusionRecord of(Player player, Pokemon pokemon, List<Pokemon> sacrifices, FusionPreview preview, BigDecimal paid){
+        return new FusionRecord(player, pokemon, sacrifices, preview, paid);
+    }
+
+    public long getTimestamp(){
+        return timestamp;
+    }
+
+    public UUID getPlayerUUID(){
+        return playerUUID;
+    }
+
+    public String getPlayerName(){
+        return playerName;
+    }
+
+    public UUID getPokemonUUID(){
+        return pokemonUUID;
+    }
+
+    public String getPokemonSpecies(){
+        return pokemonSpecies;
+    }
+
+    public UUID[] getSacrificeUUIDs(){
+        return sacrificeUUIDs.clone();
+    }
+
+    public String[] getSacrificeSpecies(){
+        return sacrificeSpecies.clone();
+    }
+
+    public FusionPreview getPreview(){
+        return preview;
+    }
+
+    /**
+     * Gets the amount paid for the fusion.
+     *
+     * @return Amount paid for the fusion, or null if nothing was paid.
+     */
+    public BigDecimal getPaid(){
+        return paid;
+    }
+
+    /**
+     * Gets the names of traits transferred by the fusion, and descriptions of any changes made by other rules.
+     *
+     * @return Comma separated list of transferred traits, or an empty string if there are none.
+     */
+    public String getTraits(){
+        StringBuilder traits = new StringBuilder();
+        appendTrait(traits, preview.getSizeChange() != null, "growth");
+        appendTrait(traits, preview.isFuseCountTransferred(), "fuse count");
+        appendTrait(traits, preview.isHATransferred(), "HA");
+        appendTrait(traits, preview.isShinyTransferred(), "shiny");
+        appendTrait(traits, preview.isMadeUnbreedable(), "unbreedable");
+        for(Text effect : preview.getEffects()){
+            appendTrait(traits, true, effect.toPlain());
+        }
+        return traits.toString();
+    }
+
+    private static void appendTrait(StringBuilder traits, boolean set, String name){
+        if(set){
+            if(traits.length() > 0){
+                traits.append(", ");
+            }
+            traits.append(name);
+        }
+    }
+
+    /**
+     * Formats the record as a single line of JSON.
+     *
+     * @param out Builder to append the line to, without a trailing line break.
+     */
+    void write(StringBuilder out){
+        out.append("{\"time\":\"").append(Instant.ofEpochMilli(timestamp)).append('"');
+        out.append(",\"player\":\"").append(playerUUID).append('"');
+        out.append(",\"name\":");
+        appendString(out, playerName);
+        out.append(",\"pokemon\":{\"uuid\":\"").append(pokemonUUID).append("\",\"species\":");
+        appendString(out, pokemonSpecies);
+        out.append("},\"sacrifices\":[");
+        for(int i = 0; i < sacrificeUUIDs.length; i++){
+            if(i > 0){
+                out.append(',');
+            }
+            out.append("{\"uuid\":\"").append(sacrificeUUIDs[i]).append("\",\"species\":");
+            appendString(out, sacrificeSpecies[i]);
+            out.append('}');
+        }
+        out.append("],\"ivsBefore\":");
+        appendArray(out, preview.getOriginalIVs());
+        out.append(",\"ivsAfter\":");
+        appendArray(out, preview.getFusedIVs());
+        out.append(",\"fuseCount\":").append(preview.getFuseCount());
+
+        out.append(",\"transferred\":[");
+        int start = out.length();
+        appendFlag(out, start, preview.getSizeChange() != null, "growth");
+        appendFlag(out, start, preview.isFuseCountTransferred(), "fuseCount");
+        appendFlag(out, start, preview.isHATransferred(), "ha");
+        appendFlag(out, start, preview.isShinyTransferred(), "shiny");
+        appendFlag(out, start, preview.isMadeUnbreedable(), "unbreedable");
+        for(Text effect : preview.getEffects()){
+            if(out.length() > start){
+                out.append(',');
+            }
+            appendString(out, effect.toPlain());
+        }
+        out.append(']');
+
+        out.append(",\"cost\":").append((paid != null) ? paid.toPlainString() : "0");
+        out.append('}');
+    }
+
+    private static void appendFlag(StringBuilder out, int start, boolean set, String name){
+        if(set){
+            if(out.length() > start){
+                out.append(',');
+            }
+            out.append('"').append(name).append('"');
+        }
+    }
+
+    private static void appendArray(StringBuilder out, int[] values){
+        out.append('[');
+        if(values != null){
+            for(int i = 0; i < values.length; i++){
+                if(i > 0){
+                    out.append(',');
+                }
+                out.append(values[i]);
+            }
+        }
+        out.append(']');
+    }
+
+    private static void appendString(StringBuilder out, String value){
+        out.append('"');
+        for(int i = 0; i < value.length(); i++){
+            char c = value.charAt(i);
+            switch(c){
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                default:
+                    if(c < 0x20){
+                        out.append(String.format("\\u%04x", (int) c));
+                    }
+                    else{
+                        out.append(c);
+                    }
+            }
+        }
+        out.append('"');
+    }
+}
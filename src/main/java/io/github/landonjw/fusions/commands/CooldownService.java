@@ -0,0 +1,202 @@
+package io.github.landonjw.fusions.commands;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe store of player cooldowns, working as a token bucket for each player.
+ *
+ * A player may use the command up to a burst of times back to back, and earns one use back every interval.
+ * Each bucket is stored as a single deadline in {@link System#nanoTime()} units: the time the bucket will be full
+ * again. Acquiring a use pushes the deadline back by one interval, and is only allowed while the deadline
+ * is less than (burst - 1) intervals away. With a burst of 1 this is a plain cooldown.
+ *
+ * Checking and acquiring only touches the player's own entry, so it is constant time regardless of how many players
+ * are stored. Entries of full buckets are removed lazily when they are looked up, and by {@link #purgeExpired()}
+ * for players that never come back.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+public class CooldownService {
+
+    /** Deadline marking an entry that is being removed. Threads that see it retry with a fresh entry. */
+    private static final long REMOVED = Long.MIN_VALUE;
+
+    /** Time each player's bucket will be full again. */
+    private final ConcurrentHashMap<UUID, AtomicLong> deadlines = new ConcurrentHashMap<>();
+
+    /**
+     * Puts a player on cooldown if they aren't already on cooldown.
+     * Checking and acquiring is atomic, so only one of two simultaneous calls for the same player can succeed.
+     *
+     * @param uuid     UUID of the player to put on cooldown.
+     * @param duration Length of the cooldown in nanoseconds. If 0 or less, cooldowns are disabled and this always succeeds.
+     * @return 0 if the cooldown was acquired, or nanoseconds until the player's current cooldown is finished.
+     */
+    public long tryAcquire(UUID uuid, long duration){
+        return tryAcquire(uuid, duration, 1);
+    }
+
+    /**
+     * Takes one use from a player's bucket if it isn't empty.
+     * Checking and acquiring is atomic, so two simultaneous calls for the same player can never take the last use twice.
+     *
+     * @param uuid     UUID of the player to take a use from.
+     * @param interval Nanoseconds to earn back one use. If 0 or less, cooldowns are disabled and this always succeeds.
+     * @param burst    Most uses the bucket holds.
+     * @return 0 if a use was taken, or nanoseconds until the player earns back their next use.
+     */
+    public long tryAcquire(UUID uuid, long interval, int burst){
+        if(interval <= 0){
+            return 0;
+        }
+
+        long tolerance = interval * (Math.max(burst, 1) - 1);
+        long now = System.nanoTime();
+        while(true){
+            AtomicLong entry = deadlines.get(uuid);
+            if(entry == null){
+                if(deadlines.putIfAbsent(uuid, new AtomicLong(now + interval)) == null){
+                    return 0;
+                }
+                continue;
+            }
+
+            long deadline = entry.get();
+            if(deadline == REMOVED){
+                deadlines.remove(uuid, entry);
+                continue;
+            }
+
+            //A deadline in the past means the bucket is already full.
+            long full = (deadline - now > 0) ? deadline : now;
+            if(full - tolerance - now > 0){
+                return full - tolerance - now;
+            }
+            if(entry.compareAndSet(deadline, full + interval)){
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Gets how long until a player's cooldown is finished, without acquiring a cooldown.
+     *
+     * @param uuid UUID of the player to check.
+     * @return Nanoseconds until the player's cooldown is finished, or 0 if they aren't on cooldown.
+     */
+    public long getRemaining(UUID uuid){
+        return getRemaining(uuid, 0, 1);
+    }
+
+    /**
+     * Gets how long until a player earns back a use, without taking one.
+     *
+     * @param uuid     UUID of the player to check.
+     * @param interval Nanoseconds to earn back one use.
+     * @param burst    Most uses the bucket holds.
+     * @return Nanoseconds until the player may use the command, or 0 if they may use it now.
+     */
+    public long getRemaining(UUID uuid, long interval, int burst){
+        AtomicLong entry = deadlines.get(uuid);
+        if(entry == null){
+            return 0;
+        }
+
+        long deadline = entry.get();
+        if(deadline == REMOVED){
+            return 0;
+        }
+        long remaining = deadline - System.nanoTime();
+        if(remaining <= 0){
+            expire(uuid, entry);
+            return 0;
+        }
+        return Math.max(remaining - interval * (Math.max(burst, 1) - 1), 0);
+    }
+
+    /**
+     * Removes a player's cooldown entirely, refilling their bucket.
+     *
+     * @param uuid UUID of the player to remove cooldown from.
+     */
+    public void release(UUID uuid){
+        AtomicLong entry = deadlines.get(uuid);
+        if(entry != null){
+            entry.set(REMOVED);
+            deadlines.remove(uuid, entry);
+        }
+    }
+
+    /**
+     * Gives a player back one use. Used when an action that took a use ends up failing.
+     *
+     * @param uuid     UUID of the player to give a use back to.
+     * @param interval Nanoseconds to earn back one use.
+     */
+    public void release(UUID uuid, long interval){
+        AtomicLong entry = deadlines.get(uuid);
+        if(entry == null){
+            return;
+        }
+
+        long deadline;
+        do{
+            deadline = entry.get();
+            if(deadline == REMOVED){
+                return;
+            }
+        }
+        while(!entry.compareAndSet(deadline, deadline - interval));
+        expire(uuid, entry);
+    }
+
+    /**
+     * Removes every entry whose bucket is already full.
+     */
+    public void purgeExpired(){
+        long now = System.nanoTime();
+        for(Map.Entry<UUID, AtomicLong> entry : deadlines.entrySet()){
+            long deadline = entry.getValue().get();
+            if(deadline != REMOVED && deadline - now <= 0){
+                expire(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Gets the number of players currently stored, including players whose bucket filled but haven't been removed yet.
+     *
+     * @return Number of players stored.
+     */
+    public int size(){
+        return deadlines.size();
+    }
+
+    /**
+     * Converts nanoseconds remaining on a cooldown into whole seconds, rounding up.
+     *
+     * @param nanos Nanoseconds remaining on a cooldown.
+     * @return Seconds remaining on a cooldown.
+     */
+    public static long toSeconds(long nanos){
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+
+    /**
+     * Removes an entry if its bucket is still full. Marking it removed first stops a concurrent acquire from being lost.
+     *
+     * @param uuid  UUID of the player to remove.
+     * @param entry Entry of the player to remove.
+     */
+    private void expire(UUID uuid, AtomicLong entry){
+        long deadline = entry.get();
+        if(deadline != REMOVED && deadline - System.nanoTime() <= 0 && entry.compareAndSet(deadline, REMOVED)){
+            deadlines.remove(uuid, entry);
+        }
+    }
+}
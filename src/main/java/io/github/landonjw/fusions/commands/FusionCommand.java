@@ -2,7 +2,8 @@ package io.github.landonjw.fusions.commands;
 
 import io.github.landonjw.fusions.Fusions;
 import io.github.landonjw.fusions.api.Fusion;
-import io.github.landonjw.fusions.configuration.ConfigManager;
+import io.github.landonjw.fusions.configuration.FusionSettings;
+import io.github.landonjw.fusions.metrics.FusionMetrics;
 import io.github.landonjw.fusions.ui.FusionGUI;
 import org.spongepowered.api.command.CommandException;
 import org.spongepowered.api.command.CommandResult;
@@ -13,12 +14,9 @@ import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.format.TextColors;
 
-import java.time.Duration;
-import java.time.Instant;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
+import java.util.Collection;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Command for fusions. Will either create fusion from command arguments, or open GUI.
@@ -29,12 +27,8 @@ import java.util.UUID;
  */
 public class FusionCommand implements CommandExecutor {
 
-    /** Stores cooldowns for individual players if cooldown configuration setting is not 0. */
-    private static HashMap<UUID, Instant> cooldowns = new HashMap<>();
-    /** How long the cooldown should be for the fusion command, or 0 to disable. */
-    private int cooldown;
-    /** If GUI is enabled. */
-    private boolean enableGUI;
+    /** Stores cooldowns for individual players if cooldown configuration setting is not 0. Players may fuse up to Cooldown-Burst times in a row. */
+    private static final CooldownService cooldowns = new CooldownService();
 
     @Override
     public CommandResult execute(CommandSource src, CommandContext args) throws CommandException {
@@ -42,20 +36,18 @@ public class FusionCommand implements CommandExecutor {
 
             Player player = (Player) src;
 
-            cooldown = ConfigManager.getConfigNode("Fusing-Features", "Cooldown").getInt();
-            enableGUI = (Fusions.isTeslaRegistered() && ConfigManager.getConfigNode("GUI-Features", "Enable-GUI").getBoolean());
+            FusionSettings settings = Fusions.getSettings();
+            boolean enableGUI = (Fusions.isTeslaRegistered() && settings.isGUIEnabled());
 
             //Check that player is not still on cooldown if cooldown feature is enabled.
-            if(cooldown > 0){
-                clearFinishedCooldowns();
-                if(cooldowns.containsKey(player.getUniqueId())){
-                    Instant instant = cooldowns.get(player.getUniqueId());
-
-                    if(Duration.between(instant, Instant.now()).compareTo(Duration.ofSeconds(cooldown)) <= 0){
-                        long seconds = cooldown - Duration.between(instant, Instant.now()).getSeconds();
-                        player.sendMessage(Text.of(TextColors.RED, "Command is still on cooldown for " + seconds + " seconds."));
-                        return CommandResult.success();
-                    }
+            //The cooldown is only acquired once the fusion starts, so that players don't go on cooldown without fusing.
+            if(settings.getCooldown() > 0){
+                long remaining = cooldowns.getRemaining(player.getUniqueId(), TimeUnit.SECONDS.toNanos(settings.getCooldown()),
+                        settings.getCooldownBurst());
+                if(remaining > 0){
+                    FusionMetrics.cooldownRejected();
+                    player.sendMessage(getCooldownText(remaining));
+                    return CommandResult.success();
                 }
             }
 
@@ -68,15 +60,22 @@ public class FusionCommand implements CommandExecutor {
             }
             else{
                 //Stop command if both slot arguments are not present.
-                if(!args.<Integer>getOne("pokemon").isPresent() || !args.<Integer>getOne("sacrifice").isPresent()){
-                    player.sendMessage(Text.of(TextColors.DARK_RED, "Not enough arguments. Usage: /fusion <pokemon> <sacrifice>"));
+                Collection<Integer> sacrificeSlots = args.getAll("sacrifice");
+                if(!args.<Integer>getOne("pokemon").isPresent() || sacrificeSlots.isEmpty()){
+                    player.sendMessage(Text.of(TextColors.DARK_RED, "Not enough arguments. Usage: /fusion <pokemon> <sacrifice> [sacrifice...]"));
                     return CommandResult.success();
                 }
 
                 int pokemonSlot = args.<Integer>getOne("pokemon").get();
-                int sacrificeSlot = args.<Integer>getOne("sacrifice").get();
 
-                Fusion fusion = new Fusion(player, pokemonSlot, sacrificeSlot);
+                //Every sacrifice given is fused into the Pokemon in a single fusion, in the order given.
+                int[] slots = new int[sacrificeSlots.size()];
+                int i = 0;
+                for(int sacrificeSlot : sacrificeSlots){
+                    slots[i++] = sacrificeSlot;
+                }
+
+                Fusion fusion = new Fusion(player, pokemonSlot, slots);
                 fusion.startFusion();
             }
         }
@@ -84,27 +83,35 @@ public class FusionCommand implements CommandExecutor {
     }
 
     /**
-     * Clears UUIDs from the cooldown map if the cooldown has already passed.
+     * Gets the store of player cooldowns for the fusion command.
+     * Fusions acquire a cooldown from it when they start, and release it if they fail.
+     *
+     * @return Store of player cooldowns.
      */
-    private void clearFinishedCooldowns(){
-        List<UUID> uuidsToRemove = new ArrayList<>();
-        cooldowns.forEach((uuid, instant) -> {
-            if(Duration.between(instant, Instant.now()).compareTo(Duration.ofSeconds(cooldown)) > 0){
-                uuidsToRemove.add(uuid);
-            }
-        });
-        for(UUID uuid : uuidsToRemove){
-            cooldowns.remove(uuid);
-        }
+    public static CooldownService getCooldowns(){
+        return cooldowns;
     }
 
     /**
      * Adds a player to the cooldown list.
-     * Used for GUI so that player does not go on cooldown without successfully fusing.
      *
      * @param uuid UUID of the player to add cooldown to.
+     * @deprecated Fusions now take a cooldown themselves when they start, and give it back if they fail.
+     * This takes one use from the player's cooldown through {@link #getCooldowns()}.
      */
+    @Deprecated
     public static void addCooldown(UUID uuid){
-        cooldowns.put(uuid, Instant.now());
+        FusionSettings settings = Fusions.getSettings();
+        cooldowns.tryAcquire(uuid, TimeUnit.SECONDS.toNanos(settings.getCooldown()), settings.getCooldownBurst());
+    }
+
+    /**
+     * Gets the message sent to a player that is still on cooldown.
+     *
+     * @param remaining Nanoseconds until the player's cooldown is finished.
+     * @return Message sent to a player that is still on cooldown.
+     */
+    public static Text getCooldownText(long remaining){
+        return Text.of(TextColors.RED, "Command is still on cooldown for " + CooldownService.toSeconds(remaining) + " seconds.");
     }
 }
@@ -0,0 +1,131 @@
+package io.github.landonjw.fusions.commands;
+
+import com.pixelmonmod.pixelmon.enums.EnumSpecies;
+import io.github.landonjw.fusions.Fusions;
+import io.github.landonjw.fusions.history.FusionHistory;
+import io.github.landonjw.fusions.history.HistoryEntry;
+import org.spongepowered.api.command.CommandException;
+import org.spongepowered.api.command.CommandResult;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.command.args.CommandContext;
+import org.spongepowered.api.command.spec.CommandExecutor;
+import org.spongepowered.api.entity.living.player.User;
+import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.action.TextActions;
+import org.spongepowered.api.text.format.TextColors;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Command showing a page of a player's past fusions, optionally only fusions of a single species.
+ * Players may always view their own history; viewing another player's requires an extra permission.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+public class HistoryCommand implements CommandExecutor {
+
+    /** Number of fusions shown on each page. */
+    private static final int PAGE_SIZE = 8;
+
+    @Override
+    public CommandResult execute(CommandSource src, CommandContext args) throws CommandException {
+        if(!FusionHistory.isAvailable()){
+            throw new CommandException(Text.of("Fusion history is not available on this server."));
+        }
+
+        //Find the player whose history to show, defaulting to whoever ran the command.
+        Optional<User> optionalUser = args.getOne("player");
+        User user;
+        if(optionalUser.isPresent()){
+            user = optionalUser.get();
+        }
+        else if(src instanceof User){
+            user = (User) src;
+        }
+        else{
+            throw new CommandException(Text.of("You must specify a player."));
+        }
+        if(!user.getUniqueId().equals(getUniqueId(src)) && !src.hasPermission("fusions.commands.history.others")){
+            throw new CommandException(Text.of("You do not have permission to view other players' fusion history."));
+        }
+
+        String species = null;
+        Optional<String> optionalSpecies = args.getOne("species");
+        if(optionalSpecies.isPresent()){
+            EnumSpecies enumSpecies = EnumSpecies.getFromNameAnyCase(optionalSpecies.get());
+            if(enumSpecies == null){
+                throw new CommandException(Text.of(optionalSpecies.get() + " is not a valid species."));
+            }
+            species = enumSpecies.name;
+        }
+
+        int page = Math.max(1, args.<Integer>getOne("page").orElse(1));
+        String filter = species;
+
+        //Results are sent back on the server thread, since the query is done on a history thread.
+        FusionHistory.findByPlayer(user.getUniqueId(), species, page, PAGE_SIZE).whenComplete((entries, error) ->
+                Task.builder().execute(() -> {
+                    if(error != null){
+                        Fusions.getLogger().error("Fusion history could not be queried.", error);
+                        src.sendMessage(Text.of(TextColors.RED, "Fusion history could not be loaded, please try again shortly."));
+                    }
+                    else{
+                        sendPage(src, user.getName(), filter, page, entries);
+                    }
+                }).submit(Fusions.getInstance()));
+        return CommandResult.success();
+    }
+
+    private static void sendPage(CommandSource src, String name, String species, int page, List<HistoryEntry> entries){
+        boolean hasNext = entries.size() > PAGE_SIZE;
+        String title = name + "'s Fusions" + ((species != null) ? " (" + species + ")" : "");
+
+        if(entries.isEmpty()){
+            src.sendMessage(Text.of(TextColors.RED, (page == 1) ? name + " has no fusions." : "There are no fusions on page " + page + "."));
+            return;
+        }
+
+        src.sendMessage(Text.of(TextColors.AQUA, title, TextColors.GRAY, " - Page " + page));
+        SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd HH:mm");
+        for(int i = 0; i < Math.min(entries.size(), PAGE_SIZE); i++){
+            HistoryEntry entry = entries.get(i);
+            Text.Builder line = Text.builder()
+                    .append(Text.of(TextColors.GRAY, format.format(new Date(entry.getTimestamp())) + " "))
+                    .append(Text.of(TextColors.DARK_AQUA, entry.getSpecies()))
+                    .append(Text.of(TextColors.GRAY, " + " + entry.getSacrificeSpecies() + ": IVs "
+                            + entry.getIVsBefore() + " -> " + entry.getIVsAfter() + ", fuse count " + entry.getFuseCount()));
+            if(entry.getCost().signum() > 0){
+                line.append(Text.of(TextColors.GRAY, ", cost " + entry.getCost().toPlainString()));
+            }
+            if(!entry.getTraits().isEmpty()){
+                line.onHover(TextActions.showText(Text.of(TextColors.GRAY, entry.getTraits())));
+            }
+            src.sendMessage(line.build());
+        }
+
+        //Page links rerun the command with the same player and species.
+        String command = "/fusions history " + name + ((species != null) ? " " + species : "") + " -p ";
+        Text.Builder navigation = Text.builder();
+        if(page > 1){
+            navigation.append(Text.builder("[Previous] ").color(TextColors.GREEN)
+                    .onClick(TextActions.runCommand(command + (page - 1))).build());
+        }
+        if(hasNext){
+            navigation.append(Text.builder("[Next]").color(TextColors.GREEN)
+                    .onClick(TextActions.runCommand(command + (page + 1))).build());
+        }
+        if(page > 1 || hasNext){
+            src.sendMessage(navigation.build());
+        }
+    }
+
+    private static UUID getUniqueId(CommandSource src){
+        return (src instanceof User) ? ((User) src).getUniqueId() : null;
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.landonjw.fusions.commands;
+
+import io.github.landonjw.fusions.Fusions;
+import io.github.landonjw.fusions.admission.FusionAdmission;
+import io.github.landonjw.fusions.admission.TickMonitor;
+import io.github.landonjw.fusions.api.FusionRuleRegistry;
+import io.github.landonjw.fusions.trace.FusionTrace;
+import io.github.landonjw.fusions.trace.LatencyWindow;
+import io.github.landonjw.fusions.trace.TraceOperation;
+import io.github.landonjw.fusions.trace.TracePhase;
+import io.github.landonjw.fusions.trace.TraceStats;
+import io.github.landonjw.fusions.ui.FusionGUI;
+import org.spongepowered.api.command.CommandException;
+import org.spongepowered.api.command.CommandResult;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.command.args.CommandContext;
+import org.spongepowered.api.command.spec.CommandExecutor;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.format.TextColors;
+
+import java.util.Map;
+
+/**
+ * Admin command showing rolling p50 and p99 latency of fusions and GUI renders, broken down by phase,
+ * along with the execution time of each fusion rule.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+public class StatsCommand implements CommandExecutor {
+
+    @Override
+    public CommandResult execute(CommandSource src, CommandContext args) throws CommandException {
+        if(!Fusions.getSettings().isTracingEnabled()){
+            src.sendMessage(Text.of(TextColors.RED, "Tracing is disabled. Enable it in the Diagnostics section of the configuration."));
+        }
+
+        for(TraceOperation operation : TraceOperation.values()){
+            LatencyWindow total = TraceStats.getTotal(operation);
+            src.sendMessage(Text.of(TextColors.AQUA, operation.getDisplayName(), TextColors.GRAY, " (" + total.getCount() + " traced) ",
+                    getPercentiles(total)));
+
+            for(TracePhase phase : TracePhase.values()){
+                LatencyWindow window = TraceStats.getPhase(operation, phase);
+                if(window.getCount() > 0){
+                    src.sendMessage(Text.of(TextColors.DARK_AQUA, "  " + phase.getDisplayName() + ": ", getPercentiles(window)));
+                }
+            }
+        }
+
+        src.sendMessage(Text.of(TextColors.AQUA, "Fusion Rules"));
+        for(Map.Entry<String, FusionRuleRegistry.RuleTimings> entry : FusionRuleRegistry.getTimings().entrySet()){
+            FusionRuleRegistry.RuleTimings timings = entry.getValue();
+            src.sendMessage(Text.of(TextColors.DARK_AQUA, "  " + entry.getKey() + ": ",
+                    TextColors.GRAY, timings.getCalls() + " calls, avg " + FusionTrace.formatMillis(timings.getAverageNanos())));
+        }
+
+        src.sendMessage(Text.of(TextColors.AQUA, "Queued Fusions: ", TextColors.GRAY, FusionAdmission.getQueuedCommits()));
+        src.sendMessage(Text.of(TextColors.AQUA, "Load Mode: ", TextColors.GRAY, TickMonitor.getMode().getDisplayName()
+                + " (" + String.format("%.1f", TickMonitor.getAverageTickMillis()) + "ms per tick)"));
+
+        if(Fusions.isTeslaRegistered()){
+            src.sendMessage(Text.of(TextColors.AQUA, "GUI Item Cache: ", TextColors.GRAY, FusionGUI.getItemCacheStats().toString()));
+        }
+        return CommandResult.success();
+    }
+
+    private static Text getPercentiles(LatencyWindow window){
+        return Text.of(TextColors.GRAY, "p50 " + FusionTrace.formatMillis(window.getPercentile(0.5))
+                + ", p99 " + FusionTrace.formatMillis(window.getPercentile(0.99)));
+    }
+}
@@ -1,19 +1,40 @@
 package io.github.landonjw.fusions.configuration;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.github.landonjw.fusions.Fusions;
 import ninja.leaping.configurate.commented.CommentedConfigurationNode;
 import ninja.leaping.configurate.hocon.HoconConfigurationLoader;
 import ninja.leaping.configurate.loader.ConfigurationLoader;
 import org.spongepowered.api.scheduler.Task;
 
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * Loads and stores all the configuration settings.
  * It loads from file on server start up. or when a player reloads the plugin.
  *
+ * Reloads are done on a background thread: the file is read, parsed and compiled into a new {@link FusionSettings},
+ * and only handed back if it has no errors. If it does, the errors are logged and the last working configuration
+ * stays in place. The configuration directory is also watched, so saving the file reloads it automatically.
+ *
  * @uathor landonjw
  * @since 1.0.0
  */
@@ -27,7 +48,21 @@ public class ConfigManager {
     /** Loader for the configuration file. */
     private static ConfigurationLoader<CommentedConfigurationNode> configLoad;
     /** Storage for all the configuration settings. */
-    private static CommentedConfigurationNode configNode;
+    private static volatile CommentedConfigurationNode configNode;
+
+    /** How long to wait after the file changes before reloading, so several writes from one save cause one reload. */
+    private static final long DEBOUNCE_MILLIS = 500;
+
+    /** Thread that reads and compiles the configuration. Reloads are done one at a time, in the order requested. */
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+            .setNameFormat("Fusions-Config-%d")
+            .setDaemon(true)
+            .build());
+
+    /** Watches the configuration directory for changes, or null if it isn't being watched. */
+    private static volatile WatchService watchService;
+    /** Contents of the configuration file last loaded, so reloads can skip a file that hasn't changed. */
+    private static volatile byte[] lastLoaded;
 
     /**
      * Locates the configuration file and loads it.
@@ -56,6 +91,7 @@ public class ConfigManager {
             configLoad = HoconConfigurationLoader.builder().setPath(config).build();
 
             configNode = configLoad.load();
+            lastLoaded = Files.readAllBytes(config);
         }
         catch (IOException e){
             Fusions.getLogger().error("Fusions configuration could not load.");
@@ -63,6 +99,156 @@ public class ConfigManager {
         }
     }
 
+    /**
+     * Reads and compiles the configuration file on a background thread.
+     * The stored configuration is only replaced if the file has no errors.
+     *
+     * @param force If the file should be reloaded even if it hasn't changed since it was last loaded.
+     * @return Future completed with the new settings, or with null if the file has errors or hasn't changed.
+     */
+    public static CompletableFuture<FusionSettings> reloadAsync(boolean force){
+        return CompletableFuture.supplyAsync(() -> compile(force), executor);
+    }
+
+    /**
+     * Reads and compiles the configuration file. Must only be called from the reload thread.
+     *
+     * @param force If the file should be reloaded even if it hasn't changed since it was last loaded.
+     * @return New settings, or null if the file has errors or hasn't changed.
+     */
+    private static FusionSettings compile(boolean force){
+        long start = System.nanoTime();
+        ConfigReport report = new ConfigReport();
+        CommentedConfigurationNode node = null;
+        byte[] contents;
+
+        try{
+            if(!Files.exists(dir)){
+                Files.createDirectory(dir);
+            }
+            Fusions.getContainer().getAsset(FILE_NAMES[0]).get().copyToFile(config, false, true);
+            contents = Files.readAllBytes(config);
+        }
+        catch(IOException e){
+            Fusions.getLogger().error("Fusions configuration could not be read, keeping the last working configuration.", e);
+            return null;
+        }
+
+        if(!force && Arrays.equals(contents, lastLoaded)){
+            return null;
+        }
+
+        try{
+            node = HoconConfigurationLoader.builder()
+                    .setSource(() -> new BufferedReader(new InputStreamReader(new ByteArrayInputStream(contents), StandardCharsets.UTF_8)))
+                    .build()
+                    .load();
+        }
+        catch(IOException e){
+            //Syntax errors from the HOCON parser include the line they were found on.
+            report.error((e.getCause() != null) ? e.getCause().getMessage() : e.getMessage());
+        }
+
+        FusionSettings settings = (node != null) ? FusionSettings.fromNode(node, report) : null;
+
+        if(report.hasErrors()){
+            Fusions.getLogger().error("Fusions configuration has errors and was not loaded. The last working configuration is still in use:");
+            report.log(Fusions.getLogger());
+            return null;
+        }
+        if(report.hasProblems()){
+            Fusions.getLogger().warn("Fusions configuration has problems:");
+            report.log(Fusions.getLogger());
+        }
+
+        lastLoaded = contents;
+        configNode = node;
+        Fusions.getLogger().info("Fusions configuration compiled in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + "ms.");
+        return settings;
+    }
+
+    /**
+     * Starts watching the configuration directory, reloading the configuration whenever the file is changed.
+     *
+     * @param onReload Called on the reload thread with new settings every time the file is reloaded without errors.
+     */
+    public static void startWatching(Consumer<FusionSettings> onReload){
+        if(watchService != null){
+            return;
+        }
+
+        try{
+            watchService = FileSystems.getDefault().newWatchService();
+            dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        }
+        catch(IOException e){
+            Fusions.getLogger().error("Fusions could not watch the configuration directory. Use /sponge plugins reload to reload.", e);
+            watchService = null;
+            return;
+        }
+
+        Thread watcher = new Thread(() -> watch(watchService, onReload), "Fusions-Config-Watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    /**
+     * Waits for changes to the configuration file and reloads it. Runs until the watch service is closed.
+     *
+     * @param service  Watch service registered to the configuration directory.
+     * @param onReload Called with new settings every time the file is reloaded without errors.
+     */
+    private static void watch(WatchService service, Consumer<FusionSettings> onReload){
+        try{
+            while(true){
+                WatchKey key = service.take();
+                boolean changed = false;
+                for(WatchEvent<?> event : key.pollEvents()){
+                    if(config.getFileName().equals(event.context())){
+                        changed = true;
+                    }
+                }
+                key.reset();
+
+                if(changed){
+                    //Editors often write a file in several steps, so wait for them to finish and discard the extra events.
+                    Thread.sleep(DEBOUNCE_MILLIS);
+                    WatchKey extra;
+                    while((extra = service.poll()) != null){
+                        extra.pollEvents();
+                        extra.reset();
+                    }
+
+                    reloadAsync(false).thenAccept(settings -> {
+                        if(settings != null){
+                            onReload.accept(settings);
+                        }
+                    });
+                }
+            }
+        }
+        catch(InterruptedException | ClosedWatchServiceException e){
+            //Watching was stopped.
+        }
+    }
+
+    /**
+     * Stops watching the configuration directory and stops the reload thread.
+     */
+    public static void shutdown(){
+        WatchService service = watchService;
+        watchService = null;
+        if(service != null){
+            try{
+                service.close();
+            }
+            catch(IOException e){
+                Fusions.getLogger().warn("Fusions could not stop watching the configuration directory.");
+            }
+        }
+        executor.shutdown();
+    }
+
     /**
      * Saves the configuration settings to configuration file.
      */
@@ -89,6 +275,15 @@ public class ConfigManager {
         return configLoad;
     }
 
+    /**
+     * Gets the root configuration node, where all configuration settings are stored.
+     *
+     * @return The root configuration node.
+     */
+    public static CommentedConfigurationNode getRootNode(){
+        return configNode;
+    }
+
     /**
      * Gets a node from the configuration node, where all configuration settings are stored.
      *
@@ -0,0 +1,111 @@
+package io.github.landonjw.fusions.configuration;
+
+import ninja.leaping.configurate.ConfigurationNode;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Problems found while loading the configuration, each tied to the setting it was found in.
+ *
+ * Errors are values that can't be understood, such as a word where a number is expected or a species that
+ * doesn't exist. Warnings are values that were understood but had to be adjusted, such as a negative cooldown.
+ * A configuration with errors is not used when reloading, so the last working configuration stays in place.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+public final class ConfigReport {
+
+    /** Values that couldn't be understood. */
+    private final List<String> errors = new ArrayList<>();
+    /** Values that were adjusted to be valid. */
+    private final List<String> warnings = new ArrayList<>();
+
+    /**
+     * Records a value that couldn't be understood.
+     *
+     * @param node    Node containing the value.
+     * @param message Description of the problem.
+     */
+    public void error(ConfigurationNode node, String message){
+        errors.add(getPath(node) + ": " + message);
+    }
+
+    /**
+     * Records a problem with the configuration file as a whole, such as a syntax error.
+     *
+     * @param message Description of the problem.
+     */
+    public void error(String message){
+        errors.add(message);
+    }
+
+    /**
+     * Records a value that was adjusted to be valid.
+     *
+     * @param node    Node containing the value.
+     * @param message Description of the adjustment.
+     */
+    public void warn(ConfigurationNode node, String message){
+        warnings.add(getPath(node) + ": " + message);
+    }
+
+    public boolean hasErrors(){
+        return !errors.isEmpty();
+    }
+
+    public boolean hasProblems(){
+        return !errors.isEmpty() || !warnings.isEmpty();
+    }
+
+    public List<String> getErrors(){
+        return Collections.unmodifiableList(errors);
+    }
+
+    public List<String> getWarnings(){
+        return Collections.unmodifiableList(warnings);
+    }
+
+    /**
+     * Logs every problem found, one per line.
+     *
+     * @param logger Logger to log problems to.
+     */
+    public void log(Logger logger){
+        for(String error : errors){
+            logger.error("  " + error);
+        }
+        for(String warning : warnings){
+            logger.warn("  " + warning);
+        }
+    }
+
+    /**
+     * Gets the path of a node, ie. "Fusing-Features.IVs.Fuse-Percent".
+     * Entries in lists are shown by their index, ie. "Fusing-Features.Species-Overrides[0].Fuse-Count".
+     *
+     * @param node Node to get path of.
+     * @return Path of the node.
+     */
+    private static String getPath(ConfigurationNode node){
+        StringBuilder path = new StringBuilder();
+        for(Object key : node.getPath()){
+            if(key == null){
+                continue;
+            }
+            if(key instanceof Integer){
+                path.append('[').append(key).append(']');
+            }
+            else{
+                if(path.length() > 0){
+                    path.append('.');
+                }
+                path.append(key);
+            }
+        }
+        return path.toString();
+    }
+}
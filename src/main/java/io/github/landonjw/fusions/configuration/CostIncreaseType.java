@@ -0,0 +1,49 @@
+package io.github.landonjw.fusions.configuration;
+
+/**
+ * How the cost per fusion scales with the number of times a Pokemon has been fused.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+public enum CostIncreaseType {
+    /** f(x) = base + (x) * fusion */
+    LINEAR {
+        @Override
+        public double getCost(double baseCost, double costPerFusion, int fuseCount){
+            return baseCost + costPerFusion * fuseCount;
+        }
+    },
+    /** f(x) = base + fusion^x */
+    EXPONENTIAL {
+        @Override
+        public double getCost(double baseCost, double costPerFusion, int fuseCount){
+            return baseCost + Math.pow(costPerFusion, fuseCount);
+        }
+    };
+
+    /**
+     * Gets the cost of a fusion.
+     *
+     * @param baseCost      Base cost of fusing two Pokemon.
+     * @param costPerFusion Additional cost per fusion on a Pokemon.
+     * @param fuseCount     Fuse count of the Pokemon after the fusion.
+     * @return Cost of the fusion.
+     */
+    public abstract double getCost(double baseCost, double costPerFusion, int fuseCount);
+
+    /**
+     * Parses a cost increase type from a configuration value, ignoring case.
+     *
+     * @param value Configuration value to parse.
+     * @return Cost increase type matching the value, or null if there is no match.
+     */
+    public static CostIncreaseType parse(String value){
+        for(CostIncreaseType type : values()){
+            if(type.name().equalsIgnoreCase(value)){
+                return type;
+            }
+        }
+        return null;
+    }
+}
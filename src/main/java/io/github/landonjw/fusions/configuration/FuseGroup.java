@@ -0,0 +1,48 @@
+package io.github.landonjw.fusions.configuration;
+
+/**
+ * The type of group two Pokemon must share in order to be fused together.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+public enum FuseGroup {
+    SPECIES("Species"),
+    TYPE("Type"),
+    EGG_GROUP("Egg Group");
+
+    /** Name of the group as it is written in configuration and shown to players. */
+    private final String displayName;
+
+    FuseGroup(String displayName){
+        this.displayName = displayName;
+    }
+
+    /**
+     * Gets the name of the group as it is written in configuration and shown to players.
+     *
+     * @return Name of the group.
+     */
+    public String getDisplayName(){
+        return displayName;
+    }
+
+    /**
+     * Parses a fuse group from a configuration value. Spaces and case are ignored, so "Egg Group" and "EggGroup" are equal.
+     *
+     * @param value Configuration value to parse.
+     * @return Fuse group matching the value, or null if there is no match.
+     */
+    public static FuseGroup parse(String value){
+        if(value == null){
+            return null;
+        }
+        String stripped = value.replace(" ", "");
+        for(FuseGroup group : values()){
+            if(group.displayName.replace(" ", "").equalsIgnoreCase(stripped)){
+                return group;
+            }
+        }
+        return null;
+    }
+}
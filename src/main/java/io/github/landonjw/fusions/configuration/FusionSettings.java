@@ -0,0 +1,690 @@
+package io.github.landonjw.fusions.configuration;
+
+import com.google.common.reflect.TypeToken;
+import com.pixelmonmod.pixelmon.enums.EnumSpecies;
+import io.github.landonjw.fusions.Fusions;
+import io.github.landonjw.fusions.api.CompatibilityIndex;
+import io.github.landonjw.fusions.api.SpeciesRules;
+import ninja.leaping.configurate.ConfigurationNode;
+import ninja.leaping.configurate.objectmapping.ObjectMappingException;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+
+/**
+ * Immutable snapshot of all configuration settings, already validated and converted to their typed values.
+ * A new snapshot is created every time the configuration is loaded, and anything holding onto an old
+ * snapshot (ie. an open GUI) will keep using the settings it started with.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+public final class FusionSettings {
+
+    /** Counter used to give every snapshot a unique version. */
+    private static final AtomicLong VERSIONS = new AtomicLong();
+
+    /** Version of this snapshot. Higher versions were loaded more recently. */
+    private final long version;
+
+    /* -----------------------------------------------------------------------------------------
+     * Fusing-Features
+     * -----------------------------------------------------------------------------------------
+     */
+    /** Command cooldown in seconds, or 0 if disabled. One fusion is earned back every cooldown. */
+    private final int cooldown;
+    /** How many fusions a player may do back to back before waiting on the cooldown. */
+    private final int cooldownBurst;
+    /** How many times a Pokemon can be fused, or 0 if unlimited. */
+    private final int maxFuseCount;
+    /** The type of group that is allowed to fuse together. */
+    private final FuseGroup fuseGroup;
+    /** Banlists and fuse group overrides for individual species. */
+    private final SpeciesRules speciesRules;
+    /** Precomputed index of which species and forms can fuse together, with group overrides applied. */
+    private final CompatibilityIndex compatibilityIndex;
+    /** Makes fused Pokemon unbreedable. */
+    private final boolean forceUnbreedable;
+    /** If fusion should affect Growth. */
+    private final boolean growthEnabled;
+    /** If fusion should affect IVs. */
+    private final boolean ivsEnabled;
+    /** The maximum IV amount that a Pokemon can get in any single IV. */
+    private final int maxIncrease;
+    /** The minimum IV amount that a Pokemon can get in any single IV. */
+    private final int minIncrease;
+    /** The percent of difference in Pokemon and sacrifice's IVs to add to Pokemon during fusion. */
+    private final double fusePercent;
+    /** The number of IVs to be affected from a fuse. */
+    private final int numAffectedIVs;
+
+    /* -----------------------------------------------------------------------------------------
+     * Retain-Qualities
+     * -----------------------------------------------------------------------------------------
+     */
+    /** If a fusion should keep an HA of a sacrificed Pokemon. */
+    private final boolean retainHA;
+    /** If a fusion should keep the shininess of a sacrificed Pokemon. */
+    private final boolean retainShiny;
+    /** If a fusion should keep the fuse count of a sacrificed Pokemon. */
+    private final boolean retainFuseCount;
+    /** If a fusion should keep unbreedable of a sacrificed Pokemon. */
+    private final boolean retainUnbreedable;
+
+    /* -----------------------------------------------------------------------------------------
+     * Fusing-Costs
+     * -----------------------------------------------------------------------------------------
+     */
+    /** If fusion should cost any money. */
+    private final boolean costEnabled;
+    /** The base cost of fusing two Pokemon. */
+    private final double baseCost;
+    /** Addition cost per fusion on a Pokemon. */
+    private final double costPerFusion;
+    /** If cost per fusion should scale linearly or exponentially. */
+    private final CostIncreaseType costIncreaseType;
+    /** The currency to use for fusion command costs. */
+    private final String currency;
+
+    /* -----------------------------------------------------------------------------------------
+     * GUI-Features
+     * -----------------------------------------------------------------------------------------
+     */
+    /** If the GUI should be used when TeslaPowered is present. */
+    private final boolean guiEnabled;
+    /** If the GUI should hide resulting IVs for fusion. */
+    private final boolean hideFusionIVs;
+
+    /* -----------------------------------------------------------------------------------------
+     * Diagnostics
+     * -----------------------------------------------------------------------------------------
+     */
+    /** If each phase of fusions and GUI renders should be timed. */
+    private final boolean tracingEnabled;
+    /** Time in milliseconds a fusion or GUI render must exceed to be logged, if tracing is enabled. */
+    private final int slowTraceThreshold;
+    /** If metrics should be exported over HTTP in Prometheus format. */
+    private final boolean metricsEnabled;
+    /** Address the metrics server binds to. */
+    private final String metricsHost;
+    /** Port the metrics server listens on. */
+    private final int metricsPort;
+
+    /* -----------------------------------------------------------------------------------------
+     * Audit-Log
+     * -----------------------------------------------------------------------------------------
+     */
+    /** If committed fusions should be written to the audit log. */
+    private final boolean auditLogEnabled;
+    /** Size in bytes the audit log must reach before it is rotated, or 0 for no limit. */
+    private final long auditLogMaxSize;
+    /** If the audit log should be rotated when a new day starts. */
+    private final boolean auditLogRotateDaily;
+    /** If rotated audit logs should be compressed. */
+    private final boolean auditLogCompressed;
+    /** If committed fusions should be stored in the queryable fusion history. */
+    private final boolean historyEnabled;
+
+    /* -----------------------------------------------------------------------------------------
+     * Admission
+     * -----------------------------------------------------------------------------------------
+     */
+    /** Most fusions applied to parties in a single tick, or 0 if unlimited. */
+    private final int maxCommitsPerTick;
+    /** Most fusion previews computed for GUIs in a single tick, or 0 if unlimited. */
+    private final int maxPreviewsPerTick;
+    /** If Fusions should do less work while the server is struggling to keep up. */
+    private final boolean degradationEnabled;
+    /** Average tick duration in nanoseconds above which result IVs are hidden, or 0 if they never are. */
+    private final long hideIVsThreshold;
+    /** Average tick duration in nanoseconds above which sprites are no longer drawn, or 0 if they always are. */
+    private final long staticSpritesThreshold;
+    /** Average tick duration in nanoseconds above which fusions are deferred, or 0 if they never are. */
+    private final long deferFusionsThreshold;
+    /** Average tick duration in nanoseconds above which new fusions are refused, or 0 if they never are. */
+    private final long refuseFusionsThreshold;
+
+    /**
+     * Reads all settings from a configuration node and validates them.
+     * If one of the values aren't valid, it will adjust them so they are valid, and record the problem in the report.
+     *
+     * @param root   Root node of the configuration file.
+     * @param report Report to record problems in.
+     */
+    private FusionSettings(ConfigurationNode root, ConfigReport report,
+                           BiFunction<SpeciesRules, FuseGroup, CompatibilityIndex> indexFactory){
+        this.version = VERSIONS.incrementAndGet();
+
+        ConfigurationNode features = root.getNode("Fusing-Features");
+        ConfigurationNode ivs = features.getNode("IVs");
+        ConfigurationNode qualities = root.getNode("Retain-Qualities");
+        ConfigurationNode costs = root.getNode("Fusing-Costs");
+        ConfigurationNode gui = root.getNode("GUI-Features");
+        ConfigurationNode diagnostics = root.getNode("Diagnostics");
+
+        //Check cooldown and fuse count are above or equal to 0, adjust to 0 if they aren't.
+        this.cooldown = (int) atLeast(features.getNode("Cooldown"), readInt(features.getNode("Cooldown"), report), 0, report);
+        this.maxFuseCount = (int) atLeast(features.getNode("Fuse-Count"), readInt(features.getNode("Fuse-Count"), report), 0, report);
+        ConfigurationNode burstNode = features.getNode("Cooldown-Burst");
+        this.cooldownBurst = burstNode.isVirtual() ? 1 : (int) atLeast(burstNode, readInt(burstNode, report), 1, report);
+
+        //Check fuse group is Species, Egg Group (or EggGroup), or Type, adjust to Species if it isn't.
+        ConfigurationNode groupNode = features.getNode("Fuse-Group");
+        FuseGroup group = FuseGroup.parse(readString(groupNode, "Species", report));
+        if(group == null){
+            report.error(groupNode, "unknown fuse group \"" + groupNode.getString() + "\", expected Species, Type or Egg Group");
+        }
+        this.fuseGroup = (group != null) ? group : FuseGroup.SPECIES;
+
+        this.speciesRules = loadSpeciesRules(features, report);
+        this.compatibilityIndex = indexFactory.apply(speciesRules, fuseGroup);
+        this.forceUnbreedable = readBoolean(features.getNode("Force-Unbreedable"), report);
+        this.growthEnabled = readBoolean(features.getNode("Growth", "Enable-Growth"), report);
+
+        this.ivsEnabled = readBoolean(ivs.getNode("Enable-IVs"), report);
+        //Check IV increases are above or equal to 0, adjust to 0 if they aren't.
+        this.maxIncrease = (int) atLeast(ivs.getNode("Fuse-Increase-Max"), readInt(ivs.getNode("Fuse-Increase-Max"), report), 0, report);
+        this.minIncrease = (int) atLeast(ivs.getNode("Fuse-Increase-Min"), readInt(ivs.getNode("Fuse-Increase-Min"), report), 0, report);
+        //Check fuse percent is within 0.0 and 1.0, and number of affected IVs are between 0 and 6.
+        this.fusePercent = clamp(ivs.getNode("Fuse-Percent"), readDouble(ivs.getNode("Fuse-Percent"), report), 0, 1, report);
+        this.numAffectedIVs = (int) clamp(ivs.getNode("Num-IVs-Affected"), readInt(ivs.getNode("Num-IVs-Affected"), report), 0, 6, report);
+
+        this.retainHA = readBoolean(qualities.getNode("Retain-HA"), report);
+        this.retainShiny = readBoolean(qualities.getNode("Retain-Shiny"), report);
+        this.retainFuseCount = readBoolean(qualities.getNode("Retain-Fuse-Count"), report);
+        this.retainUnbreedable = readBoolean(qualities.getNode("Retain-Unbreedable"), report);
+
+        this.costEnabled = readBoolean(costs.getNode("Enable-Cost"), report);
+        //Check costs are above or equal to 0, adjust to 0 if they aren't.
+        this.baseCost = atLeast(costs.getNode("Cost-Base"), readDouble(costs.getNode("Cost-Base"), report), 0, report);
+        this.costPerFusion = atLeast(costs.getNode("Cost-Per-Fusion"), readDouble(costs.getNode("Cost-Per-Fusion"), report), 0, report);
+        //Check cost increase type is equal to Linear or Exponential, set to Linear if it isn't.
+        ConfigurationNode increaseNode = costs.getNode("Cost-Increase-Type");
+        CostIncreaseType increaseType = CostIncreaseType.parse(readString(increaseNode, "Linear", report));
+        if(increaseType == null){
+            report.error(increaseNode, "unknown cost increase type \"" + increaseNode.getString() + "\", expected Linear or Exponential");
+        }
+        this.costIncreaseType = (increaseType != null) ? increaseType : CostIncreaseType.LINEAR;
+        this.currency = readString(costs.getNode("Currency"), "", report);
+
+        this.guiEnabled = readBoolean(gui.getNode("Enable-GUI"), report);
+        this.hideFusionIVs = readBoolean(gui.getNode("Hide-Fusion-IVs"), report);
+
+        //Diagnostics were added after the other sections, so older configuration files may not have them.
+        ConfigurationNode tracingNode = diagnostics.getNode("Enable-Tracing");
+        this.tracingEnabled = !tracingNode.isVirtual() && readBoolean(tracingNode, report);
+        ConfigurationNode thresholdNode = diagnostics.getNode("Slow-Threshold");
+        this.slowTraceThreshold = thresholdNode.isVirtual() ? 50 : (int) atLeast(thresholdNode, readInt(thresholdNode, report), 0, report);
+
+        ConfigurationNode metrics = diagnostics.getNode("Metrics");
+        ConfigurationNode metricsNode = metrics.getNode("Enable-Metrics");
+        this.metricsEnabled = !metricsNode.isVirtual() && readBoolean(metricsNode, report);
+        ConfigurationNode hostNode = metrics.getNode("Host");
+        this.metricsHost = hostNode.isVirtual() ? "127.0.0.1" : readString(hostNode, "127.0.0.1", report);
+        //Check port is a valid port, adjust to default port if it isn't.
+        ConfigurationNode portNode = metrics.getNode("Port");
+        int port = portNode.isVirtual() ? 9400 : readInt(portNode, report);
+        if(port < 1 || port > 65535){
+            report.warn(portNode, port + " is not a valid port, using 9400");
+            port = 9400;
+        }
+        this.metricsPort = port;
+
+        //The audit log was added after the other sections, so older configuration files may not have it.
+        //Recording stays off for those until it is enabled, like tracing and metrics.
+        ConfigurationNode audit = root.getNode("Audit-Log");
+        ConfigurationNode auditNode = audit.getNode("Enable-Audit-Log");
+        this.auditLogEnabled = !auditNode.isVirtual() && readBoolean(auditNode, report);
+        ConfigurationNode sizeNode = audit.getNode("Max-File-Size-MB");
+        this.auditLogMaxSize = (sizeNode.isVirtual() ? 10 : (long) atLeast(sizeNode, readInt(sizeNode, report), 0, report)) * 1024 * 1024;
+        ConfigurationNode dailyNode = audit.getNode("Rotate-Daily");
+        this.auditLogRotateDaily = dailyNode.isVirtual() || readBoolean(dailyNode, report);
+        ConfigurationNode compressNode = audit.getNode("Compress-Rotated");
+        this.auditLogCompressed = compressNode.isVirtual() || readBoolean(compressNode, report);
+        ConfigurationNode historyNode = audit.getNode("Enable-History");
+        this.historyEnabled = !historyNode.isVirtual() && readBoolean(historyNode, report);
+
+        ConfigurationNode admission = root.getNode("Admission");
+        ConfigurationNode commitsNode = admission.getNode("Max-Commits-Per-Tick");
+        this.maxCommitsPerTick = commitsNode.isVirtual() ? 10 : (int) atLeast(commitsNode, readInt(commitsNode, report), 0, report);
+        ConfigurationNode previewsNode = admission.getNode("Max-Previews-Per-Tick");
+        this.maxPreviewsPerTick = previewsNode.isVirtual() ? 40 : (int) atLeast(previewsNode, readInt(previewsNode, report), 0, report);
+
+        ConfigurationNode degradation = admission.getNode("Degradation");
+        ConfigurationNode degradationNode = degradation.getNode("Enable-Degradation");
+        this.degradationEnabled = degradationNode.isVirtual() || readBoolean(degradationNode, report);
+        this.hideIVsThreshold = readThreshold(degradation, "Hide-IVs-Above", 60, report);
+        this.staticSpritesThreshold = readThreshold(degradation, "Static-Sprites-Above", 75, report);
+        this.deferFusionsThreshold = readThreshold(degradation, "Defer-Fusions-Above", 90, report);
+        this.refuseFusionsThreshold = readThreshold(degradation, "Refuse-Fusions-Above", 120, report);
+    }
+
+    /**
+     * Reads an average tick duration in milliseconds at which Fusions steps down.
+     *
+     * @param degradation Degradation section of the configuration.
+     * @param key         Key of the threshold.
+     * @param def         Threshold to use if the key is missing.
+     * @param report      Report to record problems in.
+     * @return Threshold in nanoseconds, or 0 if it is disabled.
+     */
+    private static long readThreshold(ConfigurationNode degradation, String key, int def, ConfigReport report){
+        ConfigurationNode node = degradation.getNode(key);
+        int millis = node.isVirtual() ? def : (int) atLeast(node, readInt(node, report), 0, report);
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    /**
+     * Creates a new snapshot of settings from a configuration node.
+     * Any problems found are logged.
+     *
+     * @param root Root node of the configuration file.
+     * @return Snapshot of validated settings.
+     */
+    public static FusionSettings fromNode(ConfigurationNode root){
+        ConfigReport report = new ConfigReport();
+        FusionSettings settings = new FusionSettings(root, report, CompatibilityIndex::build);
+        if(report.hasProblems()){
+            Fusions.getLogger().warn("Fusions configuration has problems:");
+            report.log(Fusions.getLogger());
+        }
+        return settings;
+    }
+
+    /**
+     * Creates a new snapshot of settings from a configuration node, recording any problems found in a report.
+     *
+     * @param root   Root node of the configuration file.
+     * @param report Report to record problems in.
+     * @return Snapshot of validated settings.
+     */
+    public static FusionSettings fromNode(ConfigurationNode root, ConfigReport report){
+        return new FusionSettings(root, report, CompatibilityIndex::build);
+    }
+
+    /**
+     * Creates a new snapshot of settings from a configuration node, building the compatibility index with a given factory
+     * instead of from Pixelmon's stats registry. Used where the registry isn't loaded, such as benchmarks.
+     *
+     * @param root         Root node of the configuration file.
+     * @param report       Report to record problems in.
+     * @param indexFactory Builds the compatibility index from the species rules and default fuse group.
+     * @return Snapshot of validated settings.
+     */
+    public static FusionSettings fromNode(ConfigurationNode root, ConfigReport report,
+                                          BiFunction<SpeciesRules, FuseGroup, CompatibilityIndex> indexFactory){
+        return new FusionSettings(root, report, indexFactory);
+    }
+
+    /**
+     * Builds species banlists, fuse group overrides, and fuse count and cost overrides from configuration node values.
+     *
+     * @param features The Fusing-Features node of the configuration file.
+     * @param report   Report to record problems in.
+     * @return Species rules from configuration.
+     */
+    private static SpeciesRules loadSpeciesRules(ConfigurationNode features, ConfigReport report){
+        SpeciesRules.Builder builder = SpeciesRules.builder();
+
+        //If list type is whitelist, every species that isn't parsed is banned. If blacklist, every species parsed is banned.
+        ConfigurationNode fusionBans = features.getNode("Species-Bans-Fusion");
+        builder.banFusion(parseSpecies(fusionBans.getNode("Fusion-Banlist"), report),
+                isWhitelist(fusionBans.getNode("List-Type"), report));
+
+        ConfigurationNode sacrificeBans = features.getNode("Species-Bans-Sacrifice");
+        builder.banSacrifice(parseSpecies(sacrificeBans.getNode("Sacrifice-Banlist"), report),
+                isWhitelist(sacrificeBans.getNode("List-Type"), report));
+
+        //Egg group overrides take priority over species overrides, which take priority over type overrides.
+        builder.overrideGroup(parseSpecies(features.getNode("Group-Override-Egg-Group"), report), FuseGroup.EGG_GROUP);
+        builder.overrideGroup(parseSpecies(features.getNode("Group-Override-Species"), report), FuseGroup.SPECIES);
+        builder.overrideGroup(parseSpecies(features.getNode("Group-Override-Type"), report), FuseGroup.TYPE);
+
+        builder.alwaysFusable(parseSpecies(features.getNode("Always-Fusable"), report));
+        builder.alwaysSacrificeable(parseSpecies(features.getNode("Always-Sacrificeable"), report));
+
+        //Overrides are applied in the order they are listed, so species in more than one use the first.
+        for(ConfigurationNode override : features.getNode("Species-Overrides").getChildrenList()){
+            EnumSet<EnumSpecies> species = parseSpecies(override.getNode("Species"), report);
+
+            //Check overrides are above or equal to 0, ignore them if they aren't.
+            ConfigurationNode fuseCountNode = override.getNode("Fuse-Count");
+            if(!fuseCountNode.isVirtual()){
+                builder.overrideFuseCount(species, (int) atLeast(fuseCountNode, readInt(fuseCountNode, report), 0, report));
+            }
+            ConfigurationNode baseCostNode = override.getNode("Cost-Base");
+            ConfigurationNode costPerFusionNode = override.getNode("Cost-Per-Fusion");
+            double baseCost = baseCostNode.isVirtual() ? Double.NaN : atLeast(baseCostNode, readDouble(baseCostNode, report), 0, report);
+            double costPerFusion = costPerFusionNode.isVirtual() ? Double.NaN : atLeast(costPerFusionNode, readDouble(costPerFusionNode, report), 0, report);
+            builder.overrideCost(species, baseCost, costPerFusion);
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Parses a list of species from a configuration node, recording names that aren't recognized.
+     * Lists that aren't in the configuration are treated as empty, so older configuration files still load.
+     *
+     * @param node   Node containing a list of species names.
+     * @param report Report to record problems in.
+     * @return Set of species in the list, or an empty set if the list could not be loaded.
+     */
+    private static EnumSet<EnumSpecies> parseSpecies(ConfigurationNode node, ConfigReport report){
+        if(node.isVirtual()){
+            return EnumSet.noneOf(EnumSpecies.class);
+        }
+        if(!node.hasListChildren() && node.getValue() != null){
+            report.error(node, "expected a list of species, ie. [\"Pikachu\", \"Legendaries\"]");
+            return EnumSet.noneOf(EnumSpecies.class);
+        }
+        try{
+            return SpeciesParser.parse(node.getList(TypeToken.of(String.class), Collections.emptyList()),
+                    unknown -> report.error(node, "unknown species or group \"" + unknown + "\""));
+        }
+        catch(ObjectMappingException e){
+            report.error(node, "could not be read as a list of species: " + e.getMessage());
+            return EnumSet.noneOf(EnumSpecies.class);
+        }
+    }
+
+    /**
+     * Reads the List-Type of a banlist.
+     *
+     * @param node   Node containing the list type.
+     * @param report Report to record problems in.
+     * @return True if the list is a whitelist, false if it is a blacklist.
+     */
+    private static boolean isWhitelist(ConfigurationNode node, ConfigReport report){
+        String value = readString(node, "Black", report);
+        if(!value.equalsIgnoreCase("White") && !value.equalsIgnoreCase("Black")){
+            report.error(node, "unknown list type \"" + value + "\", expected Black or White");
+        }
+        return value.equalsIgnoreCase("White");
+    }
+
+    /* -----------------------------------------------------------------------------------------
+     * Typed reads. Each records an error if the value can't be converted, instead of silently using a default.
+     * -----------------------------------------------------------------------------------------
+     */
+
+    private static int readInt(ConfigurationNode node, ConfigReport report){
+        Object value = node.getValue();
+        if(value == null){
+            report.warn(node, "is missing, using 0");
+            return 0;
+        }
+        if(value instanceof Number){
+            return ((Number) value).intValue();
+        }
+        try{
+            return Integer.parseInt(value.toString().trim());
+        }
+        catch(NumberFormatException e){
+            report.error(node, "expected a whole number, found \"" + value + "\"");
+            return 0;
+        }
+    }
+
+    private static double readDouble(ConfigurationNode node, ConfigReport report){
+        Object value = node.getValue();
+        if(value == null){
+            report.warn(node, "is missing, using 0.0");
+            return 0;
+        }
+        if(value instanceof Number){
+            return ((Number) value).doubleValue();
+        }
+        try{
+            return Double.parseDouble(value.toString().trim());
+        }
+        catch(NumberFormatException e){
+            report.error(node, "expected a number, found \"" + value + "\"");
+            return 0;
+        }
+    }
+
+    private static boolean readBoolean(ConfigurationNode node, ConfigReport report){
+        Object value = node.getValue();
+        if(value == null){
+            report.warn(node, "is missing, using false");
+            return false;
+        }
+        if(value instanceof Boolean){
+            return (Boolean) value;
+        }
+        String string = value.toString().trim();
+        if(string.equalsIgnoreCase("true") || string.equalsIgnoreCase("false")){
+            return Boolean.parseBoolean(string);
+        }
+        report.error(node, "expected true or false, found \"" + value + "\"");
+        return false;
+    }
+
+    private static String readString(ConfigurationNode node, String def, ConfigReport report){
+        Object value = node.getValue();
+        if(value == null){
+            report.warn(node, "is missing, using \"" + def + "\"");
+            return def;
+        }
+        if(node.hasListChildren() || node.hasMapChildren()){
+            report.error(node, "expected a single value");
+            return def;
+        }
+        return value.toString();
+    }
+
+    private static double atLeast(ConfigurationNode node, double value, double min, ConfigReport report){
+        if(value < min){
+            report.warn(node, value + " is below " + min + ", using " + min);
+            return min;
+        }
+        return value;
+    }
+
+    private static double clamp(ConfigurationNode node, double value, double min, double max, ConfigReport report){
+        if(value < min || value > max){
+            double clamped = Math.max(min, Math.min(max, value));
+            report.warn(node, value + " is outside " + min + " to " + max + ", using " + clamped);
+            return clamped;
+        }
+        return value;
+    }
+
+    /**
+     * Gets the cost of a fusion on a species that results in a Pokemon with a given fuse count,
+     * using the species' cost overrides if it has any.
+     *
+     * @param species   Species of the Pokemon being fused.
+     * @param fuseCount Fuse count of the Pokemon after the fusion.
+     * @return Cost of the fusion. If cost isn't enabled, returns 0.
+     */
+    public double getCost(EnumSpecies species, int fuseCount){
+        if(!costEnabled){
+            return 0;
+        }
+        return costIncreaseType.getCost(speciesRules.getBaseCost(species, baseCost),
+                speciesRules.getCostPerFusion(species, costPerFusion), fuseCount);
+    }
+
+    /**
+     * Gets how many times a species can be fused, using the species' fuse count override if it has one.
+     *
+     * @param species Species of the Pokemon being fused.
+     * @return How many times the species can be fused, or 0 if there is no limit.
+     */
+    public int getMaxFuseCount(EnumSpecies species){
+        return speciesRules.getMaxFuseCount(species, maxFuseCount);
+    }
+
+    public long getVersion(){
+        return version;
+    }
+
+    public int getCooldown(){
+        return cooldown;
+    }
+
+    public int getCooldownBurst(){
+        return cooldownBurst;
+    }
+
+    public int getMaxFuseCount(){
+        return maxFuseCount;
+    }
+
+    public FuseGroup getFuseGroup(){
+        return fuseGroup;
+    }
+
+    public SpeciesRules getSpeciesRules(){
+        return speciesRules;
+    }
+
+    public CompatibilityIndex getCompatibilityIndex(){
+        return compatibilityIndex;
+    }
+
+    public boolean isForceUnbreedable(){
+        return forceUnbreedable;
+    }
+
+    public boolean isGrowthEnabled(){
+        return growthEnabled;
+    }
+
+    public boolean isIVsEnabled(){
+        return ivsEnabled;
+    }
+
+    public int getMaxIncrease(){
+        return maxIncrease;
+    }
+
+    public int getMinIncrease(){
+        return minIncrease;
+    }
+
+    public double getFusePercent(){
+        return fusePercent;
+    }
+
+    public int getNumAffectedIVs(){
+        return numAffectedIVs;
+    }
+
+    public boolean isRetainHA(){
+        return retainHA;
+    }
+
+    public boolean isRetainShiny(){
+        return retainShiny;
+    }
+
+    public boolean isRetainFuseCount(){
+        return retainFuseCount;
+    }
+
+    public boolean isRetainUnbreedable(){
+        return retainUnbreedable;
+    }
+
+    public boolean isCostEnabled(){
+        return costEnabled;
+    }
+
+    public double getBaseCost(){
+        return baseCost;
+    }
+
+    public double getCostPerFusion(){
+        return costPerFusion;
+    }
+
+    public CostIncreaseType getCostIncreaseType(){
+        return costIncreaseType;
+    }
+
+    public String getCurrency(){
+        return currency;
+    }
+
+    public boolean isGUIEnabled(){
+        return guiEnabled;
+    }
+
+    public boolean isHideFusionIVs(){
+        return hideFusionIVs;
+    }
+
+    public boolean isTracingEnabled(){
+        return tracingEnabled;
+    }
+
+    public int getSlowTraceThreshold(){
+        return slowTraceThreshold;
+    }
+
+    public boolean isMetricsEnabled(){
+        return metricsEnabled;
+    }
+
+    public String getMetricsHost(){
+        return metricsHost;
+    }
+
+    public int getMetricsPort(){
+        return metricsPort;
+    }
+
+    public boolean isAuditLogEnabled(){
+        return auditLogEnabled;
+    }
+
+    public long getAuditLogMaxSize(){
+        return auditLogMaxSize;
+    }
+
+    public boolean isAuditLogRotateDaily(){
+        return auditLogRotateDaily;
+    }
+
+    public boolean isAuditLogCompressed(){
+        return auditLogCompressed;
+    }
+
+    public boolean isHistoryEnabled(){
+        return historyEnabled;
+    }
+
+    public int getMaxCommitsPerTick(){
+        return maxCommitsPerTick;
+    }
+
+    public int getMaxPreviewsPerTick(){
+        return maxPreviewsPerTick;
+    }
+
+    public boolean isDegradationEnabled(){
+        return degradationEnabled;
+    }
+
+    public long getHideIVsThreshold(){
+        return hideIVsThreshold;
+    }
+
+    public long getStaticSpritesThreshold(){
+        return staticSpritesThreshold;
+    }
+
+    public long getDeferFusionsThreshold(){
+        return deferFusionsThreshold;
+    }
+
+    public long getRefuseFusionsThreshold(){
+        return refuseFusionsThreshold;
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.landonjw.fusions.configuration;
+
+import com.pixelmonmod.pixelmon.enums.EnumSpecies;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.function.Consumer;
+
+/**
+ * Parses species lists from configuration, such as banlists and group overrides.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+public class SpeciesParser {
+
+    /**
+     * Retrieves a set of EnumSpecies from a list of Strings.
+     * Values may be species names in any case, or the groups "Legendaries" and "Ultrabeasts".
+     * Values that aren't recognized are ignored.
+     *
+     * @param strSpeciesList List of String of pokemon species names.
+     * @return Set of EnumSpecies.
+     */
+    public static EnumSet<EnumSpecies> parse(Collection<String> strSpeciesList){
+        return parse(strSpeciesList, unknown -> {});
+    }
+
+    /**
+     * Retrieves a set of EnumSpecies from a list of Strings, reporting values that aren't recognized.
+     *
+     * @param strSpeciesList List of String of pokemon species names.
+     * @param unknown        Called with each value that isn't a species or group.
+     * @return Set of EnumSpecies.
+     */
+    public static EnumSet<EnumSpecies> parse(Collection<String> strSpeciesList, Consumer<String> unknown){
+        EnumSet<EnumSpecies> speciesSet = EnumSet.noneOf(EnumSpecies.class);
+        for(String strSpecies : strSpeciesList){
+            if(strSpecies.equalsIgnoreCase("Legendaries")){
+                speciesSet.addAll(EnumSpecies.legendaries);
+            }
+            else if(strSpecies.equalsIgnoreCase("Ultrabeasts")){
+                speciesSet.addAll(EnumSpecies.ultrabeasts);
+            }
+            else{
+                EnumSpecies species = EnumSpecies.getFromNameAnyCase(strSpecies);
+                if(species != null){
+                    speciesSet.add(species);
+                }
+                else{
+                    unknown.accept(strSpecies);
+                }
+            }
+        }
+        return speciesSet;
+    }
+}
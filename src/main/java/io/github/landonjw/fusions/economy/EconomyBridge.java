@@ -0,0 +1,250 @@
+package io.github.landonjw.fusions.economy;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.github.landonjw.fusions.Fusions;
+import io.github.landonjw.fusions.configuration.FusionSettings;
+import io.github.landonjw.fusions.metrics.FusionMetrics;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.cause.EventContext;
+import org.spongepowered.api.event.cause.EventContextKeys;
+import org.spongepowered.api.service.economy.Currency;
+import org.spongepowered.api.service.economy.EconomyService;
+import org.spongepowered.api.service.economy.account.UniqueAccount;
+import org.spongepowered.api.service.economy.transaction.ResultType;
+import org.spongepowered.api.service.economy.transaction.TransactionResult;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Handles all interaction with the economy service.
+ *
+ * The currency used for fusions is resolved once when the plugin starts or is reloaded, rather than on every fusion.
+ * Account handles are kept in a bounded cache so repeated fusions don't have to look the account up again,
+ * which is a database query on most SQL backed economy plugins.
+ *
+ * Transactions can be run on a small bounded executor, so a slow economy backend never blocks the server thread.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+public class EconomyBridge {
+
+    /** Maximum number of accounts kept in the cache. */
+    private static final int MAXIMUM_ACCOUNTS = 1000;
+    /** How long an account is kept in the cache after it was last used, in minutes. */
+    private static final int EXPIRE_MINUTES = 30;
+    /** Maximum number of threads running transactions. */
+    private static final int MAXIMUM_THREADS = 4;
+    /** Maximum number of transactions waiting for a thread. Further transactions are rejected. */
+    private static final int MAXIMUM_QUEUED = 256;
+
+    /** Economy service loaded on server, or null if there is none. */
+    private static volatile EconomyService economyService;
+    /** Currency to use for fusion costs, or null if there is no economy service. */
+    private static volatile Currency currency;
+    /** Cause of every transaction made by the plugin. */
+    private static volatile Cause cause;
+
+    private static final Cache<UUID, UniqueAccount> accounts = CacheBuilder.newBuilder()
+            .maximumSize(MAXIMUM_ACCOUNTS)
+            .expireAfterAccess(EXPIRE_MINUTES, TimeUnit.MINUTES)
+            .build();
+
+    /** Executor running transactions off of the server thread. */
+    private static final ThreadPoolExecutor executor = createExecutor();
+
+    private static ThreadPoolExecutor createExecutor(){
+        ThreadPoolExecutor threadPool = new ThreadPoolExecutor(MAXIMUM_THREADS, MAXIMUM_THREADS, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(MAXIMUM_QUEUED),
+                new ThreadFactoryBuilder().setNameFormat("Fusions-Economy-%d").setDaemon(true).build(),
+                new ThreadPoolExecutor.AbortPolicy());
+        threadPool.allowCoreThreadTimeOut(true);
+        return threadPool;
+    }
+
+    /**
+     * Sets the economy service to use and resolves the currency from configuration.
+     *
+     * @param service  Economy service loaded on the server, or null if there is none.
+     * @param settings Settings to get the currency name from.
+     */
+    public static void setup(EconomyService service, FusionSettings settings){
+        economyService = service;
+        EventContext eventContext = EventContext.builder().add(EventContextKeys.PLUGIN, Fusions.getContainer()).build();
+        cause = Cause.of(eventContext, Fusions.getContainer());
+        accounts.invalidateAll();
+        resolveCurrency(settings);
+    }
+
+    /**
+     * Resolves the currency to use for fusion costs.
+     * If the configured currency doesn't exist, the economy's default currency is used and a warning is logged once.
+     *
+     * @param settings Settings to get the currency name from.
+     */
+    public static void resolveCurrency(FusionSettings settings){
+        EconomyService service = economyService;
+        if(service == null){
+            currency = null;
+            return;
+        }
+
+        String currencyName = settings.getCurrency();
+        Currency resolved = null;
+        for(Currency economyCurrency : service.getCurrencies()){
+            if(economyCurrency.getDisplayName().toPlain().equals(currencyName) || economyCurrency.getId().equalsIgnoreCase(currencyName)){
+                resolved = economyCurrency;
+                break;
+            }
+        }
+
+        if(resolved == null){
+            if(settings.isCostEnabled()){
+                Fusions.getLogger().warn("Specified currency '" + currencyName + "' not found. Using default currency...");
+            }
+            resolved = service.getDefaultCurrency();
+        }
+        currency = resolved;
+    }
+
+    /**
+     * Checks if an economy service is loaded.
+     *
+     * @return True if an economy service is loaded, false if there isn't one.
+     */
+    public static boolean isAvailable(){
+        return economyService != null;
+    }
+
+    /**
+     * Gets the currency used for fusion costs.
+     *
+     * @return Optional containing the currency, or empty if there is no economy service.
+     */
+    public static Optional<Currency> getCurrency(){
+        return Optional.ofNullable(currency);
+    }
+
+    /**
+     * Gets the account of a player, from the cache if it has been looked up recently.
+     *
+     * @param uuid UUID of the player to get account of.
+     * @return Optional containing the player's account, or empty if there is no economy service or account.
+     */
+    public static Optional<UniqueAccount> getAccount(UUID uuid){
+        EconomyService service = economyService;
+        if(service == null){
+            return Optional.empty();
+        }
+
+        UniqueAccount account = accounts.getIfPresent(uuid);
+        if(account == null){
+            Optional<UniqueAccount> optionalAccount = service.getOrCreateAccount(uuid);
+            if(!optionalAccount.isPresent()){
+                return Optional.empty();
+            }
+            account = optionalAccount.get();
+            accounts.put(uuid, account);
+        }
+        return Optional.of(account);
+    }
+
+    /**
+     * Withdraws money from a player's account in the fusion currency.
+     *
+     * @param uuid   UUID of the player to withdraw from.
+     * @param amount Amount to withdraw.
+     * @return Optional containing the result of the withdrawal, or empty if there is no economy service or account.
+     */
+    public static Optional<TransactionResult> withdraw(UUID uuid, BigDecimal amount){
+        Optional<UniqueAccount> optionalAccount = getAccount(uuid);
+        Currency withdrawCurrency = currency;
+        if(!optionalAccount.isPresent() || withdrawCurrency == null){
+            return Optional.empty();
+        }
+        return Optional.of(optionalAccount.get().withdraw(withdrawCurrency, amount, cause));
+    }
+
+    /**
+     * Removes a player's account from the cache. Used when a player disconnects.
+     *
+     * @param uuid UUID of the player to remove account of.
+     */
+    public static void invalidate(UUID uuid){
+        accounts.invalidate(uuid);
+    }
+
+    /**
+     * Withdraws money from a player's account in the fusion currency, without blocking the calling thread.
+     *
+     * @param uuid   UUID of the player to withdraw from.
+     * @param amount Amount to withdraw.
+     * @return Future completed with the result of the withdrawal, or empty if there is no economy service or account.
+     * @throws RejectedExecutionException If too many transactions are already waiting.
+     */
+    public static CompletableFuture<Optional<TransactionResult>> withdrawAsync(UUID uuid, BigDecimal amount){
+        return CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            try{
+                return withdraw(uuid, amount);
+            }
+            finally{
+                FusionMetrics.withdrawCompleted(System.nanoTime() - start);
+            }
+        }, executor);
+    }
+
+    /**
+     * Gives money back to a player after a withdrawal was made for a fusion that could not be finished.
+     * Runs off of the server thread when possible, and logs the refund if it fails so it can be given manually.
+     *
+     * The refund is given in the currency that was withdrawn, even if the configured currency has since changed.
+     *
+     * @param uuid           UUID of the player to refund.
+     * @param amount         Amount to refund.
+     * @param refundCurrency Currency the amount was withdrawn in.
+     */
+    public static void refund(UUID uuid, BigDecimal amount, Currency refundCurrency){
+        Runnable deposit = () -> {
+            Optional<UniqueAccount> optionalAccount = getAccount(uuid);
+            TransactionResult result = optionalAccount.isPresent()
+                    ? optionalAccount.get().deposit(refundCurrency, amount, cause) : null;
+
+            if(result == null || result.getResult() != ResultType.SUCCESS){
+                Fusions.getLogger().error("Could not refund " + amount.toPlainString() + " to " + uuid + " for a failed fusion.");
+            }
+        };
+
+        try{
+            executor.execute(deposit);
+        }
+        catch(RejectedExecutionException e){
+            //Never drop a refund, even if it means blocking the current thread.
+            deposit.run();
+        }
+    }
+
+    /**
+     * Stops accepting transactions and waits for queued transactions to finish. Used when the server is stopping.
+     */
+    public static void shutdown(){
+        executor.shutdown();
+        try{
+            if(!executor.awaitTermination(10, TimeUnit.SECONDS)){
+                Fusions.getLogger().warn("Economy transactions did not finish before shutdown.");
+            }
+        }
+        catch(InterruptedException e){
+            Thread.currentThread().interrupt();
+        }
+    }
+}
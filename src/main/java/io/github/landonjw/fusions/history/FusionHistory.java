@@ -0,0 +1,349 @@
+package io.github.landonjw.fusions.history;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.github.landonjw.fusions.Fusions;
+import io.github.landonjw.fusions.audit.AuditLog;
+import io.github.landonjw.fusions.audit.FusionRecord;
+import io.github.landonjw.fusions.configuration.FusionSettings;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.service.sql.SqlService;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Queryable history of every fusion, stored in an embedded H2 database in the configuration directory.
+ *
+ * Fusions are written behind: recording one only adds it to a lock-free queue, which a background thread
+ * inserts in batches about once a second. Fusions are indexed by player (and species) and by the UUID of every
+ * Pokemon involved, so lookups stay fast no matter how many fusions are stored. Queries run on their own threads
+ * and never block the server thread.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+public class FusionHistory {
+
+    /** How often queued fusions are written, in milliseconds. */
+    private static final long FLUSH_INTERVAL = 1000;
+
+    private static final String[] SCHEMA = {
+            "CREATE TABLE IF NOT EXISTS fusion_history ("
+                    + "id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                    + "time BIGINT NOT NULL, "
+                    + "player_uuid UUID NOT NULL, "
+                    + "player_name VARCHAR(16) NOT NULL, "
+                    + "pokemon_uuid UUID NOT NULL, "
+                    + "species VARCHAR(32) NOT NULL, "
+                    + "sacrifice_species VARCHAR(256) NOT NULL, "
+                    + "ivs_before INT NOT NULL, "
+                    + "ivs_after INT NOT NULL, "
+                    + "fuse_count INT NOT NULL, "
+                    + "traits VARCHAR(1024) NOT NULL, "
+                    + "cost DECIMAL(20, 2) NOT NULL)",
+            "CREATE TABLE IF NOT EXISTS fusion_sacrifices ("
+                    + "history_id BIGINT NOT NULL, "
+                    + "pokemon_uuid UUID NOT NULL, "
+                    + "species VARCHAR(32) NOT NULL)",
+            "CREATE INDEX IF NOT EXISTS fusion_history_player ON fusion_history (player_uuid, time DESC, id DESC)",
+            "CREATE INDEX IF NOT EXISTS fusion_history_player_species ON fusion_history (player_uuid, species, time DESC, id DESC)",
+            "CREATE INDEX IF NOT EXISTS fusion_history_pokemon ON fusion_history (pokemon_uuid)",
+            "CREATE INDEX IF NOT EXISTS fusion_sacrifices_pokemon ON fusion_sacrifices (pokemon_uuid)"
+    };
+
+    private static final String INSERT_HISTORY = "INSERT INTO fusion_history "
+            + "(time, player_uuid, player_name, pokemon_uuid, species, sacrifice_species, ivs_before, ivs_after, fuse_count, traits, cost) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_SACRIFICE = "INSERT INTO fusion_sacrifices (history_id, pokemon_uuid, species) VALUES (?, ?, ?)";
+
+    private static final String COLUMNS = "h.time, h.player_uuid, h.player_name, h.pokemon_uuid, h.species, h.sacrifice_species, "
+            + "h.ivs_before, h.ivs_after, h.fuse_count, h.traits, h.cost";
+    private static final String SELECT_PLAYER = "SELECT " + COLUMNS + " FROM fusion_history h "
+            + "WHERE h.player_uuid = ? ORDER BY h.time DESC, h.id DESC LIMIT ? OFFSET ?";
+    private static final String SELECT_PLAYER_SPECIES = "SELECT " + COLUMNS + " FROM fusion_history h "
+            + "WHERE h.player_uuid = ? AND h.species = ? ORDER BY h.time DESC, h.id DESC LIMIT ? OFFSET ?";
+    private static final String SELECT_POKEMON = "SELECT " + COLUMNS + " FROM fusion_history h WHERE h.pokemon_uuid = ? "
+            + "UNION SELECT " + COLUMNS + " FROM fusion_history h JOIN fusion_sacrifices s ON s.history_id = h.id WHERE s.pokemon_uuid = ? "
+            + "ORDER BY 1 DESC LIMIT ? OFFSET ?";
+
+    /** Fusions waiting to be written. */
+    private static final ConcurrentLinkedQueue<FusionRecord> queue = new ConcurrentLinkedQueue<>();
+
+    /** Database fusions are stored in, or null if history isn't available. */
+    private static volatile DataSource dataSource;
+    /** Settings history is enabled with. */
+    private static volatile FusionSettings settings;
+    /** Thread writing queued fusions. */
+    private static ScheduledExecutorService writer;
+    /** Threads running queries, or null if history isn't available. */
+    private static volatile ExecutorService readers;
+
+    /**
+     * Opens the database, creating it if it doesn't exist, and starts writing queued fusions.
+     *
+     * @param directory Directory to store the database in.
+     * @param current   Current settings.
+     */
+    public static synchronized void start(Path directory, FusionSettings current){
+        settings = current;
+        if(dataSource != null){
+            return;
+        }
+
+        try{
+            SqlService sqlService = Sponge.getServiceManager().provideUnchecked(SqlService.class);
+            DataSource source = sqlService.getDataSource(Fusions.getInstance(), "jdbc:h2:" + directory.resolve("history").toAbsolutePath());
+            try(Connection connection = source.getConnection(); Statement statement = connection.createStatement()){
+                for(String sql : SCHEMA){
+                    statement.execute(sql);
+                }
+            }
+            dataSource = source;
+        }
+        catch(SQLException e){
+            Fusions.getLogger().error("Fusion history database could not be opened. Fusion history will not be recorded.", e);
+            return;
+        }
+
+        writer = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                .setNameFormat("Fusions-History-Writer")
+                .setDaemon(true)
+                .build());
+        writer.scheduleWithFixedDelay(FusionHistory::flush, FLUSH_INTERVAL, FLUSH_INTERVAL, TimeUnit.MILLISECONDS);
+        readers = Executors.newFixedThreadPool(2, new ThreadFactoryBuilder()
+                .setNameFormat("Fusions-History-Reader-%d")
+                .setDaemon(true)
+                .build());
+    }
+
+    /**
+     * Updates the settings used by the fusion history after a reload.
+     *
+     * @param current New settings.
+     */
+    public static void configure(FusionSettings current){
+        settings = current;
+    }
+
+    /**
+     * Checks if fusion history can be recorded and queried.
+     *
+     * @return True if the database is open, false if it isn't.
+     */
+    public static boolean isAvailable(){
+        return dataSource != null;
+    }
+
+    /**
+     * Records a committed fusion. Only adds it to a queue; it is written by a background thread.
+     *
+     * @param record Record of the fusion.
+     */
+    public static void record(FusionRecord record){
+        if(dataSource != null && settings.isHistoryEnabled()){
+            queue.offer(record);
+        }
+    }
+
+    /**
+     * Gets a page of a player's fusions, most recent first.
+     *
+     * @param playerUUID UUID of the player.
+     * @param species    Species of the fused Pokemon to filter by, or null for every species.
+     * @param page       Page to get, starting from 1.
+     * @param pageSize   Number of fusions per page.
+     * @return Future completed with the page of fusions. It has one more entry than the page size if there is another page.
+     */
+    public static CompletableFuture<List<HistoryEntry>> findByPlayer(UUID playerUUID, String species, int page, int pageSize){
+        return query(connection -> {
+            PreparedStatement statement = connection.prepareStatement((species != null) ? SELECT_PLAYER_SPECIES : SELECT_PLAYER);
+            int index = 1;
+            statement.setObject(index++, playerUUID);
+            if(species != null){
+                statement.setString(index++, species);
+            }
+            statement.setInt(index++, pageSize + 1);
+            statement.setInt(index, (page - 1) * pageSize);
+            return statement;
+        });
+    }
+
+    /**
+     * Gets a page of fusions a Pokemon was part of, either as the Pokemon fused or as a sacrifice, most recent first.
+     *
+     * @param pokemonUUID UUID of the Pokemon.
+     * @param page        Page to get, starting from 1.
+     * @param pageSize    Number of fusions per page.
+     * @return Future completed with the page of fusions. It has one more entry than the page size if there is another page.
+     */
+    public static CompletableFuture<List<HistoryEntry>> findByPokemon(UUID pokemonUUID, int page, int pageSize){
+        return query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_POKEMON);
+            statement.setObject(1, pokemonUUID);
+            statement.setObject(2, pokemonUUID);
+            statement.setInt(3, pageSize + 1);
+            statement.setInt(4, (page - 1) * pageSize);
+            return statement;
+        });
+    }
+
+    /**
+     * Writes every queued fusion before stopping the writer and query threads.
+     * History is unavailable once stopped, until it is started again.
+     */
+    public static synchronized void stop(){
+        if(writer == null){
+            return;
+        }
+        writer.shutdown();
+        readers.shutdown();
+        try{
+            writer.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        catch(InterruptedException e){
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        dataSource = null;
+        writer = null;
+        readers = null;
+    }
+
+    /**
+     * Prepares a query for a connection.
+     */
+    @FunctionalInterface
+    private interface QueryBuilder {
+        PreparedStatement prepare(Connection connection) throws SQLException;
+    }
+
+    private static CompletableFuture<List<HistoryEntry>> query(QueryBuilder builder){
+        DataSource source = dataSource;
+        ExecutorService executor = readers;
+        if(source == null || executor == null){
+            return unavailable();
+        }
+
+        try{
+            return CompletableFuture.supplyAsync(() -> {
+                List<HistoryEntry> entries = new ArrayList<>();
+                try(Connection connection = source.getConnection();
+                    PreparedStatement statement = builder.prepare(connection);
+                    ResultSet results = statement.executeQuery()){
+                    while(results.next()){
+                        entries.add(new HistoryEntry(results.getLong(1), (UUID) results.getObject(2), results.getString(3),
+                                (UUID) results.getObject(4), results.getString(5), results.getString(6), results.getInt(7),
+                                results.getInt(8), results.getInt(9), results.getString(10), results.getBigDecimal(11)));
+                    }
+                }
+                catch(SQLException e){
+                    throw new IllegalStateException("Fusion history could not be queried.", e);
+                }
+                return entries;
+            }, executor);
+        }
+        catch(RejectedExecutionException e){
+            //History was stopped after the query was made.
+            return unavailable();
+        }
+    }
+
+    private static CompletableFuture<List<HistoryEntry>> unavailable(){
+        CompletableFuture<List<HistoryEntry>> unavailable = new CompletableFuture<>();
+        unavailable.completeExceptionally(new IllegalStateException("Fusion history is not available."));
+        return unavailable;
+    }
+
+    /**
+     * Inserts every queued fusion in a single transaction.
+     */
+    private static void flush(){
+        DataSource source = dataSource;
+        if(source == null || queue.isEmpty()){
+            return;
+        }
+
+        List<FusionRecord> batch = new ArrayList<>();
+        FusionRecord record;
+        while((record = queue.poll()) != null){
+            batch.add(record);
+        }
+
+        try(Connection connection = source.getConnection()){
+            connection.setAutoCommit(false);
+            try(PreparedStatement history = connection.prepareStatement(INSERT_HISTORY, Statement.RETURN_GENERATED_KEYS);
+                PreparedStatement sacrifices = connection.prepareStatement(INSERT_SACRIFICE)){
+                for(FusionRecord fusion : batch){
+                    history.setLong(1, fusion.getTimestamp());
+                    history.setObject(2, fusion.getPlayerUUID());
+                    history.setString(3, fusion.getPlayerName());
+                    history.setObject(4, fusion.getPokemonUUID());
+                    history.setString(5, fusion.getPokemonSpecies());
+                    history.setString(6, truncate(String.join(", ", fusion.getSacrificeSpecies()), 256));
+                    history.setInt(7, sum(fusion.getPreview().getOriginalIVs()));
+                    history.setInt(8, sum(fusion.getPreview().getFusedIVs()));
+                    history.setInt(9, fusion.getPreview().getFuseCount());
+                    history.setString(10, truncate(fusion.getTraits(), 1024));
+                    history.setBigDecimal(11, (fusion.getPaid() != null) ? fusion.getPaid() : BigDecimal.ZERO);
+                    history.executeUpdate();
+
+                    long id;
+                    try(ResultSet keys = history.getGeneratedKeys()){
+                        keys.next();
+                        id = keys.getLong(1);
+                    }
+
+                    UUID[] sacrificeUUIDs = fusion.getSacrificeUUIDs();
+                    String[] sacrificeSpecies = fusion.getSacrificeSpecies();
+                    for(int i = 0; i < sacrificeUUIDs.length; i++){
+                        sacrifices.setLong(1, id);
+                        sacrifices.setObject(2, sacrificeUUIDs[i]);
+                        sacrifices.setString(3, sacrificeSpecies[i]);
+                        sacrifices.addBatch();
+                    }
+                }
+                sacrifices.executeBatch();
+                connection.commit();
+            }
+            catch(SQLException e){
+                connection.rollback();
+                throw e;
+            }
+        }
+        catch(SQLException e){
+            //Only point to the audit log if the fusions were actually written to it.
+            Fusions.getLogger().error("Could not write " + batch.size() + " fusions to the fusion history. "
+                    + (AuditLog.isEnabled() ? "They are still in the audit log." : "They are lost, as the audit log is disabled."), e);
+        }
+    }
+
+    private static int sum(int[] values){
+        int total = 0;
+        if(values != null){
+            for(int value : values){
+                total += value;
+            }
+        }
+        return total;
+    }
+
+    private static String truncate(String value, int length){
+        return (value.length() > length) ? value.substring(0, length) : value;
+    }
+}
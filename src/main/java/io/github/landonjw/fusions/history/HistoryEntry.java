@@ -0,0 +1,99 @@
+package io.github.landonjw.fusions.history;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * A single fusion read back from the fusion history.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+public final class HistoryEntry {
+
+    private final long timestamp;
+    private final UUID playerUUID;
+    private final String playerName;
+    private final UUID pokemonUUID;
+    private final String species;
+    private final String sacrificeSpecies;
+    private final int ivsBefore;
+    private final int ivsAfter;
+    private final int fuseCount;
+    private final String traits;
+    private final BigDecimal cost;
+
+    HistoryEntry(long timestamp, UUID playerUUID, String playerName, UUID pokemonUUID, String species, String sacrificeSpecies,
+                 int ivsBefore, int ivsAfter, int fuseCount, String traits, BigDecimal cost){
+        this.timestamp = timestamp;
+        this.playerUUID = playerUUID;
+        this.playerName = playerName;
+        this.pokemonUUID = pokemonUUID;
+        this.species = species;
+        this.sacrificeSpecies = sacrificeSpecies;
+        this.ivsBefore = ivsBefore;
+        this.ivsAfter = ivsAfter;
+        this.fuseCount = fuseCount;
+        this.traits = traits;
+        this.cost = cost;
+    }
+
+    public long getTimestamp(){
+        return timestamp;
+    }
+
+    public UUID getPlayerUUID(){
+        return playerUUID;
+    }
+
+    public String getPlayerName(){
+        return playerName;
+    }
+
+    public UUID getPokemonUUID(){
+        return pokemonUUID;
+    }
+
+    public String getSpecies(){
+        return species;
+    }
+
+    /**
+     * Gets the species of every Pokemon sacrificed, in the order they were fused.
+     *
+     * @return Comma separated list of sacrificed species.
+     */
+    public String getSacrificeSpecies(){
+        return sacrificeSpecies;
+    }
+
+    /**
+     * Gets the total of the Pokemon's IVs before the fusion.
+     *
+     * @return Total IVs before the fusion.
+     */
+    public int getIVsBefore(){
+        return ivsBefore;
+    }
+
+    /**
+     * Gets the total of the Pokemon's IVs after the fusion.
+     *
+     * @return Total IVs after the fusion.
+     */
+    public int getIVsAfter(){
+        return ivsAfter;
+    }
+
+    public int getFuseCount(){
+        return fuseCount;
+    }
+
+    public String getTraits(){
+        return traits;
+    }
+
+    public BigDecimal getCost(){
+        return cost;
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.landonjw.fusions.metrics;
+
+/**
+ * Reason a fusion failed, used to label the failed fusions metric.
+ * Every reason has a fixed label, so the number of labels never grows.
+ * Reasons are given where a rule is checked, see {@link io.github.landonjw.fusions.api.FusionFailure}.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+public enum FailureReason {
+    IN_BATTLE("in_battle"),
+    INVALID_SLOT("invalid_slot"),
+    SAME_SLOT("same_slot"),
+    EMPTY_SLOT("empty_slot"),
+    OUT_OF_BALL("out_of_ball"),
+    DUPLICATE_SACRIFICE("duplicate_sacrifice"),
+    FUSION_BANNED("fusion_banned"),
+    SACRIFICE_BANNED("sacrifice_banned"),
+    FUSE_COUNT("fuse_count"),
+    SACRIFICE_FUSE_COUNT("sacrifice_fuse_count"),
+    INCOMPATIBLE("incompatible"),
+    PARTY_CHANGED("party_changed"),
+    OFFLINE("offline"),
+    IN_PROGRESS("in_progress"),
+    COOLDOWN("cooldown"),
+    BUSY("busy"),
+    OVERLOADED("overloaded"),
+    INSUFFICIENT_FUNDS("insufficient_funds"),
+    PAYMENT_ERROR("payment_error"),
+    SHUTDOWN("shutdown"),
+    OTHER("other");
+
+    /** Label of the reason in exported metrics. */
+    private final String label;
+
+    FailureReason(String label){
+        this.label = label;
+    }
+
+    public String getLabel(){
+        return label;
+    }
+}
@@ -0,0 +1,149 @@
+package io.github.landonjw.fusions.metrics;
+
+import io.github.landonjw.fusions.admission.FusionAdmission;
+import io.github.landonjw.fusions.admission.TickMonitor;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and histograms describing what Fusions is doing, exported by {@link MetricsServer}.
+ * Every metric is backed by {@link LongAdder}s, so recording is lock-free and cheap on the server thread.
+ * Metrics are always recorded; they are only exported if the metrics server is enabled.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+public class FusionMetrics {
+
+    /** Upper bounds of economy latency buckets in seconds. */
+    private static final double[] LATENCY_BUCKETS = {0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10};
+
+    private static final LongAdder fusionsStarted = new LongAdder();
+    private static final LongAdder fusionsCompleted = new LongAdder();
+    /** Failed fusions, indexed by failure reason ordinal. */
+    private static final LongAdder[] fusionsFailed = new LongAdder[FailureReason.values().length];
+    private static final LongAdder guiOpens = new LongAdder();
+    private static final LongAdder guiClicks = new LongAdder();
+    private static final LongAdder cooldownRejections = new LongAdder();
+    private static final LongAdder loadModeChanges = new LongAdder();
+    /** Placeholder resolutions, indexed by placeholder ordinal. */
+    private static final LongAdder[] placeholderResolutions = new LongAdder[PlaceholderType.values().length];
+    private static final Histogram withdrawLatency = new Histogram(LATENCY_BUCKETS);
+
+    static{
+        for(int i = 0; i < fusionsFailed.length; i++){
+            fusionsFailed[i] = new LongAdder();
+        }
+        for(int i = 0; i < placeholderResolutions.length; i++){
+            placeholderResolutions[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Placeholders that are counted when resolved.
+     */
+    public enum PlaceholderType {
+        MAX_FUSE_COUNT("max_fuse_count"),
+        FUSE_COUNT("fuse_count"),
+        FUSE_COUNTS("fuse_counts"),
+        NEXT_COST("next_cost"),
+        COOLDOWN("cooldown"),
+        INVALID("invalid");
+
+        private final String label;
+
+        PlaceholderType(String label){
+            this.label = label;
+        }
+    }
+
+    public static void fusionStarted(){
+        fusionsStarted.increment();
+    }
+
+    public static void fusionCompleted(){
+        fusionsCompleted.increment();
+    }
+
+    public static void fusionFailed(FailureReason reason){
+        fusionsFailed[reason.ordinal()].increment();
+    }
+
+    public static void guiOpened(){
+        guiOpens.increment();
+    }
+
+    public static void guiClicked(){
+        guiClicks.increment();
+    }
+
+    public static void cooldownRejected(){
+        cooldownRejections.increment();
+    }
+
+    public static void placeholderResolved(PlaceholderType placeholder){
+        placeholderResolutions[placeholder.ordinal()].increment();
+    }
+
+    public static void loadModeChanged(){
+        loadModeChanges.increment();
+    }
+
+    /**
+     * Records how long an economy withdrawal took.
+     *
+     * @param nanos Duration of the withdrawal in nanoseconds.
+     */
+    public static void withdrawCompleted(long nanos){
+        withdrawLatency.observe(nanos);
+    }
+
+    /**
+     * Writes every metric in Prometheus text format.
+     *
+     * @return Every metric in Prometheus text format.
+     */
+    public static String scrape(){
+        StringBuilder out = new StringBuilder(2048);
+        writeCounter(out, "fusions_started_total", "Fusions started.", fusionsStarted);
+        writeCounter(out, "fusions_completed_total", "Fusions completed.", fusionsCompleted);
+
+        out.append("# HELP fusions_failed_total Fusions that failed, by reason.\n");
+        out.append("# TYPE fusions_failed_total counter\n");
+        for(FailureReason reason : FailureReason.values()){
+            out.append("fusions_failed_total{reason=\"").append(reason.getLabel()).append("\"} ")
+                    .append(fusionsFailed[reason.ordinal()].sum()).append('\n');
+        }
+
+        writeCounter(out, "fusions_gui_opens_total", "Fusion GUIs opened.", guiOpens);
+        writeCounter(out, "fusions_gui_clicks_total", "Clicks in fusion GUIs.", guiClicks);
+        writeCounter(out, "fusions_cooldown_rejections_total", "Fusions rejected because the player was on cooldown.", cooldownRejections);
+
+        out.append("# HELP fusions_placeholder_resolutions_total Placeholders resolved, by placeholder.\n");
+        out.append("# TYPE fusions_placeholder_resolutions_total counter\n");
+        for(PlaceholderType placeholder : PlaceholderType.values()){
+            out.append("fusions_placeholder_resolutions_total{placeholder=\"").append(placeholder.label).append("\"} ")
+                    .append(placeholderResolutions[placeholder.ordinal()].sum()).append('\n');
+        }
+
+        withdrawLatency.write(out, "fusions_economy_withdraw_seconds", "Time taken by economy withdrawals.");
+
+        writeCounter(out, "fusions_load_mode_changes_total", "Times the load mode changed.", loadModeChanges);
+        writeGauge(out, "fusions_load_mode", "Current load mode, from 0 (normal) to 4 (refusing fusions).", TickMonitor.getMode().ordinal());
+        writeGauge(out, "fusions_tick_duration_milliseconds", "Average duration of recent ticks.", TickMonitor.getAverageTickMillis());
+        writeGauge(out, "fusions_queued_commits", "Fusions waiting for a later tick to be applied.", FusionAdmission.getQueuedCommits());
+        return out.toString();
+    }
+
+    private static void writeGauge(StringBuilder out, String name, String help, double value){
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(" gauge\n");
+        out.append(name).append(' ').append(value).append('\n');
+    }
+
+    private static void writeCounter(StringBuilder out, String name, String help, LongAdder counter){
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(" counter\n");
+        out.append(name).append(' ').append(counter.sum()).append('\n');
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.landonjw.fusions.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram with fixed buckets, in the same form Prometheus histograms are exported in.
+ * Recording a value never locks or allocates, so it is safe to record from the server thread.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+public final class Histogram {
+
+    /** Upper bound of each bucket in seconds, in increasing order. */
+    private final double[] bounds;
+    /** Upper bound of each bucket in nanoseconds, in the same order. */
+    private final long[] boundNanos;
+    /** Number of values in each bucket, with an extra bucket for values above every bound. Not cumulative. */
+    private final LongAdder[] buckets;
+    /** Sum of every value recorded, in nanoseconds. */
+    private final LongAdder sumNanos = new LongAdder();
+
+    /**
+     * Creates an empty histogram.
+     *
+     * @param bounds Upper bound of each bucket in seconds, in increasing order.
+     */
+    public Histogram(double... bounds){
+        this.bounds = bounds.clone();
+        this.boundNanos = new long[bounds.length];
+        this.buckets = new LongAdder[bounds.length + 1];
+        for(int i = 0; i < bounds.length; i++){
+            boundNanos[i] = (long) (bounds[i] * 1_000_000_000L);
+        }
+        for(int i = 0; i < buckets.length; i++){
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos Duration in nanoseconds.
+     */
+    public void observe(long nanos){
+        int bucket = 0;
+        while(bucket < boundNanos.length && nanos > boundNanos[bucket]){
+            bucket++;
+        }
+        buckets[bucket].increment();
+        sumNanos.add(nanos);
+    }
+
+    /**
+     * Writes the histogram in Prometheus text format.
+     *
+     * @param out  Builder to write to.
+     * @param name Name of the metric.
+     * @param help Description of the metric.
+     */
+    void write(StringBuilder out, String name, String help){
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(" histogram\n");
+
+        long cumulative = 0;
+        for(int i = 0; i < bounds.length; i++){
+            cumulative += buckets[i].sum();
+            out.append(name).append("_bucket{le=\"").append(bounds[i]).append("\"} ").append(cumulative).append('\n');
+        }
+        cumulative += buckets[bounds.length].sum();
+        out.append(name).append("_bucket{le=\"+Inf\"} ").append(cumulative).append('\n');
+        out.append(name).append("_sum ").append(sumNanos.sum() / 1_000_000_000.0).append('\n');
+        out.append(name).append("_count ").append(cumulative).append('\n');
+    }
+}
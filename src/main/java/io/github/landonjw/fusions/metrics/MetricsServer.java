@@ -0,0 +1,102 @@
+package io.github.landonjw.fusions.metrics;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.landonjw.fusions.Fusions;
+import io.github.landonjw.fusions.configuration.FusionSettings;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Embedded HTTP server exporting {@link FusionMetrics} at /metrics in Prometheus text format.
+ * Bound to localhost by default, and only started if enabled in the configuration.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+public class MetricsServer {
+
+    /** Content type of the Prometheus text format. */
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    /** Running server, or null if it isn't running. */
+    private static HttpServer server;
+    /** Thread answering requests, or null if the server isn't running. */
+    private static ExecutorService executor;
+    /** Address the running server is bound to. */
+    private static String boundHost;
+    private static int boundPort;
+
+    /**
+     * Starts, stops or restarts the server to match settings.
+     * Does nothing if the server is already running as configured.
+     *
+     * @param settings Settings to configure the server with.
+     */
+    public static synchronized void configure(FusionSettings settings){
+        if(!settings.isMetricsEnabled()){
+            stop();
+            return;
+        }
+        if(server != null && settings.getMetricsHost().equals(boundHost) && settings.getMetricsPort() == boundPort){
+            return;
+        }
+        stop();
+
+        try{
+            server = HttpServer.create(new InetSocketAddress(settings.getMetricsHost(), settings.getMetricsPort()), 0);
+        }
+        catch(IOException e){
+            Fusions.getLogger().error("Metrics server could not bind to " + settings.getMetricsHost() + ":" + settings.getMetricsPort() + ".", e);
+            server = null;
+            return;
+        }
+
+        executor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+                .setNameFormat("Fusions-Metrics-%d")
+                .setDaemon(true)
+                .build());
+        server.setExecutor(executor);
+        server.createContext("/metrics", MetricsServer::handle);
+        server.start();
+        boundHost = settings.getMetricsHost();
+        boundPort = settings.getMetricsPort();
+        Fusions.getLogger().info("Exporting metrics on http://" + boundHost + ":" + boundPort + "/metrics");
+    }
+
+    /**
+     * Stops the server if it is running.
+     */
+    public static synchronized void stop(){
+        if(server != null){
+            server.stop(0);
+            executor.shutdown();
+            server = null;
+            executor = null;
+        }
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        try{
+            if(!"GET".equalsIgnoreCase(exchange.getRequestMethod())){
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = FusionMetrics.scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try(OutputStream out = exchange.getResponseBody()){
+                out.write(body);
+            }
+        }
+        finally{
+            exchange.close();
+        }
+    }
+}
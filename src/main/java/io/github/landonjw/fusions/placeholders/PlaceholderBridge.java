@@ -1,24 +1,82 @@
 package io.github.landonjw.fusions.placeholders;
 
-import com.pixelmonmod.pixelmon.Pixelmon;
-import com.pixelmonmod.pixelmon.api.pokemon.Pokemon;
 import io.github.landonjw.fusions.Fusions;
-import io.github.landonjw.fusions.configuration.ConfigManager;
+import io.github.landonjw.fusions.metrics.FusionMetrics;
 import me.rojo8399.placeholderapi.*;
-import net.minecraft.entity.player.EntityPlayerMP;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.entity.living.player.Player;
 
+import java.util.Map;
+import java.util.TreeMap;
+
 /**
  * Allows functionality with placeholders when PlaceholderAPI is present.
  *
+ * Every valid token is resolved to a handler once when the class is loaded, so resolving a placeholder
+ * is a single map lookup with no string parsing. Values about a player are served from their {@link PlayerSnapshot}
+ * for the current tick, so resolving every placeholder for a player reads their party at most once.
+ *
  * @author landonjw
  * @since 1.0.2
  */
 public class PlaceholderBridge {
+
+    /** Prefix of tokens for the fuse count of a party slot. */
+    private static final String FUSE_COUNT_PREFIX = "fuse_count_";
+    /** Every placeholder, shown when an invalid one is used. */
+    private static final String PLACEHOLDERS = "%fusions_max_fuse_count%, %fusions_fuse_count_<slot>%, %fusions_fuse_counts%, "
+            + "%fusions_next_cost_<slot>%, %fusions_cooldown%";
+
+    /** Handler of every valid token, ignoring case. */
+    private static final Map<String, TokenHandler> handlers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    static{
+        //Returns config setting for max fuse counts if placeholder is %fusions_max_fuse_count%
+        handlers.put("max_fuse_count", player -> {
+            FusionMetrics.placeholderResolved(FusionMetrics.PlaceholderType.MAX_FUSE_COUNT);
+            return Fusions.getSettings().getMaxFuseCount();
+        });
+
+        //Returns current fuse count of slot if placeholder is %fusions_fuse_count_<slot>%
+        for(int slot = 1; slot <= PlayerSnapshot.PARTY_SIZE; slot++){
+            int index = slot - 1;
+            handlers.put(FUSE_COUNT_PREFIX + slot, player -> {
+                FusionMetrics.placeholderResolved(FusionMetrics.PlaceholderType.FUSE_COUNT);
+                return PlayerSnapshots.get(player.getUniqueId()).getFuseCount(index);
+            });
+
+            //Returns cost of fusing the Pokemon in a slot with a sacrifice that was never fused if placeholder is %fusions_next_cost_<slot>%
+            handlers.put("next_cost_" + slot, player -> {
+                FusionMetrics.placeholderResolved(FusionMetrics.PlaceholderType.NEXT_COST);
+                return PlayerSnapshots.get(player.getUniqueId()).getNextCost(index);
+            });
+        }
+
+        //Returns fuse count of every slot if placeholder is %fusions_fuse_counts%
+        handlers.put("fuse_counts", player -> {
+            FusionMetrics.placeholderResolved(FusionMetrics.PlaceholderType.FUSE_COUNTS);
+            return PlayerSnapshots.get(player.getUniqueId()).getAllFuseCounts();
+        });
+
+        //Returns seconds until the player can fuse again if placeholder is %fusions_cooldown%
+        handlers.put("cooldown", player -> {
+            FusionMetrics.placeholderResolved(FusionMetrics.PlaceholderType.COOLDOWN);
+            return PlayerSnapshots.get(player.getUniqueId()).getCooldown();
+        });
+    }
+
+    /**
+     * Resolves the value of a single token.
+     */
+    @FunctionalInterface
+    private interface TokenHandler {
+        Object resolve(Player player);
+    }
+
     public static void register() {
+        PlayerSnapshots.register();
         Sponge.getServiceManager().provideUnchecked(PlaceholderService.class).loadAll(new PlaceholderBridge(), Fusions.getInstance()).stream()
-                .map(builder -> builder.tokens("max_fuse_count", "fuse_count_<slot>").author("landonjw").plugin(Fusions.getInstance()).version(Fusions.PLUGIN_VERSION))
+                .map(builder -> builder.tokens("max_fuse_count", "fuse_count_<slot>", "fuse_counts", "next_cost_<slot>", "cooldown").author("landonjw").plugin(Fusions.getInstance()).version(Fusions.PLUGIN_VERSION))
                 .forEach(builder -> {
                     try {
                         builder.buildAndRegister();
@@ -30,42 +88,29 @@ public class PlaceholderBridge {
 
     @Placeholder(id = "fusions")
     public Object fusions(@Source Player player, @Token String token) throws NoValueException {
-        String[] values = token.split("_");
-        if (values.length == 3) {
-            if(token.equalsIgnoreCase("max_fuse_count")){
-                //Returns config setting for max fuse counts if placeholder is %fusions_max_fuse_count%
-                int fuseCount = ConfigManager.getConfigNode("Fusing-Features", "Fuse-Count").getInt();
-
-                if(fuseCount < 0){
-                    fuseCount = 0;
-                }
-
-                return fuseCount;
-            }
-            else if(values[0].equalsIgnoreCase("fuse") && values[1].equalsIgnoreCase("count")){
-                //Returns current fuse count of slot if placeholder is %fusions_fuse_count_<slot>%
-                int slot = Integer.parseInt(values[2]);
-
-                //Only allow slots between 1&6
-                if(slot < 1 || slot > 6){
-                    return 0;
-                }
-
-                Pokemon pokemon = Pixelmon.storageManager.getParty((EntityPlayerMP) player).get(slot - 1);
+        TokenHandler handler = handlers.get(token);
+        if(handler != null){
+            return handler.resolve(player);
+        }
+        return resolveUnknown(token);
+    }
 
-                if(pokemon == null){
-                    return 0;
-                }
-                else{
-                    return pokemon.getPersistentData().getInteger("fuseCount");
-                }
+    /**
+     * Handles tokens without a handler. Kept off the common path, since valid tokens never get here.
+     */
+    private static Object resolveUnknown(String token) throws NoValueException {
+        //Slots outside of the party have always had a fuse count of 0.
+        if(token.regionMatches(true, 0, FUSE_COUNT_PREFIX, 0, FUSE_COUNT_PREFIX.length())){
+            try{
+                Integer.parseInt(token.substring(FUSE_COUNT_PREFIX.length()));
+                FusionMetrics.placeholderResolved(FusionMetrics.PlaceholderType.FUSE_COUNT);
+                return 0;
             }
-            else{
-                throw new NoValueException("Invalid arguments. Placeholders: %fusions_max_fuse_count%, %fusions_fuse_count_<slot>%");
+            catch(NumberFormatException e){
+                //Falls through to invalid token.
             }
         }
-        else {
-            throw new NoValueException("Not enough arguments. Placeholders: %fusions_max_fuse_count%, %fusions_fuse_count_<slot>%");
-        }
+        FusionMetrics.placeholderResolved(FusionMetrics.PlaceholderType.INVALID);
+        throw new NoValueException("Invalid arguments. Placeholders: " + PLACEHOLDERS);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,131 @@
+package io.github.landonjw.fusions.placeholders;
+
+import com.pixelmonmod.pixelmon.Pixelmon;
+import com.pixelmonmod.pixelmon.api.pokemon.Pokemon;
+import com.pixelmonmod.pixelmon.storage.PlayerPartyStorage;
+import io.github.landonjw.fusions.api.Fusion;
+import io.github.landonjw.fusions.commands.CooldownService;
+import io.github.landonjw.fusions.commands.FusionCommand;
+import io.github.landonjw.fusions.configuration.FusionSettings;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable snapshot of everything placeholders show about a player, taken during a single tick.
+ * Every placeholder resolved for the player in that tick is served from the same snapshot.
+ *
+ * Values read from the party are carried over into the snapshot of the next tick, since they only change
+ * when the party does. Only the remaining cooldown is read again each tick.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+final class PlayerSnapshot {
+
+    /** Number of slots in a party. */
+    static final int PARTY_SIZE = 6;
+
+    /** Tick the snapshot was taken on. */
+    private final int tick;
+    /** Time the party was read, from {@link System#nanoTime()}. */
+    private final long readAt;
+    /** Version of the settings costs were computed with. */
+    private final long settingsVersion;
+    /** Fuse count of the Pokemon in each slot, or 0 if the slot is empty. */
+    private final int[] fuseCounts;
+    /** Cost of the next fusion of the Pokemon in each slot, or 0 if the slot is empty. */
+    private final double[] nextCosts;
+    /** Fuse count of every slot, formatted for display. */
+    private final String allFuseCounts;
+    /** Seconds until the player's cooldown is finished. */
+    private final long cooldown;
+
+    private PlayerSnapshot(int tick, long readAt, long settingsVersion, int[] fuseCounts, double[] nextCosts, String allFuseCounts, long cooldown){
+        this.tick = tick;
+        this.readAt = readAt;
+        this.settingsVersion = settingsVersion;
+        this.fuseCounts = fuseCounts;
+        this.nextCosts = nextCosts;
+        this.allFuseCounts = allFuseCounts;
+        this.cooldown = cooldown;
+    }
+
+    /**
+     * Takes a snapshot of a player, reading their party.
+     *
+     * @param playerUUID UUID of the player.
+     * @param settings   Settings to compute costs with.
+     * @param tick       Current tick.
+     * @return Snapshot of the player.
+     */
+    static PlayerSnapshot read(UUID playerUUID, FusionSettings settings, int tick){
+        int[] fuseCounts = new int[PARTY_SIZE];
+        double[] nextCosts = new double[PARTY_SIZE];
+        StringBuilder allFuseCounts = new StringBuilder();
+
+        PlayerPartyStorage party = Pixelmon.storageManager.getParty(playerUUID);
+        for(int slot = 0; slot < PARTY_SIZE; slot++){
+            Pokemon pokemon = party.get(slot);
+            if(pokemon != null){
+                fuseCounts[slot] = pokemon.getPersistentData().getInteger("fuseCount");
+                //Cost of fusing with a sacrifice that has never been fused.
+                nextCosts[slot] = Fusion.getCost(settings, pokemon.getSpecies(), fuseCounts[slot], 0);
+            }
+            if(slot > 0){
+                allFuseCounts.append(", ");
+            }
+            allFuseCounts.append(fuseCounts[slot]);
+        }
+        return new PlayerSnapshot(tick, System.nanoTime(), settings.getVersion(), fuseCounts, nextCosts, allFuseCounts.toString(),
+                readCooldown(playerUUID, settings));
+    }
+
+    /**
+     * Takes a snapshot of a player for a later tick, reusing everything read from their party.
+     *
+     * @param playerUUID UUID of the player.
+     * @param settings   Settings to read the cooldown with.
+     * @param tick       Current tick.
+     * @return Snapshot of the player.
+     */
+    PlayerSnapshot atTick(UUID playerUUID, FusionSettings settings, int tick){
+        return new PlayerSnapshot(tick, readAt, settingsVersion, fuseCounts, nextCosts, allFuseCounts, readCooldown(playerUUID, settings));
+    }
+
+    private static long readCooldown(UUID playerUUID, FusionSettings settings){
+        if(settings.getCooldown() <= 0){
+            return 0;
+        }
+        return CooldownService.toSeconds(FusionCommand.getCooldowns().getRemaining(playerUUID,
+                TimeUnit.SECONDS.toNanos(settings.getCooldown()), settings.getCooldownBurst()));
+    }
+
+    int getTick(){
+        return tick;
+    }
+
+    long getReadAt(){
+        return readAt;
+    }
+
+    long getSettingsVersion(){
+        return settingsVersion;
+    }
+
+    int getFuseCount(int slot){
+        return fuseCounts[slot];
+    }
+
+    double getNextCost(int slot){
+        return nextCosts[slot];
+    }
+
+    String getAllFuseCounts(){
+        return allFuseCounts;
+    }
+
+    long getCooldown(){
+        return cooldown;
+    }
+}
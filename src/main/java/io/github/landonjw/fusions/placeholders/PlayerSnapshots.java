@@ -0,0 +1,96 @@
+package io.github.landonjw.fusions.placeholders;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.pixelmonmod.pixelmon.Pixelmon;
+import com.pixelmonmod.pixelmon.api.events.PixelmonReceivedEvent;
+import com.pixelmonmod.pixelmon.api.events.storage.ChangeStorageEvent;
+import com.pixelmonmod.pixelmon.api.storage.PokemonStorage;
+import com.pixelmonmod.pixelmon.storage.PlayerPartyStorage;
+import io.github.landonjw.fusions.Fusions;
+import io.github.landonjw.fusions.configuration.FusionSettings;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import org.spongepowered.api.Sponge;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snapshots of every player placeholders are resolved for, used by placeholders that are refreshed
+ * every few ticks by scoreboards and tab lists.
+ *
+ * A player is snapshotted at most once per tick, so resolving every placeholder for a player costs the same as
+ * resolving one. Their party is only read again once it changes or they fuse a Pokemon. Snapshots also expire
+ * after a few seconds, so changes made without an event (ie. by other plugins editing a Pokemon's data)
+ * are still picked up.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+public class PlayerSnapshots {
+
+    /** How long a party is trusted after it was read, in nanoseconds. */
+    private static final long PARTY_LIFETIME = TimeUnit.SECONDS.toNanos(5);
+    /** How long snapshots of players no placeholders are resolved for are kept, in minutes. */
+    private static final int EXPIRE_MINUTES = 1;
+
+    private static final Cache<UUID, PlayerSnapshot> cache = CacheBuilder.newBuilder()
+            .expireAfterAccess(EXPIRE_MINUTES, TimeUnit.MINUTES)
+            .build();
+
+    /**
+     * Gets the snapshot of a player for the current tick, taking it if it hasn't been taken yet.
+     *
+     * @param playerUUID UUID of the player.
+     * @return Snapshot of the player.
+     */
+    static PlayerSnapshot get(UUID playerUUID){
+        int tick = Sponge.getServer().getRunningTimeTicks();
+        FusionSettings settings = Fusions.getSettings();
+
+        PlayerSnapshot snapshot = cache.getIfPresent(playerUUID);
+        if(snapshot == null || snapshot.getSettingsVersion() != settings.getVersion()
+                || System.nanoTime() - snapshot.getReadAt() > PARTY_LIFETIME){
+            snapshot = PlayerSnapshot.read(playerUUID, settings, tick);
+            cache.put(playerUUID, snapshot);
+        }
+        else if(snapshot.getTick() != tick){
+            snapshot = snapshot.atTick(playerUUID, settings, tick);
+            cache.put(playerUUID, snapshot);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Removes a player's snapshot, so their party is read again the next time a placeholder needs it.
+     *
+     * @param playerUUID UUID of the player.
+     */
+    public static void invalidate(UUID playerUUID){
+        cache.invalidate(playerUUID);
+    }
+
+    /**
+     * Starts removing snapshots of players whenever their party changes.
+     */
+    static void register(){
+        Pixelmon.EVENT_BUS.register(new PlayerSnapshots());
+    }
+
+    @SubscribeEvent
+    public void onChangeStorage(ChangeStorageEvent event){
+        invalidate(event.oldStorage);
+        invalidate(event.newStorage);
+    }
+
+    @SubscribeEvent
+    public void onReceived(PixelmonReceivedEvent event){
+        invalidate(event.player.getUniqueID());
+    }
+
+    private static void invalidate(PokemonStorage storage){
+        if(storage instanceof PlayerPartyStorage){
+            invalidate(storage.uuid);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.landonjw.fusions.trace;
+
+import io.github.landonjw.fusions.Fusions;
+import io.github.landonjw.fusions.configuration.FusionSettings;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times each phase of a single fusion or GUI render.
+ *
+ * Phases are timed with {@link #begin()} and {@link #end(TracePhase, long)}, which only read the clock.
+ * When tracing is disabled every trace is {@link #DISABLED}, which does nothing and is never allocated,
+ * so tracing costs nothing unless it is turned on. Once finished, the trace is added to {@link TraceStats},
+ * and it's phase breakdown is logged if it took longer than the configured threshold.
+ *
+ * A trace is not thread safe; it must only be used from the thread running the operation.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+public final class FusionTrace {
+
+    /** Trace used when tracing is disabled. Does nothing. */
+    public static final FusionTrace DISABLED = new FusionTrace(null, 0);
+
+    /** Operation being traced, or null if tracing is disabled. */
+    private final TraceOperation operation;
+    /** Time an operation must exceed to be logged, in nanoseconds. */
+    private final long slowThreshold;
+    /** Time the trace was started. */
+    private final long start;
+    /** Time spent in each phase, indexed by phase ordinal. */
+    private final long[] phaseNanos;
+    /** Bit mask of phases that were timed, by phase ordinal. */
+    private int recorded;
+    /** If the trace has already been finished. */
+    private boolean finished;
+
+    private FusionTrace(TraceOperation operation, long slowThreshold){
+        this.operation = operation;
+        this.slowThreshold = slowThreshold;
+        this.start = (operation != null) ? System.nanoTime() : 0;
+        this.phaseNanos = (operation != null) ? new long[TracePhase.values().length] : null;
+    }
+
+    /**
+     * Starts tracing an operation.
+     *
+     * @param operation Operation to trace.
+     * @return New trace, or {@link #DISABLED} if tracing is disabled.
+     */
+    public static FusionTrace start(TraceOperation operation){
+        FusionSettings settings = Fusions.getSettings();
+        if(settings == null || !settings.isTracingEnabled()){
+            return DISABLED;
+        }
+        return new FusionTrace(operation, TimeUnit.MILLISECONDS.toNanos(settings.getSlowTraceThreshold()));
+    }
+
+    /**
+     * Gets the time to pass to {@link #end(TracePhase, long)} when a phase is over.
+     *
+     * @return Current time, or 0 if tracing is disabled.
+     */
+    public long begin(){
+        return (operation != null) ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Adds the time since a phase began to that phase.
+     *
+     * @param phase Phase that is over.
+     * @param begin Time returned by {@link #begin()} when the phase began.
+     */
+    public void end(TracePhase phase, long begin){
+        if(operation != null){
+            add(phase, System.nanoTime() - begin);
+        }
+    }
+
+    /**
+     * Adds time measured elsewhere to a phase, such as work done before the trace started.
+     *
+     * @param phase Phase to add time to.
+     * @param nanos Time spent in the phase.
+     */
+    public void add(TracePhase phase, long nanos){
+        if(operation != null){
+            phaseNanos[phase.ordinal()] += nanos;
+            recorded |= 1 << phase.ordinal();
+        }
+    }
+
+    /**
+     * Finishes the trace, recording it and logging it if it was slow. Only the first call has any effect.
+     */
+    public void finish(){
+        if(operation == null || finished){
+            return;
+        }
+        finished = true;
+
+        long total = System.nanoTime() - start;
+        TraceStats.record(operation, phaseNanos, recorded, total);
+
+        if(total > slowThreshold){
+            StringBuilder breakdown = new StringBuilder();
+            for(TracePhase phase : TracePhase.values()){
+                if((recorded & (1 << phase.ordinal())) != 0){
+                    breakdown.append(breakdown.length() > 0 ? ", " : "")
+                            .append(phase.getDisplayName()).append(": ").append(formatMillis(phaseNanos[phase.ordinal()]));
+                }
+            }
+            Fusions.getLogger().warn("Slow " + operation.getDisplayName().toLowerCase() + " took " + formatMillis(total)
+                    + " (" + breakdown + ").");
+        }
+    }
+
+    /**
+     * Formats a duration in milliseconds with two decimal places, ie. "1.25ms".
+     *
+     * @param nanos Duration in nanoseconds.
+     * @return Formatted duration.
+     */
+    public static String formatMillis(long nanos){
+        return String.format("%.2fms", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.landonjw.fusions.trace;
+
+import java.util.Arrays;
+
+/**
+ * Fixed size window of the most recent latency samples, used to compute rolling percentiles.
+ * Adding a sample never allocates; percentiles are only computed when they are asked for.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+public final class LatencyWindow {
+
+    /** Most recent samples in nanoseconds, overwritten oldest first once full. */
+    private final long[] samples;
+    /** Total number of samples ever added. */
+    private long count;
+
+    /**
+     * Creates an empty window.
+     *
+     * @param size Number of samples to keep.
+     */
+    public LatencyWindow(int size){
+        this.samples = new long[size];
+    }
+
+    /**
+     * Adds a sample, replacing the oldest sample if the window is full.
+     *
+     * @param nanos Latency in nanoseconds.
+     */
+    public synchronized void add(long nanos){
+        samples[(int) (count % samples.length)] = nanos;
+        count++;
+    }
+
+    /**
+     * Gets the total number of samples ever added, including ones that are no longer in the window.
+     *
+     * @return Number of samples added.
+     */
+    public synchronized long getCount(){
+        return count;
+    }
+
+    /**
+     * Gets a percentile of the samples currently in the window.
+     *
+     * @param percentile Percentile to get, between 0.0 and 1.0.
+     * @return Latency at the percentile in nanoseconds, or 0 if there are no samples.
+     */
+    public long getPercentile(double percentile){
+        long[] sorted;
+        synchronized(this){
+            sorted = Arrays.copyOf(samples, (int) Math.min(count, samples.length));
+        }
+        if(sorted.length == 0){
+            return 0;
+        }
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.landonjw.fusions.trace;
+
+/**
+ * An operation traced as a whole by a {@link FusionTrace}, made up of one or more {@link TracePhase}s.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+public enum TraceOperation {
+    /** A fusion, from the command or GUI click until the party is changed or the fusion fails. */
+    FUSION("Fusion"),
+    /** Opening or redrawing the fusion GUI. */
+    GUI("GUI Render");
+
+    /** Name of the operation shown to players. */
+    private final String displayName;
+
+    TraceOperation(String displayName){
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName(){
+        return displayName;
+    }
+}
@@ -0,0 +1,41 @@
+package io.github.landonjw.fusions.trace;
+
+/**
+ * A phase of a fusion or GUI render that is timed by a {@link FusionTrace}.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+public enum TracePhase {
+    /** Looking up the player's party. */
+    PARTY_LOOKUP("Party Lookup"),
+    /** Checking if the player is in a battle. */
+    BATTLE_CHECK("Battle Check"),
+    /** Computing the preview of the fusion, including every fusion rule. */
+    PREVIEW("Preview"),
+    /** Acquiring the player's cooldown. */
+    COOLDOWN("Cooldown"),
+    /** Waiting for the economy withdrawal to complete, off of the server thread. */
+    WITHDRAW("Economy Withdraw"),
+    /** Waiting for a tick with room for another fusion to be applied. */
+    ADMISSION("Admission Queue"),
+    /** Applying the fusion and removing sacrifices from the player's party. */
+    PARTY_WRITE("Party Write"),
+    /** Rendering the party slots of the GUI, including Pokemon sprites. */
+    GUI_PARTY("GUI Party Render"),
+    /** Rendering the resulting fusion slot of the GUI. */
+    GUI_RESULT("GUI Result Render"),
+    /** Building and opening the GUI's inventory. */
+    GUI_OPEN("GUI Open");
+
+    /** Name of the phase shown to players. */
+    private final String displayName;
+
+    TracePhase(String displayName){
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName(){
+        return displayName;
+    }
+}
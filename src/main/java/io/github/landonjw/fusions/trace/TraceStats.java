@@ -0,0 +1,65 @@
+package io.github.landonjw.fusions.trace;
+
+/**
+ * Rolling latency of every traced operation and each of it's phases, shared by all traces.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+public class TraceStats {
+
+    /** Number of recent samples kept for each operation and phase. */
+    private static final int WINDOW_SIZE = 1024;
+
+    /** Total latency of each operation, indexed by operation ordinal. */
+    private static final LatencyWindow[] totals = new LatencyWindow[TraceOperation.values().length];
+    /** Latency of each phase of each operation, indexed by operation ordinal then phase ordinal. */
+    private static final LatencyWindow[][] phases = new LatencyWindow[TraceOperation.values().length][TracePhase.values().length];
+
+    static{
+        for(TraceOperation operation : TraceOperation.values()){
+            totals[operation.ordinal()] = new LatencyWindow(WINDOW_SIZE);
+            for(TracePhase phase : TracePhase.values()){
+                phases[operation.ordinal()][phase.ordinal()] = new LatencyWindow(WINDOW_SIZE);
+            }
+        }
+    }
+
+    /**
+     * Records a finished trace.
+     *
+     * @param operation  Operation that was traced.
+     * @param phaseNanos Time spent in each phase, indexed by phase ordinal.
+     * @param recorded   Bit mask of phases that were timed, by phase ordinal.
+     * @param totalNanos Total time of the operation.
+     */
+    static void record(TraceOperation operation, long[] phaseNanos, int recorded, long totalNanos){
+        totals[operation.ordinal()].add(totalNanos);
+        for(int i = 0; i < phaseNanos.length; i++){
+            if((recorded & (1 << i)) != 0){
+                phases[operation.ordinal()][i].add(phaseNanos[i]);
+            }
+        }
+    }
+
+    /**
+     * Gets the rolling latency of an operation as a whole.
+     *
+     * @param operation Operation to get latency of.
+     * @return Rolling latency of the operation.
+     */
+    public static LatencyWindow getTotal(TraceOperation operation){
+        return totals[operation.ordinal()];
+    }
+
+    /**
+     * Gets the rolling latency of a phase of an operation.
+     *
+     * @param operation Operation the phase is part of.
+     * @param phase     Phase to get latency of.
+     * @return Rolling latency of the phase.
+     */
+    public static LatencyWindow getPhase(TraceOperation operation, TracePhase phase){
+        return phases[operation.ordinal()][phase.ordinal()];
+    }
+}
@@ -1,26 +1,32 @@
 package io.github.landonjw.fusions.ui;
 
+import com.google.common.cache.CacheStats;
 import com.mcsimonflash.sponge.teslalibs.inventory.Action;
 import com.mcsimonflash.sponge.teslalibs.inventory.Element;
-import com.mcsimonflash.sponge.teslalibs.inventory.Layout;
 import com.mcsimonflash.sponge.teslalibs.inventory.View;
 import com.pixelmonmod.pixelmon.Pixelmon;
 import com.pixelmonmod.pixelmon.api.pokemon.Pokemon;
 import com.pixelmonmod.pixelmon.items.ItemPixelmonSprite;
 import io.github.landonjw.fusions.Fusions;
+import io.github.landonjw.fusions.admission.FusionAdmission;
+import io.github.landonjw.fusions.admission.LoadMode;
+import io.github.landonjw.fusions.admission.TickMonitor;
 import io.github.landonjw.fusions.api.Fusion;
-import io.github.landonjw.fusions.configuration.ConfigManager;
+import io.github.landonjw.fusions.api.FusionPreview;
+import io.github.landonjw.fusions.api.IVFusionKernel;
+import io.github.landonjw.fusions.configuration.FusionSettings;
+import io.github.landonjw.fusions.metrics.FusionMetrics;
+import io.github.landonjw.fusions.trace.FusionTrace;
+import io.github.landonjw.fusions.trace.TraceOperation;
+import io.github.landonjw.fusions.trace.TracePhase;
 import org.spongepowered.api.data.key.Keys;
-import org.spongepowered.api.data.type.DyeColors;
 import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.event.item.inventory.ClickInventoryEvent;
-import org.spongepowered.api.item.ItemTypes;
 import org.spongepowered.api.item.enchantment.Enchantment;
 import org.spongepowered.api.item.enchantment.EnchantmentTypes;
+import org.spongepowered.api.item.ItemTypes;
 import org.spongepowered.api.item.inventory.InventoryArchetypes;
 import org.spongepowered.api.item.inventory.ItemStack;
-import org.spongepowered.api.item.inventory.property.InventoryDimension;
-import org.spongepowered.api.item.inventory.property.InventoryTitle;
 import org.spongepowered.api.scheduler.Task;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.format.TextColors;
@@ -29,14 +35,21 @@ import org.spongepowered.api.text.format.TextStyles;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Consumer;
 
 /**
  * GUI that allows a player to fuse their Pokemon.
  * GUI consists of a players party on the left, and a slot for a fused Pokemon on the right.
- * The player can select two Pokemon by left and right clicking, and then left click resulting Pokemon to fuse.
+ * The player selects a Pokemon by left clicking, and toggles one or more sacrifices by right clicking.
+ * Left clicking the resulting Pokemon fuses every selected sacrifice into it at once.
+ *
+ * Clicks on party slots are queued and applied together on the next tick, followed by a single redraw,
+ * so the GUI is redrawn at most once per tick no matter how fast the player clicks. Clicks made once a fusion
+ * has been started are ignored. Computing the resulting fusion counts towards the preview budget of
+ * {@link FusionAdmission}, and is put off to a later tick while the budget is used up. While the server is struggling,
+ * resulting IVs are hidden and sprites are no longer drawn, depending on the {@link LoadMode}.
  *
  * @author landonjw
  * @since 1.0.0
@@ -50,6 +63,34 @@ public class FusionGUI {
     /** If the GUI should hide resulting IVs for fusion. */
     private boolean hideResultIVs;
 
+    /** Positions in Chest UI to place each Pokemon in the player's party. */
+    private static final int[] PARTY_POSITIONS = {10, 12, 14, 28, 30, 32};
+    /** Position in Chest UI to place the resulting fusion. */
+    private static final int RESULT_POSITION = 25;
+
+    /** View shown to the player. Built the first time the GUI is opened and updated in place afterwards. */
+    private View view;
+    /** What each party slot currently displays, or null if the slot is empty. */
+    private final PartySlotModel[] partyModels = new PartySlotModel[PARTY_POSITIONS.length];
+    /** What the resulting fusion slot currently displays, or null if the slot is empty. */
+    private ResultSlotModel resultModel;
+
+    /** IVs of every party Pokemon one after another, reused each time sacrifices are checked. */
+    private final int[] partyIVs = new int[PARTY_POSITIONS.length * IVFusionKernel.NUM_IVS];
+    /** IVs the selected Pokemon would have with each party Pokemon as its only sacrifice, in the same order. */
+    private final int[] fusedPartyIVs = new int[PARTY_POSITIONS.length * IVFusionKernel.NUM_IVS];
+    /** Scratch buffer for IV indexes selected while checking sacrifices. */
+    private final int[] indexBuffer = new int[IVFusionKernel.NUM_IVS];
+
+    /** Most clicks that are queued between redraws. Any more are ignored until the GUI is redrawn. */
+    private static final int MAX_PENDING_CLICKS = 16;
+    /** Selection changes clicked since the last redraw, applied in order on the next tick. Only used on the server thread. */
+    private final List<Runnable> pendingClicks = new ArrayList<>();
+    /** If a task has been submitted to apply pending clicks. */
+    private boolean updateScheduled;
+    /** If the player has clicked the resulting fusion and it's being done. */
+    private boolean committing;
+
     /**
      * Constructor for the GUI. Creates a new Fusion object from player.
      *
@@ -59,294 +100,439 @@ public class FusionGUI {
         this.player = player;
         this.fusion = new Fusion(player);
 
-        this.hideResultIVs = ConfigManager.getConfigNode("GUI-Features", "Hide-Fusion-IVs").getBoolean();
+        this.hideResultIVs = fusion.getSettings().isHideFusionIVs();
+    }
+
+    /**
+     * Gets hit and miss statistics for the cache of rendered party items shared by all GUIs.
+     *
+     * @return Statistics for the party item cache.
+     */
+    public static CacheStats getItemCacheStats(){
+        return PartyItemCache.getStats();
+    }
+
+    /**
+     * Removes every rendered party item from the cache shared by all GUIs.
+     * Used when settings are reloaded, since items rendered with old settings are never shown again, and on shutdown.
+     */
+    public static void clearItemCache(){
+        PartyItemCache.clear();
     }
 
     /**
      * Builds the GUI and displays it to the player.
+     * If the GUI has already been built, only the slots that changed are redrawn.
      */
     public void openGUI(){
-        HashMap<Integer, Element> elements = new HashMap<>();
+        if(view != null){
+            updateGUI();
+            return;
+        }
 
-        /* -------------------------------------------------------------------
-         * Creates a bunch of items to be used just for empty space in GUI
-         * -------------------------------------------------------------------
-         */
-        ItemStack itemBlueFiller = ItemStack.of(ItemTypes.STAINED_GLASS_PANE, 1);
-        itemBlueFiller.offer(Keys.DYE_COLOR, DyeColors.BLUE);
-        itemBlueFiller.offer(Keys.DISPLAY_NAME, Text.EMPTY);
-        Element blueFiller = Element.of(itemBlueFiller);
-
-        ItemStack itemBlackFiller = ItemStack.of(ItemTypes.STAINED_GLASS_PANE, 1);
-        itemBlackFiller.offer(Keys.DYE_COLOR, DyeColors.BLACK);
-        itemBlackFiller.offer(Keys.DISPLAY_NAME, Text.EMPTY);
-        Element blackFiller = Element.of(itemBlackFiller);
-
-        ItemStack itemWhiteFiller = ItemStack.of(ItemTypes.STAINED_GLASS_PANE, 1);
-        itemWhiteFiller.offer(Keys.DYE_COLOR, DyeColors.WHITE);
-        itemWhiteFiller.offer(Keys.DISPLAY_NAME, Text.EMPTY);
-        Element whiteFiller = Element.of(itemWhiteFiller);
-
-        ItemStack itemGrayFiller = ItemStack.of(ItemTypes.STAINED_GLASS_PANE, 1);
-        itemGrayFiller.offer(Keys.DYE_COLOR, DyeColors.GRAY);
-        itemGrayFiller.offer(Keys.DISPLAY_NAME, Text.EMPTY);
-        Element grayFiller = Element.of(itemGrayFiller);
+        FusionMetrics.guiOpened();
+        FusionTrace trace = FusionTrace.start(TraceOperation.GUI);
+        long openStart = trace.begin();
+        FusionGUITemplate template = FusionGUITemplate.get(fusion.getSettings());
+        view = View.builder()
+                .archetype(InventoryArchetypes.DOUBLE_CHEST)
+                .property(template.getDimension())
+                .property(template.getTitle())
+                .build(Fusions.getContainer());
+
+        view.define(template.getLayout());
+        trace.end(TracePhase.GUI_OPEN, openStart);
+
+        updateGUI(trace);
+
+        openStart = trace.begin();
+        view.open(player);
+        trace.end(TracePhase.GUI_OPEN, openStart);
+        trace.finish();
+    }
+
+    /**
+     * Redraws the slots that changed, timing it as a GUI render.
+     */
+    private void updateGUI(){
+        FusionTrace trace = FusionTrace.start(TraceOperation.GUI);
+        updateGUI(trace);
+        trace.finish();
+    }
+
+    /**
+     * Compares what each dynamic slot should display with what it currently displays,
+     * and redraws only the slots that are different.
+     *
+     * @param trace Trace of the GUI render.
+     */
+    private void updateGUI(FusionTrace trace){
+        fusion.setTrace(trace);
 
         /* -------------------------------------------------------------------
          * Creates items for each Pokemon in player's party in an empty box
          * on the left side of fusion GUI.
          * -------------------------------------------------------------------
          */
+        long lookupStart = trace.begin();
         Pokemon[] pokemonList = Pixelmon.storageManager.getParty(player.getUniqueId()).getAll();
-        //List of positions in Chest UI to place Pokemon.
-        int[] positionArray = {10, 12, 14, 28, 30, 32};
+        trace.end(TracePhase.PARTY_LOOKUP, lookupStart);
 
-        //Iterate through all Pokemon in players party and create items
-        for(int i = 0; i < pokemonList.length; i++){
-            if(pokemonList[i] != null){
-                ItemStack itemPokemon = (ItemStack) (Object) ItemPixelmonSprite.getPhoto(pokemonList[i]);
-                itemPokemon.offer(Keys.DISPLAY_NAME, Text.of(TextColors.AQUA, TextStyles.BOLD, pokemonList[i].getSpecies().name));
+        PartySlotModel pokemonModel = null;
+        PartySlotModel[] sacrificeModels = new PartySlotModel[fusion.getSacrificeIndexes().size()];
 
-                //Generates lore for Pokemon displaying it's IVs and valuable attributes.
-                ArrayList<Text> lore = new ArrayList<>();
-                lore.add(Text.EMPTY);
+        //Finds every Pokemon that can be sacrificed to the selected Pokemon in one pass, so the rest can be marked.
+        FusionSettings settings = fusion.getSettings();
+        boolean[] sacrificeable = (fusion.getPokemon() != null)
+                ? settings.getCompatibilityIndex().findSacrifices(fusion.getPokemon(), pokemonList, settings.getSpeciesRules())
+                : null;
 
-                if(fusion.ivsEnabled()){
-                    int[] ivs = pokemonList[i].getIVs().getArray();
-                    lore.addAll(getIVLore(ivs));
-                    lore.add(Text.EMPTY);
-                }
-                if (pokemonList[i].isShiny()) {
-                    lore.add(Text.of(TextColors.AQUA, "Shiny"));
-                }
-                if (pokemonList[i].getAbilitySlot() == 2) {
-                    lore.add(Text.of(TextColors.AQUA, "Hidden Ability"));
-                }
+        //Shows how many IVs each sacrifice adds on its own, unless IVs are hidden or the server is struggling.
+        int[] ivGains = null;
+        if(sacrificeable != null && fusion.ivsEnabled() && !hideResultIVs && !TickMonitor.getMode().isAtLeast(LoadMode.HIDE_IVS)){
+            ivGains = getIVGains(fusion.getPokemon(), pokemonList, sacrificeable, settings);
+        }
 
-                int timesFused = pokemonList[i].getPersistentData().getInteger("fuseCount");
-                if(fusion.getMaxFuseCount() > 0){
-                    lore.add(Text.of(TextColors.AQUA, "Fuse Count: ", TextColors.GRAY, timesFused + "/" + fusion.getMaxFuseCount()));
+        //Iterate through all Pokemon in players party and redraw any that changed.
+        for(int i = 0; i < PARTY_POSITIONS.length; i++){
+            PartySlotModel model = null;
+            if(i < pokemonList.length && pokemonList[i] != null){
+                int sacrificePosition = fusion.getSacrificeIndexes().indexOf(i);
+                boolean blocked = sacrificeable != null && fusion.getPokemonIndex() != i && !sacrificeable[i];
+                int ivGain = (ivGains != null) ? ivGains[i] : -1;
+                model = new PartySlotModel(settings.getVersion(), pokemonList[i],
+                        fusion.getPokemonIndex() == i, sacrificePosition >= 0, blocked, ivGain);
+                if(fusion.getPokemonIndex() == i){
+                    pokemonModel = model;
                 }
-                else{
-                    lore.add(Text.of(TextColors.AQUA, "Fuse Count: : ", TextColors.GRAY, timesFused));
+                if(sacrificePosition >= 0){
+                    sacrificeModels[sacrificePosition] = model;
                 }
+            }
 
-                //Give sprite enchantment effect and lore if it's a selected Pokemon
-                if(fusion.getPokemonIndex() == i || fusion.getSacrificeIndex() == i){
-                    itemPokemon.offer(Keys.ITEM_ENCHANTMENTS, Arrays.asList(Enchantment.of(EnchantmentTypes.UNBREAKING, 1)));
-                    itemPokemon.offer(Keys.HIDE_ENCHANTMENTS, true);
-
-                    lore.add(Text.EMPTY);
-                    if(fusion.getPokemonIndex() == i){
-                        lore.add(Text.of(TextColors.GOLD, "Selected Pokemon To Fuse"));
-                    }
+            if(!Objects.equals(model, partyModels[i])){
+                long renderStart = trace.begin();
+                partyModels[i] = model;
+                view.setElement(PARTY_POSITIONS[i], (model != null) ? createPartyElement(model, pokemonList[i], i) : Element.EMPTY);
+                trace.end(TracePhase.GUI_PARTY, renderStart);
+            }
+        }
 
-                    if(fusion.getSacrificeIndex() == i){
-                        lore.add(Text.of(TextColors.GOLD, "Selected Pokemon To Sacrifice"));
-                    }
-                }
+        /* -------------------------------------------------------------------
+         * Creates item for resulting fusion. Will display error message in
+         * lore if fusion isn't allowed. Shown on right of fusion GUI.
+         * The preview is only computed again when a selected Pokemon changes.
+         * -------------------------------------------------------------------
+         */
+        ResultSlotModel model = null;
+        if(fusion.getPokemon() != null && pokemonModel != null){
+            model = new ResultSlotModel(pokemonModel, sacrificeModels, TickMonitor.getMode());
+        }
 
-                itemPokemon.offer(Keys.ITEM_LORE, lore);
-
-                //Left click selects Pokemon to be fused, right click selected Pokemon to use as sacrifice.
-                int slotIndex = i;
-                Consumer<Action.Click> consSelectPokemon = action -> {
-                    if(action.getEvent() instanceof ClickInventoryEvent.Primary){
-                        Task.builder().execute(() -> {
-                            if(fusion.getSacrificeIndex() != slotIndex && fusion.getPokemonIndex() != slotIndex){
-                                fusion.setPokemonIndex(slotIndex);
-                                openGUI();
-                            }
-                        }).submit(Fusions.getInstance());
-                    }
-                    else if(action.getEvent() instanceof ClickInventoryEvent.Secondary){
-                        Task.builder().execute(() -> {
-                            if(fusion.getSacrificeIndex() != slotIndex && fusion.getPokemonIndex() != slotIndex){
-                                fusion.setSacrificeIndex(slotIndex);
-                                openGUI();
-                            }
-                        }).submit(Fusions.getInstance());
-                    }
-                };
+        if(!Objects.equals(model, resultModel)){
+            if(model != null && !FusionAdmission.tryAcquirePreview()){
+                //Out of preview budget for this tick, so the result is left empty and drawn on a later tick.
+                resultModel = null;
+                view.setElement(RESULT_POSITION, Element.EMPTY);
+                scheduleUpdate();
+                fusion.setTrace(FusionTrace.DISABLED);
+                return;
+            }
+            resultModel = model;
+            if(model != null){
+                fusion.validateSlots();
+                long renderStart = trace.begin();
+                view.setElement(RESULT_POSITION, createResultElement(fusion.getPreview(), model.getMode()));
+                trace.end(TracePhase.GUI_RESULT, renderStart);
+            }
+            else{
+                view.setElement(RESULT_POSITION, Element.EMPTY);
+            }
+        }
 
-                Element pokemon = Element.of(itemPokemon, consSelectPokemon);
+        fusion.setTrace(FusionTrace.DISABLED);
+    }
 
-                elements.put(positionArray[i], pokemon);
+    /**
+     * Fuses every Pokemon in the party with the selected Pokemon in one batch, each as if it were the only sacrifice.
+     *
+     * @param selected      Pokemon selected to be fused.
+     * @param pokemonList   Pokemon in the player's party. May contain null entries.
+     * @param sacrificeable If each Pokemon in the party can be sacrificed to the selected Pokemon.
+     * @param settings      Settings to fuse IVs with.
+     * @return Total IVs gained by sacrificing each Pokemon on its own, or -1 for Pokemon that can't be sacrificed.
+     */
+    private int[] getIVGains(Pokemon selected, Pokemon[] pokemonList, boolean[] sacrificeable, FusionSettings settings){
+        int candidates = Math.min(pokemonList.length, PARTY_POSITIONS.length);
+        for(int i = 0; i < candidates; i++){
+            int offset = i * IVFusionKernel.NUM_IVS;
+            if(pokemonList[i] != null){
+                System.arraycopy(pokemonList[i].getIVs().getArray(), 0, partyIVs, offset, IVFusionKernel.NUM_IVS);
             }
+            else{
+                Arrays.fill(partyIVs, offset, offset + IVFusionKernel.NUM_IVS, 0);
+            }
+        }
 
-            /* -------------------------------------------------------------------
-             * Creates item for resulting fusion. Will display error message in
-             * lore if fusion isn't allowed. Shown on right of fusion GUI.
-             * -------------------------------------------------------------------
-             */
-            if(fusion.getPokemon() != null){
-                ItemStack itemPokemon = (ItemStack) (Object) ItemPixelmonSprite.getPhoto(fusion.getPokemon());
-                itemPokemon.offer(Keys.DISPLAY_NAME, Text.of(TextColors.AQUA, TextStyles.BOLD, fusion.getPokemon().getSpecies().name));
-
-                ArrayList<Text> lore = new ArrayList<>();
-                lore.add(Text.EMPTY);
+        int[] selectedIVs = selected.getIVs().getArray();
+        IVFusionKernel.fuseIVsBatch(settings, selectedIVs, partyIVs, candidates, fusedPartyIVs, indexBuffer);
 
-                Text validation = fusion.validateSlots();
+        int selectedTotal = 0;
+        for(int iv : selectedIVs){
+            selectedTotal += iv;
+        }
 
-                if(validation != null){
-                    lore.add(validation);
+        int[] gains = new int[PARTY_POSITIONS.length];
+        Arrays.fill(gains, -1);
+        for(int i = 0; i < candidates; i++){
+            if(sacrificeable[i]){
+                int fusedTotal = 0;
+                for(int k = 0; k < IVFusionKernel.NUM_IVS; k++){
+                    fusedTotal += fusedPartyIVs[i * IVFusionKernel.NUM_IVS + k];
                 }
-                else{
-                    if(fusion.ivsEnabled()){
-                        lore.addAll(getIVLore(fusion.getPokemonIVs(), fusion.getFusedIVs()));
-                        lore.add(Text.EMPTY);
-                    }
-                    if (fusion.transfersShiny()) {
-                        lore.add(Text.of(TextColors.AQUA, "Becomes Shiny"));
-                    }
-                    if (fusion.transfersHA()) {
-                        lore.add(Text.of(TextColors.AQUA, "Acquires Hidden Ability"));
-                    }
-                    if(fusion.makesUnbreedable()){
-                        lore.add(Text.of(TextColors.RED, "Becomes Unbreedable"));
-                    }
+                gains[i] = fusedTotal - selectedTotal;
+            }
+        }
+        return gains;
+    }
 
-                    int newFusionCount = fusion.getPokemon().getPersistentData().getInteger("fuseCount") + 1;
-                    if(fusion.transfersFuseCount()){
-                        newFusionCount += fusion.getSacrifice().getPersistentData().getInteger("fuseCount");
-                    }
+    /**
+     * Creates the element displaying a Pokemon in the player's party.
+     * The item is reused from the party item cache if the same model has been displayed before.
+     *
+     * @param model     Model of the slot.
+     * @param pokemon   Pokemon to display.
+     * @param slotIndex Index of the Pokemon in the player's party.
+     * @return Element displaying the Pokemon.
+     */
+    private Element createPartyElement(PartySlotModel model, Pokemon pokemon, int slotIndex){
+        ItemStack itemPokemon;
+        if(TickMonitor.getMode().isAtLeast(LoadMode.STATIC_SPRITES)){
+            //While the server is struggling only cached sprites are shown. Items drawn without a sprite aren't cached.
+            itemPokemon = PartyItemCache.getIfPresent(model);
+            if(itemPokemon == null){
+                itemPokemon = createPartyItem(model, pokemon, slotIndex, false);
+            }
+        }
+        else{
+            itemPokemon = PartyItemCache.get(model, () -> createPartyItem(model, pokemon, slotIndex, true));
+        }
 
-                    if(fusion.getMaxFuseCount() > 0){
-                        lore.add(Text.of(TextColors.AQUA, "Fuse Count: ", TextColors.GRAY, newFusionCount + "/" + fusion.getMaxFuseCount()));
+        //Left click selects Pokemon to be fused, right click adds or removes Pokemon as a sacrifice.
+        Consumer<Action.Click> consSelectPokemon = action -> {
+            FusionMetrics.guiClicked();
+            if(action.getEvent() instanceof ClickInventoryEvent.Primary){
+                queueClick(() -> {
+                    if(!fusion.isSacrificeIndex(slotIndex) && fusion.getPokemonIndex() != slotIndex){
+                        fusion.setPokemonIndex(slotIndex);
                     }
-                    else{
-                        lore.add(Text.of(TextColors.AQUA, "Fuse Count: ", TextColors.GRAY, newFusionCount));
+                });
+            }
+            else if(action.getEvent() instanceof ClickInventoryEvent.Secondary){
+                queueClick(() -> {
+                    if(fusion.isSacrificeIndex(slotIndex)){
+                        fusion.removeSacrificeIndex(slotIndex);
                     }
-
-                    if(fusion.costEnabled()){
-                        double cost = fusion.getCost();
-                        lore.add(Text.EMPTY);
-                        lore.add(Text.of(TextColors.DARK_AQUA, "Cost: ", TextColors.AQUA, new BigDecimal(cost).toPlainString()));
+                    else if(fusion.getPokemonIndex() != slotIndex){
+                        fusion.addSacrificeIndex(slotIndex);
                     }
-                }
-                itemPokemon.offer(Keys.ITEM_LORE, lore);
-
-                Consumer<Action.Click> consStartFusion = action -> {
-                    Task.builder().execute(() -> {
-                        if(fusion.validateSlots() == null){
-                            fusion.startFusion();
-                            player.closeInventory();
-                        }
-                    }).submit(Fusions.getInstance());
-                };
-
-                Element fusion = Element.of(itemPokemon, consStartFusion);
-                elements.put(25, fusion);
+                });
             }
-        }
+        };
 
-        Layout layout = Layout.builder()
-                .dimension(InventoryDimension.of(9, 5))
-                .row(blueFiller, 0)
-                .set(blueFiller, 9, 15, 16, 17)
-                .set(blackFiller, 18, 24, 26)
-                .set(whiteFiller, 27, 33, 34, 35)
-                .row(whiteFiller, 4)
-                .setAll(elements).build();
+        return Element.of(itemPokemon, consSelectPokemon);
+    }
 
-        View view = View.builder()
-                .archetype(InventoryArchetypes.DOUBLE_CHEST)
-                .property(InventoryDimension.of(9, 5))
-                .property(InventoryTitle.of(Text.of(TextColors.DARK_AQUA, TextStyles.BOLD, "Fusions")))
-                .build(Fusions.getContainer());
+    /**
+     * Queues a selection change from a click, submitting a task to apply every queued change if there isn't one already.
+     * Clicks made while a fusion is being done, or once too many are queued, are ignored.
+     *
+     * @param click Changes the selection of the fusion.
+     */
+    private void queueClick(Runnable click){
+        if(committing || Fusion.isFusionInProgress(player.getUniqueId()) || pendingClicks.size() >= MAX_PENDING_CLICKS){
+            return;
+        }
+        pendingClicks.add(click);
+        scheduleUpdate();
+    }
 
-        view.define(layout);
-        view.open(player);
+    /**
+     * Submits a task to apply queued clicks and redraw the GUI on the next tick, if there isn't one already.
+     */
+    private void scheduleUpdate(){
+        if(!updateScheduled){
+            updateScheduled = true;
+            Task.builder().execute(this::applyClicks).submit(Fusions.getInstance());
+        }
+    }
+
+    /**
+     * Applies every queued selection change in the order they were clicked, then redraws the GUI once.
+     */
+    private void applyClicks(){
+        updateScheduled = false;
+        for(Runnable click : pendingClicks){
+            click.run();
+        }
+        pendingClicks.clear();
+        updateGUI();
     }
 
     /**
-     * Creates a list of Text that displays a Pokemon's IVs.
-     * Used for lore on Pokemon slots.
+     * Renders the item displaying a Pokemon in the player's party, including it's sprite and lore.
      *
-     * @param ivs IVs of Pokemon to generate lore for.
-     * @return List of Text that displays a Pokemon's IVs.
+     * @param model     Model of the slot.
+     * @param pokemon   Pokemon to display.
+     * @param slotIndex Index of the Pokemon in the player's party.
+     * @param sprite    If the Pokemon's sprite should be drawn.
+     * @return Item displaying the Pokemon.
      */
-    private List<Text> getIVLore(int[] ivs){
-        ArrayList<Text> ivLore = new ArrayList<>();
-
-        for(int k = 0; k < ivs.length; k++){
-            String type = "";
-            switch (k) {
-                case 0:
-                    type = "HP";
-                    break;
-                case 1:
-                    type = "Attack";
-                    break;
-                case 2:
-                    type = "Defense";
-                    break;
-                case 3:
-                    type = "Special Attack";
-                    break;
-                case 4:
-                    type = "Special Defense";
-                    break;
-                case 5:
-                    type = "Speed";
-                    break;
+    private ItemStack createPartyItem(PartySlotModel model, Pokemon pokemon, int slotIndex, boolean sprite){
+        ItemStack itemPokemon = createIcon(pokemon, sprite);
+        itemPokemon.offer(Keys.DISPLAY_NAME, Text.of(TextColors.AQUA, TextStyles.BOLD, pokemon.getSpecies().name));
+
+        //Generates lore for Pokemon displaying it's IVs and valuable attributes.
+        ArrayList<Text> lore = new ArrayList<>();
+        lore.add(Text.EMPTY);
+
+        if(fusion.ivsEnabled()){
+            int[] ivs = pokemon.getIVs().getArray();
+            lore.addAll(FusionLore.getIVLore(ivs));
+            lore.add(Text.EMPTY);
+        }
+        if (pokemon.isShiny()) {
+            lore.add(Text.of(TextColors.AQUA, "Shiny"));
+        }
+        if (pokemon.getAbilitySlot() == 2) {
+            lore.add(Text.of(TextColors.AQUA, "Hidden Ability"));
+        }
+
+        //Uses this Pokemon's own species limit, since the item is shared between GUIs through the item cache.
+        int timesFused = pokemon.getPersistentData().getInteger("fuseCount");
+        int maxFuseCount = fusion.getSettings().getMaxFuseCount(pokemon.getSpecies());
+        if(maxFuseCount > 0){
+            lore.add(Text.of(TextColors.AQUA, "Fuse Count: ", TextColors.GRAY, timesFused + "/" + maxFuseCount));
+        }
+        else{
+            lore.add(Text.of(TextColors.AQUA, "Fuse Count: : ", TextColors.GRAY, timesFused));
+        }
+
+        //Give sprite enchantment effect and lore if it's a selected Pokemon
+        if(fusion.getPokemonIndex() == slotIndex || fusion.isSacrificeIndex(slotIndex)){
+            itemPokemon.offer(Keys.ITEM_ENCHANTMENTS, Arrays.asList(Enchantment.of(EnchantmentTypes.UNBREAKING, 1)));
+            itemPokemon.offer(Keys.HIDE_ENCHANTMENTS, true);
+
+            lore.add(Text.EMPTY);
+            if(fusion.getPokemonIndex() == slotIndex){
+                lore.add(Text.of(TextColors.GOLD, "Selected Pokemon To Fuse"));
+            }
+
+            if(fusion.isSacrificeIndex(slotIndex)){
+                lore.add(Text.of(TextColors.GOLD, "Selected Pokemon To Sacrifice"));
             }
+        }
+        else if(model.isBlocked()){
+            //Mark Pokemon that can't be sacrificed to the selected Pokemon, so the player doesn't have to try each one.
+            lore.add(Text.EMPTY);
+            lore.add(Text.of(TextColors.GRAY, "Can Not Be Sacrificed To Selected Pokemon"));
+        }
 
-            ivLore.add(Text.of(TextColors.DARK_AQUA, type + ": ", TextColors.GRAY, ivs[k]));
+        if(model.getIVGain() >= 0){
+            lore.add(Text.of(TextColors.AQUA, "IVs Gained As Only Sacrifice: ", TextColors.GRAY, "+" + model.getIVGain()));
         }
-        return ivLore;
+
+        itemPokemon.offer(Keys.ITEM_LORE, lore);
+        return itemPokemon;
     }
 
     /**
-     * Creates a list of Text that displays a Pokemon's IVs and it's resulting Fusions IVs.
-     * Used for lore on resulting fusion slot.
+     * Creates the element displaying the resulting fusion.
      *
-     * @param pokemonIVs IVs of a Pokemon before fusion.
-     * @param fuseIVs    IVs of a Pokemon after fusion.
-     * @return list of Text that displays a Pokemon's IVs and it's resulting Fusions IVs.
+     * @param preview Preview of the fusion to display.
+     * @param mode    Load mode to display the result in.
+     * @return Element displaying the resulting fusion.
      */
-    private List<Text> getIVLore(int[] pokemonIVs, int[] fuseIVs) {
-        ArrayList<Text> ivLore = new ArrayList<>();
-
-        for (int i = 0; i < fuseIVs.length; i++) {
-            String type = "";
-            switch (i) {
-                case 0:
-                    type = "HP";
-                    break;
-                case 1:
-                    type = "Attack";
-                    break;
-                case 2:
-                    type = "Defense";
-                    break;
-                case 3:
-                    type = "Special Attack";
-                    break;
-                case 4:
-                    type = "Special Defense";
-                    break;
-                case 5:
-                    type = "Speed";
-                    break;
+    private Element createResultElement(FusionPreview preview, LoadMode mode){
+        ItemStack itemPokemon = createIcon(fusion.getPokemon(), !mode.isAtLeast(LoadMode.STATIC_SPRITES));
+        itemPokemon.offer(Keys.DISPLAY_NAME, Text.of(TextColors.AQUA, TextStyles.BOLD, fusion.getPokemon().getSpecies().name));
+
+        ArrayList<Text> lore = new ArrayList<>();
+        lore.add(Text.EMPTY);
+
+        if(!preview.isValid()){
+            lore.add(preview.getFailure());
+        }
+        else{
+            if(fusion.ivsEnabled()){
+                lore.addAll(FusionLore.getIVLore(preview.getOriginalIVs(), preview.getFusedIVs(),
+                        hideResultIVs || mode.isAtLeast(LoadMode.HIDE_IVS)));
+                lore.add(Text.EMPTY);
+            }
+            if (preview.isShinyTransferred()) {
+                lore.add(Text.of(TextColors.AQUA, "Becomes Shiny"));
+            }
+            if (preview.isHATransferred()) {
+                lore.add(Text.of(TextColors.AQUA, "Acquires Hidden Ability"));
             }
+            if(preview.isMadeUnbreedable()){
+                lore.add(Text.of(TextColors.RED, "Becomes Unbreedable"));
+            }
+            for(Text effect : preview.getEffects()){
+                lore.add(Text.of(TextColors.AQUA, effect));
+            }
+
+            int newFusionCount = preview.getFuseCount();
+            int maxFuseCount = fusion.getSettings().getMaxFuseCount(fusion.getPokemon().getSpecies());
 
-            if(hideResultIVs){
-                ivLore.add(Text.of(TextColors.DARK_AQUA, type + ": ", TextColors.GRAY, pokemonIVs[i],
-                        TextColors.DARK_AQUA, " > ", TextColors.GRAY, "?"));
+            if(maxFuseCount > 0){
+                lore.add(Text.of(TextColors.AQUA, "Fuse Count: ", TextColors.GRAY, newFusionCount + "/" + maxFuseCount));
             }
             else{
-                //Only shows the (+) at the end if the IV changed.
-                if(fuseIVs[i] - pokemonIVs[i] > 0) {
-                    ivLore.add(Text.of(TextColors.DARK_AQUA, type + ": ", TextColors.GRAY, pokemonIVs[i],
-                            TextColors.DARK_AQUA, " > ", TextColors.GRAY, fuseIVs[i], TextColors.AQUA, " (+" + (fuseIVs[i] - pokemonIVs[i]) + ")"));
+                lore.add(Text.of(TextColors.AQUA, "Fuse Count: ", TextColors.GRAY, newFusionCount));
+            }
+
+            if(fusion.costEnabled()){
+                double cost = preview.getCost();
+                lore.add(Text.EMPTY);
+                lore.add(Text.of(TextColors.DARK_AQUA, "Cost: ", TextColors.AQUA, new BigDecimal(cost).toPlainString()));
+            }
+        }
+        itemPokemon.offer(Keys.ITEM_LORE, lore);
+
+        Consumer<Action.Click> consStartFusion = action -> {
+            FusionMetrics.guiClicked();
+            //The preview shown is out of date while selection changes are queued, so it can't be fused yet.
+            if(committing || !pendingClicks.isEmpty()){
+                return;
+            }
+            committing = true;
+            Task.builder().execute(() -> {
+                //Starting the fusion checks that it still does what this preview shows before applying it.
+                if(fusion.getPreview() == preview && preview.isValid()){
+                    fusion.startFusion();
+                    player.closeInventory();
                 }
                 else{
-                    ivLore.add(Text.of(TextColors.DARK_AQUA, type + ": ", TextColors.GRAY, pokemonIVs[i],
-                            TextColors.DARK_AQUA, " > ", TextColors.GRAY, fuseIVs[i], TextColors.AQUA));
+                    committing = false;
                 }
-            }
+            }).submit(Fusions.getInstance());
+        };
+
+        return Element.of(itemPokemon, consStartFusion);
+    }
+
+    /**
+     * Creates the item a Pokemon is drawn on.
+     *
+     * @param pokemon Pokemon to draw.
+     * @param sprite  If the Pokemon's sprite should be drawn, or a plain item used instead.
+     * @return Item to draw the Pokemon on.
+     */
+    private static ItemStack createIcon(Pokemon pokemon, boolean sprite){
+        if(sprite){
+            return (ItemStack) (Object) ItemPixelmonSprite.getPhoto(pokemon);
         }
-        return ivLore;
+        return ItemStack.of(ItemTypes.PAPER, 1);
     }
 }
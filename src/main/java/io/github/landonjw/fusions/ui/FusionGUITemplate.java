@@ -0,0 +1,115 @@
+package io.github.landonjw.fusions.ui;
+
+import com.mcsimonflash.sponge.teslalibs.inventory.Element;
+import com.mcsimonflash.sponge.teslalibs.inventory.Layout;
+import io.github.landonjw.fusions.configuration.FusionSettings;
+import org.spongepowered.api.data.key.Keys;
+import org.spongepowered.api.data.type.DyeColor;
+import org.spongepowered.api.data.type.DyeColors;
+import org.spongepowered.api.item.ItemTypes;
+import org.spongepowered.api.item.inventory.ItemStack;
+import org.spongepowered.api.item.inventory.property.InventoryDimension;
+import org.spongepowered.api.item.inventory.property.InventoryTitle;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.format.TextColors;
+import org.spongepowered.api.text.format.TextStyles;
+
+/**
+ * Static frame of the fusion GUI that is identical for every player, such as the filler panes.
+ * It is built once per settings version and shared by every GUI, which only overlay their party and result slots on it.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+class FusionGUITemplate {
+
+    /** Template for the most recently used settings. */
+    private static volatile FusionGUITemplate current;
+
+    /** Version of the settings this template was built for. */
+    private final long settingsVersion;
+    /** Size of the GUI. */
+    private final InventoryDimension dimension;
+    /** Title of the GUI. */
+    private final InventoryTitle title;
+    /** Layout containing the static frame of the GUI. */
+    private final Layout layout;
+
+    private FusionGUITemplate(long settingsVersion){
+        this.settingsVersion = settingsVersion;
+        this.dimension = InventoryDimension.of(9, 5);
+        this.title = InventoryTitle.of(Text.of(TextColors.DARK_AQUA, TextStyles.BOLD, "Fusions"));
+
+        /* -------------------------------------------------------------------
+         * Creates a bunch of items to be used just for empty space in GUI
+         * -------------------------------------------------------------------
+         */
+        Element blueFiller = createFiller(DyeColors.BLUE);
+        Element blackFiller = createFiller(DyeColors.BLACK);
+        Element whiteFiller = createFiller(DyeColors.WHITE);
+
+        this.layout = Layout.builder()
+                .dimension(dimension)
+                .row(blueFiller, 0)
+                .set(blueFiller, 9, 15, 16, 17)
+                .set(blackFiller, 18, 24, 26)
+                .set(whiteFiller, 27, 33, 34, 35)
+                .row(whiteFiller, 4)
+                .build();
+    }
+
+    /**
+     * Gets the template for a snapshot of settings, building it if the cached template is for different settings.
+     *
+     * @param settings Settings the GUI was opened with.
+     * @return Template for the settings.
+     */
+    static FusionGUITemplate get(FusionSettings settings){
+        FusionGUITemplate template = current;
+        if(template == null || template.settingsVersion != settings.getVersion()){
+            template = new FusionGUITemplate(settings.getVersion());
+            current = template;
+        }
+        return template;
+    }
+
+    /**
+     * Gets the size of the GUI.
+     *
+     * @return Size of the GUI.
+     */
+    InventoryDimension getDimension(){
+        return dimension;
+    }
+
+    /**
+     * Gets the title of the GUI.
+     *
+     * @return Title of the GUI.
+     */
+    InventoryTitle getTitle(){
+        return title;
+    }
+
+    /**
+     * Gets the layout containing the static frame of the GUI.
+     *
+     * @return Layout containing the static frame of the GUI.
+     */
+    Layout getLayout(){
+        return layout;
+    }
+
+    /**
+     * Creates an element of stained glass with no name, used for empty space in the GUI.
+     *
+     * @param color Color of the stained glass.
+     * @return Filler element.
+     */
+    private static Element createFiller(DyeColor color){
+        ItemStack itemFiller = ItemStack.of(ItemTypes.STAINED_GLASS_PANE, 1);
+        itemFiller.offer(Keys.DYE_COLOR, color);
+        itemFiller.offer(Keys.DISPLAY_NAME, Text.EMPTY);
+        return Element.of(itemFiller);
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.landonjw.fusions.ui;
+
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.format.TextColors;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates lore displayed on items in the fusion GUI.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+public final class FusionLore {
+
+    /** Display names of each IV, in the same order as a Pokemon's IV array. */
+    private static final String[] STAT_NAMES = {"HP", "Attack", "Defense", "Special Attack", "Special Defense", "Speed"};
+
+    private FusionLore(){
+    }
+
+    /**
+     * Creates a list of Text that displays a Pokemon's IVs.
+     * Used for lore on Pokemon slots.
+     *
+     * @param ivs IVs of Pokemon to generate lore for.
+     * @return List of Text that displays a Pokemon's IVs.
+     */
+    public static List<Text> getIVLore(int[] ivs){
+        ArrayList<Text> ivLore = new ArrayList<>(ivs.length);
+
+        for(int k = 0; k < ivs.length; k++){
+            ivLore.add(Text.of(TextColors.DARK_AQUA, STAT_NAMES[k] + ": ", TextColors.GRAY, ivs[k]));
+        }
+        return ivLore;
+    }
+
+    /**
+     * Creates a list of Text that displays a Pokemon's IVs and it's resulting Fusions IVs.
+     * Used for lore on resulting fusion slot.
+     *
+     * @param pokemonIVs IVs of a Pokemon before fusion.
+     * @param fuseIVs    IVs of a Pokemon after fusion.
+     * @param hideResult If resulting IVs should be hidden until the fusion is started.
+     * @return list of Text that displays a Pokemon's IVs and it's resulting Fusions IVs.
+     */
+    public static List<Text> getIVLore(int[] pokemonIVs, int[] fuseIVs, boolean hideResult){
+        ArrayList<Text> ivLore = new ArrayList<>(fuseIVs.length);
+
+        for (int i = 0; i < fuseIVs.length; i++) {
+            String type = STAT_NAMES[i];
+
+            if(hideResult){
+                ivLore.add(Text.of(TextColors.DARK_AQUA, type + ": ", TextColors.GRAY, pokemonIVs[i],
+                        TextColors.DARK_AQUA, " > ", TextColors.GRAY, "?"));
+            }
+            else{
+                //Only shows the (+) at the end if the IV changed.
+                if(fuseIVs[i] - pokemonIVs[i] > 0) {
+                    ivLore.add(Text.of(TextColors.DARK_AQUA, type + ": ", TextColors.GRAY, pokemonIVs[i],
+                            TextColors.DARK_AQUA, " > ", TextColors.GRAY, fuseIVs[i], TextColors.AQUA, " (+" + (fuseIVs[i] - pokemonIVs[i]) + ")"));
+                }
+                else{
+                    ivLore.add(Text.of(TextColors.DARK_AQUA, type + ": ", TextColors.GRAY, pokemonIVs[i],
+                            TextColors.DARK_AQUA, " > ", TextColors.GRAY, fuseIVs[i], TextColors.AQUA));
+                }
+            }
+        }
+        return ivLore;
+    }
+}
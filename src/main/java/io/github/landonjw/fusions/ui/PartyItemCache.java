@@ -0,0 +1,75 @@
+package io.github.landonjw.fusions.ui;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import org.spongepowered.api.item.inventory.ItemStack;
+import org.spongepowered.api.item.inventory.ItemStackSnapshot;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of rendered party items, shared between every fusion GUI.
+ * Items are keyed by the model of the slot they display, so an item is only reused while the Pokemon,
+ * its state and its selection are exactly the same as when it was rendered.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+class PartyItemCache {
+
+    /** Maximum number of items kept in the cache. */
+    private static final int MAXIMUM_SIZE = 2048;
+    /** How long an item is kept in the cache after it was last used, in minutes. */
+    private static final int EXPIRE_MINUTES = 10;
+
+    private static final Cache<PartySlotModel, ItemStackSnapshot> cache = CacheBuilder.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterAccess(EXPIRE_MINUTES, TimeUnit.MINUTES)
+            .recordStats()
+            .build();
+
+    /**
+     * Gets a copy of the item for a slot model, rendering it if it isn't cached.
+     *
+     * @param model  Model of the slot to get item for.
+     * @param render Renders the item if it isn't cached.
+     * @return New item stack displaying the slot model.
+     */
+    static ItemStack get(PartySlotModel model, Supplier<ItemStack> render){
+        ItemStackSnapshot snapshot = cache.getIfPresent(model);
+        if(snapshot == null){
+            snapshot = render.get().createSnapshot();
+            cache.put(model, snapshot);
+        }
+        return snapshot.createStack();
+    }
+
+    /**
+     * Gets a copy of the item for a slot model, only if it's already cached.
+     *
+     * @param model Model of the slot to get item for.
+     * @return New item stack displaying the slot model, or null if it isn't cached.
+     */
+    static ItemStack getIfPresent(PartySlotModel model){
+        ItemStackSnapshot snapshot = cache.getIfPresent(model);
+        return (snapshot != null) ? snapshot.createStack() : null;
+    }
+
+    /**
+     * Gets hit and miss statistics for the cache.
+     *
+     * @return Statistics for the cache.
+     */
+    static CacheStats getStats(){
+        return cache.stats();
+    }
+
+    /**
+     * Removes every item from the cache.
+     */
+    static void clear(){
+        cache.invalidateAll();
+    }
+}
@@ -0,0 +1,136 @@
+package io.github.landonjw.fusions.ui;
+
+import com.pixelmonmod.pixelmon.api.pokemon.Pokemon;
+import com.pixelmonmod.pixelmon.enums.EnumGrowth;
+import com.pixelmonmod.pixelmon.enums.EnumSpecies;
+import io.github.landonjw.fusions.api.FusionPreview;
+
+import java.util.UUID;
+
+/**
+ * Everything that determines how a Pokemon is displayed in a slot of the fusion GUI.
+ * Two equal models always display the same item, so a slot only needs to be redrawn when its model changes.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+class PartySlotModel {
+
+    /** Version of the settings used to display the Pokemon. */
+    private final long settingsVersion;
+    /** UUID of the Pokemon. */
+    private final UUID uuid;
+    /** Species of the Pokemon. */
+    private final EnumSpecies species;
+    /** Form of the Pokemon. */
+    private final int form;
+    /** IVs of the Pokemon, packed 5 bits per stat. */
+    private final int packedIVs;
+    /** If the Pokemon is shiny. */
+    private final boolean shiny;
+    /** Ability slot of the Pokemon. */
+    private final int abilitySlot;
+    /** How many times the Pokemon has been fused. */
+    private final int fuseCount;
+    /** Growth of the Pokemon. */
+    private final EnumGrowth growth;
+    /** If the Pokemon is unbreedable. */
+    private final boolean unbreedable;
+    /** If the Pokemon is selected to be fused. */
+    private final boolean selectedPokemon;
+    /** If the Pokemon is selected to be sacrificed. */
+    private final boolean selectedSacrifice;
+    /** If the Pokemon can not be sacrificed to the selected Pokemon. */
+    private final boolean blocked;
+    /** Total IVs the selected Pokemon gains with this Pokemon as its only sacrifice, or -1 if it isn't shown. */
+    private final int ivGain;
+
+    /**
+     * Creates a model of a Pokemon's current state.
+     *
+     * @param settingsVersion   Version of the settings used to display the Pokemon.
+     * @param pokemon           Pokemon to create model of.
+     * @param selectedPokemon   If the Pokemon is selected to be fused.
+     * @param selectedSacrifice If the Pokemon is selected to be sacrificed.
+     * @param blocked           If the Pokemon can not be sacrificed to the selected Pokemon.
+     * @param ivGain            Total IVs the selected Pokemon gains with this Pokemon as its only sacrifice, or -1 to not show it.
+     */
+    PartySlotModel(long settingsVersion, Pokemon pokemon, boolean selectedPokemon, boolean selectedSacrifice, boolean blocked, int ivGain){
+        this.settingsVersion = settingsVersion;
+        this.uuid = pokemon.getUUID();
+        this.species = pokemon.getSpecies();
+        this.form = pokemon.getForm();
+        this.packedIVs = packIVs(pokemon.getIVs().getArray());
+        this.shiny = pokemon.isShiny();
+        this.abilitySlot = pokemon.getAbilitySlot();
+        this.fuseCount = pokemon.getPersistentData().getInteger("fuseCount");
+        this.growth = pokemon.getGrowth();
+        this.unbreedable = FusionPreview.isUnbreedable(pokemon);
+        this.selectedPokemon = selectedPokemon;
+        this.selectedSacrifice = selectedSacrifice;
+        this.blocked = blocked;
+        this.ivGain = ivGain;
+    }
+
+    /**
+     * Packs IVs into a single integer, 5 bits per stat.
+     *
+     * @param ivs IVs to pack, each between 0 and 31.
+     * @return Packed IVs.
+     */
+    static int packIVs(int[] ivs){
+        int packed = 0;
+        for(int i = 0; i < ivs.length; i++){
+            packed |= (ivs[i] & 31) << (i * 5);
+        }
+        return packed;
+    }
+
+    boolean isBlocked(){
+        return blocked;
+    }
+
+    int getIVGain(){
+        return ivGain;
+    }
+
+    @Override
+    public boolean equals(Object obj){
+        if(this == obj){
+            return true;
+        }
+        if(!(obj instanceof PartySlotModel)){
+            return false;
+        }
+        PartySlotModel other = (PartySlotModel) obj;
+        return packedIVs == other.packedIVs
+                && fuseCount == other.fuseCount
+                && abilitySlot == other.abilitySlot
+                && shiny == other.shiny
+                && unbreedable == other.unbreedable
+                && growth == other.growth
+                && selectedPokemon == other.selectedPokemon
+                && selectedSacrifice == other.selectedSacrifice
+                && blocked == other.blocked
+                && ivGain == other.ivGain
+                && form == other.form
+                && settingsVersion == other.settingsVersion
+                && species == other.species
+                && uuid.equals(other.uuid);
+    }
+
+    @Override
+    public int hashCode(){
+        int hash = uuid.hashCode();
+        hash = 31 * hash + packedIVs;
+        hash = 31 * hash + fuseCount;
+        hash = 31 * hash + abilitySlot;
+        hash = 31 * hash + form;
+        hash = 31 * hash + ivGain;
+        hash = 31 * hash + Long.hashCode(settingsVersion);
+        hash = 31 * hash + ((growth != null) ? growth.ordinal() : -1);
+        hash = 31 * hash + (shiny ? 1 : 0) + (unbreedable ? 8 : 0);
+        hash = 31 * hash + (selectedPokemon ? 2 : 0) + (selectedSacrifice ? 4 : 0) + (blocked ? 16 : 0);
+        return hash;
+    }
+}
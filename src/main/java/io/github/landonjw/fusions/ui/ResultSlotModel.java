@@ -0,0 +1,52 @@
+package io.github.landonjw.fusions.ui;
+
+import io.github.landonjw.fusions.admission.LoadMode;
+
+import java.util.Arrays;
+
+/**
+ * Everything that determines how the resulting fusion is displayed in the fusion GUI.
+ * Two equal models always display the same item, so the slot only needs to be redrawn, and the fusion
+ * only needs to be previewed again, when its model changes.
+ *
+ * @author landonjw
+ * @since 1.1.0
+ */
+class ResultSlotModel {
+
+    /** Model of the Pokemon to do fusion on. */
+    private final PartySlotModel pokemon;
+    /** Models of the Pokemon to sacrifice, in the order they are fused. Entries are null for empty slots. */
+    private final PartySlotModel[] sacrifices;
+    /** Load mode the result is displayed in, since it decides if IVs and sprites are shown. */
+    private final LoadMode mode;
+
+    ResultSlotModel(PartySlotModel pokemon, PartySlotModel[] sacrifices, LoadMode mode){
+        this.pokemon = pokemon;
+        this.sacrifices = sacrifices;
+        this.mode = mode;
+    }
+
+    LoadMode getMode(){
+        return mode;
+    }
+
+    @Override
+    public boolean equals(Object obj){
+        if(this == obj){
+            return true;
+        }
+        if(!(obj instanceof ResultSlotModel)){
+            return false;
+        }
+        ResultSlotModel other = (ResultSlotModel) obj;
+        return mode == other.mode
+                && pokemon.equals(other.pokemon)
+                && Arrays.equals(sacrifices, other.sacrifices);
+    }
+
+    @Override
+    public int hashCode(){
+        return 31 * (31 * pokemon.hashCode() + Arrays.hashCode(sacrifices)) + mode.ordinal();
+    }
+}